@@ -0,0 +1,114 @@
+package io.nem.symbol.catapult.builders;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.lang.invoke.MethodHandle;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decode and encode throughput of every builder of the test/vector corpus.
+ * Each invocation processes the next payload of the builder, cycling through all of them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BuilderBenchmark {
+
+    @Param({"AccountAddressRestrictionTransactionBuilder", "AccountKeyLinkTransactionBuilder",
+        "AccountMetadataTransactionBuilder", "AccountMosaicRestrictionTransactionBuilder",
+        "AccountOperationRestrictionTransactionBuilder", "AccountRestrictionsBuilder",
+        "AddressAliasTransactionBuilder", "AggregateBondedTransactionBuilder", "AggregateCompleteTransactionBuilder",
+        "AmountDto", "FinalizedBlockHeaderBuilder", "Hash256Dto", "HashLockTransactionBuilder", "KeyDto",
+        "MetadataEntryBuilder", "MosaicAddressRestrictionTransactionBuilder", "MosaicAliasTransactionBuilder",
+        "MosaicDefinitionBuilder", "MosaicDefinitionTransactionBuilder", "MosaicGlobalRestrictionTransactionBuilder",
+        "MosaicMetadataTransactionBuilder", "MosaicSupplyChangeTransactionBuilder",
+        "MultisigAccountModificationTransactionBuilder", "NamespaceMetadataTransactionBuilder",
+        "NamespaceRegistrationTransactionBuilder", "NodeKeyLinkTransactionBuilder", "SecretLockTransactionBuilder",
+        "SecretProofTransactionBuilder", "TimestampDto", "TransferTransactionBuilder", "UnresolvedAddressDto",
+        "VotingKeyLinkTransactionBuilder", "VrfKeyLinkTransactionBuilder"})
+    public String builder;
+
+    private byte[][] payloads;
+
+    private ByteBuffer[] buffers;
+
+    private Serializer[] builders;
+
+    private MethodHandle streamFactory;
+
+    private MethodHandle bufferFactory;
+
+    private ByteBuffer output;
+
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() throws Throwable {
+        List<byte[]> list = BenchmarkVectors.loadPayloads(this.builder);
+        this.payloads = list.toArray(new byte[0][]);
+        this.buffers = new ByteBuffer[this.payloads.length];
+        this.builders = new Serializer[this.payloads.length];
+        this.streamFactory = BenchmarkVectors.getLoadFromBinary(this.builder, DataInputStream.class);
+        this.bufferFactory = BenchmarkVectors.getLoadFromBinary(this.builder, ByteBuffer.class);
+        int maxSize = 0;
+        for (int i = 0; i < this.payloads.length; i++) {
+            this.buffers[i] = GeneratorUtils.wrap(this.payloads[i]);
+            this.builders[i] = (Serializer) this.bufferFactory.invokeExact(GeneratorUtils.wrap(this.payloads[i]));
+            maxSize = Math.max(maxSize, this.builders[i].getSize());
+        }
+        this.output = GeneratorUtils.allocate(maxSize);
+    }
+
+    private int next() {
+        final int current = this.index;
+        this.index = current + 1 == this.payloads.length ? 0 : current + 1;
+        return current;
+    }
+
+    @Benchmark
+    public Serializer loadFromBinaryStream() throws Throwable {
+        return (Serializer) this.streamFactory.invokeExact(
+            new DataInputStream(new ByteArrayInputStream(this.payloads[next()])));
+    }
+
+    @Benchmark
+    public Serializer loadFromBinaryBuffer() throws Throwable {
+        final ByteBuffer buffer = this.buffers[next()];
+        buffer.rewind();
+        return (Serializer) this.bufferFactory.invokeExact(buffer);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return this.builders[next()].serialize();
+    }
+
+    @Benchmark
+    public ByteBuffer serializeTo() {
+        this.output.clear();
+        this.builders[next()].serializeTo(this.output);
+        return this.output;
+    }
+
+    @Benchmark
+    public int getSize() {
+        return this.builders[next()].getSize();
+    }
+}
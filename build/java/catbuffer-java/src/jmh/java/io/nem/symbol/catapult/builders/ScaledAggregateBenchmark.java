@@ -0,0 +1,165 @@
+package io.nem.symbol.catapult.builders;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Synthetic aggregate bonded transactions with a growing number of transfer inner transactions.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScaledAggregateBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    public int transactionCount;
+
+    private AggregateBondedTransactionBuilder aggregate;
+
+    private AggregateBondedTransactionBuilder cachedAggregate;
+
+    private byte[] payload;
+
+    private ByteBuffer buffer;
+
+    private ByteBuffer output;
+
+    private final DecodeContext decodeContext = DecodeContext.createInterning(1024).enableListPooling();
+
+    private final TransactionView transactionView = new TransactionView();
+
+    private final AggregateTransactionBodyView bodyView = new AggregateTransactionBodyView();
+
+    private final EmbeddedTransactionView embeddedView = new EmbeddedTransactionView();
+
+    private ByteBuffer transactionsBuffer;
+
+    private final EntityBatchDecoder<EmbeddedTransactionBuilder> batchDecoder = EntityBatchDecoder
+        .forEmbeddedTransactions(8).withEntitiesPerTask(64);
+
+    private final EntityBatchDecoder<EmbeddedTransactionBuilder> sequentialDecoder = EntityBatchDecoder
+        .forEmbeddedTransactions(8).withExecutor(Runnable::run).withEntitiesPerTask(Integer.MAX_VALUE);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.aggregate = BenchmarkVectors.createAggregate(this.transactionCount);
+        this.cachedAggregate = BenchmarkVectors.createAggregate(this.transactionCount).enableCache();
+        this.payload = this.aggregate.serialize();
+        this.buffer = GeneratorUtils.wrap(this.payload);
+        this.output = GeneratorUtils.allocate(this.payload.length);
+        wrapBody();
+        this.transactionsBuffer = GeneratorUtils.wrap(Arrays.copyOfRange(this.payload,
+            this.bodyView.getTransactionsOffset(), this.bodyView.getCosignaturesOffset()));
+    }
+
+    private AggregateTransactionBodyView wrapBody() {
+        this.transactionView.wrap(this.buffer, 0);
+        return this.bodyView.wrap(this.buffer, this.transactionView.getBodyOffset(), this.transactionView.getBodySize());
+    }
+
+    @Benchmark
+    public TransactionBuilder loadFromBinaryStream() {
+        return TransactionBuilderHelper.loadFromBinary(new DataInputStream(new ByteArrayInputStream(this.payload)));
+    }
+
+    @Benchmark
+    public TransactionBuilder loadFromBinaryBuffer() {
+        this.buffer.rewind();
+        return TransactionBuilderHelper.loadFromBinary(this.buffer);
+    }
+
+    @Benchmark
+    public TransactionBuilder loadFromBinaryDecodeContext() {
+        this.decodeContext.reset();
+        this.buffer.rewind();
+        return TransactionBuilderHelper.loadFromBinary(this.buffer, this.decodeContext);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return this.aggregate.serialize();
+    }
+
+    @Benchmark
+    public ByteBuffer serializeTo() {
+        this.output.clear();
+        this.aggregate.serializeTo(this.output);
+        return this.output;
+    }
+
+    @Benchmark
+    public int getSize() {
+        return this.aggregate.getSize();
+    }
+
+    @Benchmark
+    public byte[] serializeCached() {
+        return this.cachedAggregate.serialize();
+    }
+
+    @Benchmark
+    public Hash256Dto transactionsHash() {
+        return MerkleHashBuilder.calculateTransactionsHash(this.cachedAggregate.getTransactions());
+    }
+
+    @Benchmark
+    public void streamTransactions(Blackhole blackhole) {
+        wrapBody()
+            .streamTransactions(false).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void parallelStreamTransactions(Blackhole blackhole) {
+        wrapBody()
+            .streamTransactions(true).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public int viewScanTransactions() {
+        wrapBody();
+        final int end = this.bodyView.getCosignaturesOffset();
+        int transfers = 0;
+        int offset = this.bodyView.getTransactionsOffset();
+        while (offset < end) {
+            this.embeddedView.wrap(this.buffer, offset);
+            if (this.embeddedView.getType() == EntityTypeDto.TRANSFER_TRANSACTION) {
+                transfers++;
+            }
+            final int size = this.embeddedView.getStreamSize();
+            offset += size + GeneratorUtils.getPadding(size, 8);
+        }
+        return transfers;
+    }
+
+    @Benchmark
+    public List<EmbeddedTransactionBuilder> batchDecodeTransactions() {
+        this.transactionsBuffer.rewind();
+        return this.batchDecoder.decode(this.transactionsBuffer);
+    }
+
+    @Benchmark
+    public List<EmbeddedTransactionBuilder> sequentialDecodeTransactions() {
+        this.transactionsBuffer.rewind();
+        return this.sequentialDecoder.decode(this.transactionsBuffer);
+    }
+}
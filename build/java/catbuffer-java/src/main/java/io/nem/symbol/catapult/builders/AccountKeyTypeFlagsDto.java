@@ -22,6 +22,7 @@
 package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
+import java.nio.ByteBuffer;
 
 /**
 * Enumeration of account key type flags
@@ -60,12 +61,18 @@ public enum AccountKeyTypeFlagsDto implements BitMaskable, Serializer {
      * @return Enum value.
      */
     public static AccountKeyTypeFlagsDto rawValueOf(final byte value) {
-        for (AccountKeyTypeFlagsDto current : AccountKeyTypeFlagsDto.values()) {
-            if (value == current.value) {
-                return current;
-            }
+        switch (value) {
+            case (byte) 0:
+                return UNSET;
+            case (byte) 1:
+                return LINKED;
+            case (byte) 2:
+                return NODE;
+            case (byte) 4:
+                return VRF;
+            default:
+                throw new IllegalArgumentException(value + " was not a backing value for AccountKeyTypeFlagsDto.");
         }
-        throw new IllegalArgumentException(value + " was not a backing value for AccountKeyTypeFlagsDto.");
     }
 
     /**
@@ -109,15 +116,45 @@ public enum AccountKeyTypeFlagsDto implements BitMaskable, Serializer {
         }
     }
 
+    /**
+     * Creates an instance of AccountKeyTypeFlagsDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of AccountKeyTypeFlagsDto.
+     */
+    public static AccountKeyTypeFlagsDto loadFromBinary(final ByteBuffer buffer) {
+        return rawValueOf(buffer.get());
+    }
+
+    /**
+     * Creates an instance of AccountKeyTypeFlagsDto from a little-endian buffer with a decode context.
+     * Enum constants are shared, so the context is not used.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of AccountKeyTypeFlagsDto.
+     */
+    public static AccountKeyTypeFlagsDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return loadFromBinary(buffer);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.writeByte(this.value);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        buffer.put(this.value);
     }
 }
 
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -43,6 +44,18 @@ public class AccountOperationRestrictionTransactionBodyBuilder implements Serial
     /** Account restriction deletions. **/
     private final List<EntityTypeDto> restrictionDeletions;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -68,7 +81,45 @@ public class AccountOperationRestrictionTransactionBodyBuilder implements Serial
      * @return Instance of AccountOperationRestrictionTransactionBodyBuilder.
      */
     public static AccountOperationRestrictionTransactionBodyBuilder loadFromBinary(DataInputStream stream) {
-        return new AccountOperationRestrictionTransactionBodyBuilder(stream);
+        return GeneratorUtils.decode(AccountOperationRestrictionTransactionBodyBuilder.class, stream, AccountOperationRestrictionTransactionBodyBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected AccountOperationRestrictionTransactionBodyBuilder(ByteBuffer buffer, DecodeContext context) {
+        this.restrictionFlags = GeneratorUtils.toSet(AccountRestrictionFlagsDto.class, buffer.getShort());
+        final byte restrictionAdditionsCount = buffer.get();
+        final byte restrictionDeletionsCount = buffer.get();
+        this.accountRestrictionTransactionBody_Reserved1 = buffer.getInt();
+        this.restrictionAdditions = GeneratorUtils.loadFromBinaryArray(EntityTypeDto::loadFromBinary, buffer, context, restrictionAdditionsCount, 0);
+        this.restrictionDeletions = GeneratorUtils.loadFromBinaryArray(EntityTypeDto::loadFromBinary, buffer, context, restrictionDeletionsCount, 0);
+    }
+
+    /**
+     * Creates an instance of AccountOperationRestrictionTransactionBodyBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of AccountOperationRestrictionTransactionBodyBuilder.
+     */
+    public static AccountOperationRestrictionTransactionBodyBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of AccountOperationRestrictionTransactionBodyBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of AccountOperationRestrictionTransactionBodyBuilder.
+     */
+    public static AccountOperationRestrictionTransactionBodyBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(AccountOperationRestrictionTransactionBodyBuilder.class, buffer, context, AccountOperationRestrictionTransactionBodyBuilder::new);
     }
     
     /**
@@ -137,12 +188,37 @@ public class AccountOperationRestrictionTransactionBodyBuilder implements Serial
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public AccountOperationRestrictionTransactionBodyBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        this.sizeCacheEnabled = true;
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = 0;
         size += AccountRestrictionFlagsDto.values()[0].getSize();
         size += 1; // restrictionAdditionsCount
@@ -150,6 +226,9 @@ public class AccountOperationRestrictionTransactionBodyBuilder implements Serial
         size += 4; // accountRestrictionTransactionBody_Reserved1
         size +=  GeneratorUtils.getSumSize(this.restrictionAdditions, 0);
         size +=  GeneratorUtils.getSumSize(this.restrictionDeletions, 0);
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -161,14 +240,35 @@ public class AccountOperationRestrictionTransactionBodyBuilder implements Serial
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            dataOutputStream.writeShort(Short.reverseBytes((short) GeneratorUtils.toLong(AccountRestrictionFlagsDto.class, this.restrictionFlags)));
-            dataOutputStream.writeByte((byte) GeneratorUtils.getSize(this.getRestrictionAdditions()));
-            dataOutputStream.writeByte((byte) GeneratorUtils.getSize(this.getRestrictionDeletions()));
-            dataOutputStream.writeInt(Integer.reverseBytes((int) this.getAccountRestrictionTransactionBody_Reserved1()));
-            GeneratorUtils.writeList(dataOutputStream, this.restrictionAdditions, 0);
-            GeneratorUtils.writeList(dataOutputStream, this.restrictionDeletions, 0);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        buffer.putShort((short) GeneratorUtils.toLong(AccountRestrictionFlagsDto.class, this.restrictionFlags));
+        buffer.put((byte) GeneratorUtils.getSize(this.getRestrictionAdditions()));
+        buffer.put((byte) GeneratorUtils.getSize(this.getRestrictionDeletions()));
+        buffer.putInt((int) this.getAccountRestrictionTransactionBody_Reserved1());
+        GeneratorUtils.writeList(buffer, this.restrictionAdditions, 0);
+        GeneratorUtils.writeList(buffer, this.restrictionDeletions, 0);
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
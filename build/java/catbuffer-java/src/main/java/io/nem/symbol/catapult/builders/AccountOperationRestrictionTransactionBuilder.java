@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -34,6 +35,18 @@ public class AccountOperationRestrictionTransactionBuilder extends TransactionBu
     /** Account operation restriction transaction body. **/
     private final AccountOperationRestrictionTransactionBodyBuilder accountOperationRestrictionTransactionBody;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -50,12 +63,87 @@ public class AccountOperationRestrictionTransactionBuilder extends TransactionBu
 
     /**
      * Creates an instance of AccountOperationRestrictionTransactionBuilder from a stream.
+     * The stream is read up to the end of the object given by its size.
      *
      * @param stream Byte stream to use to serialize the object.
      * @return Instance of AccountOperationRestrictionTransactionBuilder.
      */
     public static AccountOperationRestrictionTransactionBuilder loadFromBinary(DataInputStream stream) {
-        return new AccountOperationRestrictionTransactionBuilder(stream);
+        return GeneratorUtils.decodeSizePrefixed(AccountOperationRestrictionTransactionBuilder.class, stream, AccountOperationRestrictionTransactionBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected AccountOperationRestrictionTransactionBuilder(ByteBuffer buffer, DecodeContext context) {
+        super(buffer, context);
+        this.accountOperationRestrictionTransactionBody = AccountOperationRestrictionTransactionBodyBuilder.loadFromBinary(buffer, context);
+    }
+
+    /**
+     * Creates an instance of AccountOperationRestrictionTransactionBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     * The object is decoded within the bytes covered by its size.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of AccountOperationRestrictionTransactionBuilder.
+     */
+    public static AccountOperationRestrictionTransactionBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of AccountOperationRestrictionTransactionBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     * The object is decoded within the bytes covered by its size.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of AccountOperationRestrictionTransactionBuilder.
+     */
+    public static AccountOperationRestrictionTransactionBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decodeSizePrefixed(AccountOperationRestrictionTransactionBuilder.class, buffer, context, true,
+            AccountOperationRestrictionTransactionBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from an already parsed header and body.
+     *
+     * @param header Parsed header.
+     * @param body Parsed body.
+     */
+    protected AccountOperationRestrictionTransactionBuilder(TransactionBuilder header, AccountOperationRestrictionTransactionBodyBuilder body) {
+        super(header);
+        this.accountOperationRestrictionTransactionBody = body;
+    }
+
+    /**
+     * Creates an instance of AccountOperationRestrictionTransactionBuilder from an already parsed header and a
+     * little-endian buffer positioned at the body. The buffer position is advanced past the body.
+     *
+     * @param header Parsed header.
+     * @param buffer Buffer to read the body from.
+     * @return Instance of AccountOperationRestrictionTransactionBuilder.
+     */
+    public static AccountOperationRestrictionTransactionBuilder loadFromBinary(TransactionBuilder header, ByteBuffer buffer) {
+        return loadFromBinary(header, buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of AccountOperationRestrictionTransactionBuilder from an already parsed header and a
+     * little-endian buffer positioned at the body, with a decode context. The buffer position is advanced past the body.
+     *
+     * @param header Parsed header.
+     * @param buffer Buffer to read the body from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of AccountOperationRestrictionTransactionBuilder.
+     */
+    public static AccountOperationRestrictionTransactionBuilder loadFromBinary(TransactionBuilder header, ByteBuffer buffer,
+        DecodeContext context) {
+        return new AccountOperationRestrictionTransactionBuilder(header, AccountOperationRestrictionTransactionBodyBuilder.loadFromBinary(buffer, context));
     }
     
     /**
@@ -134,14 +222,44 @@ public class AccountOperationRestrictionTransactionBuilder extends TransactionBu
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public AccountOperationRestrictionTransactionBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        super.enableSizeCache();
+        this.sizeCacheEnabled = true;
+        this.accountOperationRestrictionTransactionBody.enableSizeCache();
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = super.getSize();
         size += this.accountOperationRestrictionTransactionBody.getSize();
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -162,11 +280,31 @@ public class AccountOperationRestrictionTransactionBuilder extends TransactionBu
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            final byte[] superBytes = super.serialize();
-            dataOutputStream.write(superBytes, 0, superBytes.length);
-            GeneratorUtils.writeEntity(dataOutputStream, this.accountOperationRestrictionTransactionBody);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        super.serializeTo(buffer);
+        GeneratorUtils.writeEntity(buffer, this.accountOperationRestrictionTransactionBody);
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
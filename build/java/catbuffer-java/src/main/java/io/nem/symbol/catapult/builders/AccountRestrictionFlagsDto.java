@@ -22,6 +22,7 @@
 package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
+import java.nio.ByteBuffer;
 
 /**
 * Enumeration of account restriction flags
@@ -63,12 +64,20 @@ public enum AccountRestrictionFlagsDto implements BitMaskable, Serializer {
      * @return Enum value.
      */
     public static AccountRestrictionFlagsDto rawValueOf(final short value) {
-        for (AccountRestrictionFlagsDto current : AccountRestrictionFlagsDto.values()) {
-            if (value == current.value) {
-                return current;
-            }
+        switch (value) {
+            case (short) 1:
+                return ADDRESS;
+            case (short) 2:
+                return MOSAIC_ID;
+            case (short) 4:
+                return TRANSACTION_TYPE;
+            case (short) 16384:
+                return OUTGOING;
+            case (short) 32768:
+                return BLOCK;
+            default:
+                throw new IllegalArgumentException(value + " was not a backing value for AccountRestrictionFlagsDto.");
         }
-        throw new IllegalArgumentException(value + " was not a backing value for AccountRestrictionFlagsDto.");
     }
 
     /**
@@ -112,15 +121,45 @@ public enum AccountRestrictionFlagsDto implements BitMaskable, Serializer {
         }
     }
 
+    /**
+     * Creates an instance of AccountRestrictionFlagsDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of AccountRestrictionFlagsDto.
+     */
+    public static AccountRestrictionFlagsDto loadFromBinary(final ByteBuffer buffer) {
+        return rawValueOf(GeneratorUtils.readShort(buffer));
+    }
+
+    /**
+     * Creates an instance of AccountRestrictionFlagsDto from a little-endian buffer with a decode context.
+     * Enum constants are shared, so the context is not used.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of AccountRestrictionFlagsDto.
+     */
+    public static AccountRestrictionFlagsDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return loadFromBinary(buffer);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.writeShort(Short.reverseBytes(this.value));
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        GeneratorUtils.writeShort(buffer, this.value);
     }
 }
 
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -34,6 +35,18 @@ public class AccountRestrictionMosaicValueBuilder implements Serializer {
     /** Restriction values. **/
     private final List<MosaicIdDto> restrictionValues;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -55,7 +68,41 @@ public class AccountRestrictionMosaicValueBuilder implements Serializer {
      * @return Instance of AccountRestrictionMosaicValueBuilder.
      */
     public static AccountRestrictionMosaicValueBuilder loadFromBinary(DataInputStream stream) {
-        return new AccountRestrictionMosaicValueBuilder(stream);
+        return GeneratorUtils.decode(AccountRestrictionMosaicValueBuilder.class, stream, AccountRestrictionMosaicValueBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected AccountRestrictionMosaicValueBuilder(ByteBuffer buffer, DecodeContext context) {
+        final long restrictionValuesCount = buffer.getLong();
+        this.restrictionValues = GeneratorUtils.loadFromBinaryArray(MosaicIdDto::loadFromBinary, buffer, context, restrictionValuesCount, 0);
+    }
+
+    /**
+     * Creates an instance of AccountRestrictionMosaicValueBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of AccountRestrictionMosaicValueBuilder.
+     */
+    public static AccountRestrictionMosaicValueBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of AccountRestrictionMosaicValueBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of AccountRestrictionMosaicValueBuilder.
+     */
+    public static AccountRestrictionMosaicValueBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(AccountRestrictionMosaicValueBuilder.class, buffer, context, AccountRestrictionMosaicValueBuilder::new);
     }
     
     /**
@@ -88,15 +135,43 @@ public class AccountRestrictionMosaicValueBuilder implements Serializer {
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public AccountRestrictionMosaicValueBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        this.sizeCacheEnabled = true;
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = 0;
         size += 8; // restrictionValuesCount
         size +=  GeneratorUtils.getSumSize(this.restrictionValues, 0);
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -108,10 +183,31 @@ public class AccountRestrictionMosaicValueBuilder implements Serializer {
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            dataOutputStream.writeLong(Long.reverseBytes((long) GeneratorUtils.getSize(this.getRestrictionValues())));
-            GeneratorUtils.writeList(dataOutputStream, this.restrictionValues, 0);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        buffer.putLong((long) GeneratorUtils.getSize(this.getRestrictionValues()));
+        GeneratorUtils.writeList(buffer, this.restrictionValues, 0);
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -37,6 +38,18 @@ public class AccountRestrictionsBuilder extends StateHeaderBuilder implements Se
     /** Account restrictions. **/
     private final List<AccountRestrictionsInfoBuilder> restrictions;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -60,7 +73,43 @@ public class AccountRestrictionsBuilder extends StateHeaderBuilder implements Se
      * @return Instance of AccountRestrictionsBuilder.
      */
     public static AccountRestrictionsBuilder loadFromBinary(DataInputStream stream) {
-        return new AccountRestrictionsBuilder(stream);
+        return GeneratorUtils.decode(AccountRestrictionsBuilder.class, stream, AccountRestrictionsBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected AccountRestrictionsBuilder(ByteBuffer buffer, DecodeContext context) {
+        super(buffer, context);
+        this.address = AddressDto.loadFromBinary(buffer, context);
+        final long restrictionsCount = buffer.getLong();
+        this.restrictions = GeneratorUtils.loadFromBinaryArray(AccountRestrictionsInfoBuilder::loadFromBinary, buffer, context, restrictionsCount, 0);
+    }
+
+    /**
+     * Creates an instance of AccountRestrictionsBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of AccountRestrictionsBuilder.
+     */
+    public static AccountRestrictionsBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of AccountRestrictionsBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of AccountRestrictionsBuilder.
+     */
+    public static AccountRestrictionsBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(AccountRestrictionsBuilder.class, buffer, context, AccountRestrictionsBuilder::new);
     }
     
     /**
@@ -110,16 +159,46 @@ public class AccountRestrictionsBuilder extends StateHeaderBuilder implements Se
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public AccountRestrictionsBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        super.enableSizeCache();
+        this.sizeCacheEnabled = true;
+        this.restrictions.forEach(AccountRestrictionsInfoBuilder::enableSizeCache);
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = super.getSize();
         size += this.address.getSize();
         size += 8; // restrictionsCount
         size +=  GeneratorUtils.getSumSize(this.restrictions, 0);
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -131,13 +210,33 @@ public class AccountRestrictionsBuilder extends StateHeaderBuilder implements Se
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            final byte[] superBytes = super.serialize();
-            dataOutputStream.write(superBytes, 0, superBytes.length);
-            GeneratorUtils.writeEntity(dataOutputStream, this.address);
-            dataOutputStream.writeLong(Long.reverseBytes((long) GeneratorUtils.getSize(this.getRestrictions())));
-            GeneratorUtils.writeList(dataOutputStream, this.restrictions, 0);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        super.serializeTo(buffer);
+        GeneratorUtils.writeEntity(buffer, this.address);
+        buffer.putLong((long) GeneratorUtils.getSize(this.getRestrictions()));
+        GeneratorUtils.writeList(buffer, this.restrictions, 0);
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -43,6 +44,18 @@ public class AccountRestrictionsInfoBuilder implements Serializer {
     /** Transaction type restrictions. **/
     private AccountRestrictionTransactionTypeValueBuilder transactionTypeRestrictions;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -72,7 +85,49 @@ public class AccountRestrictionsInfoBuilder implements Serializer {
      * @return Instance of AccountRestrictionsInfoBuilder.
      */
     public static AccountRestrictionsInfoBuilder loadFromBinary(DataInputStream stream) {
-        return new AccountRestrictionsInfoBuilder(stream);
+        return GeneratorUtils.decode(AccountRestrictionsInfoBuilder.class, stream, AccountRestrictionsInfoBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected AccountRestrictionsInfoBuilder(ByteBuffer buffer, DecodeContext context) {
+        this.restrictionFlags = GeneratorUtils.toSet(AccountRestrictionFlagsDto.class, buffer.getShort());
+        if (this.restrictionFlags.contains(AccountRestrictionFlagsDto.ADDRESS)) {
+            this.addressRestrictions = AccountRestrictionAddressValueBuilder.loadFromBinary(buffer, context);
+        }
+        if (this.restrictionFlags.contains(AccountRestrictionFlagsDto.MOSAIC_ID)) {
+            this.mosaicIdRestrictions = AccountRestrictionMosaicValueBuilder.loadFromBinary(buffer, context);
+        }
+        if (this.restrictionFlags.contains(AccountRestrictionFlagsDto.TRANSACTION_TYPE)) {
+            this.transactionTypeRestrictions = AccountRestrictionTransactionTypeValueBuilder.loadFromBinary(buffer, context);
+        }
+    }
+
+    /**
+     * Creates an instance of AccountRestrictionsInfoBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of AccountRestrictionsInfoBuilder.
+     */
+    public static AccountRestrictionsInfoBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of AccountRestrictionsInfoBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of AccountRestrictionsInfoBuilder.
+     */
+    public static AccountRestrictionsInfoBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(AccountRestrictionsInfoBuilder.class, buffer, context, AccountRestrictionsInfoBuilder::new);
     }
     
     /**
@@ -159,12 +214,46 @@ public class AccountRestrictionsInfoBuilder implements Serializer {
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public AccountRestrictionsInfoBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        this.sizeCacheEnabled = true;
+        if (this.addressRestrictions != null) {
+            this.addressRestrictions.enableSizeCache();
+        }
+        if (this.mosaicIdRestrictions != null) {
+            this.mosaicIdRestrictions.enableSizeCache();
+        }
+        if (this.transactionTypeRestrictions != null) {
+            this.transactionTypeRestrictions.enableSizeCache();
+        }
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = 0;
         size += AccountRestrictionFlagsDto.values()[0].getSize();
         if (this.restrictionFlags.contains(AccountRestrictionFlagsDto.ADDRESS)) {
@@ -176,6 +265,9 @@ public class AccountRestrictionsInfoBuilder implements Serializer {
         if (this.restrictionFlags.contains(AccountRestrictionFlagsDto.TRANSACTION_TYPE)) {
             size += this.transactionTypeRestrictions.getSize();
         }
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -187,18 +279,39 @@ public class AccountRestrictionsInfoBuilder implements Serializer {
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            dataOutputStream.writeShort(Short.reverseBytes((short) GeneratorUtils.toLong(AccountRestrictionFlagsDto.class, this.restrictionFlags)));
-            if (this.restrictionFlags.contains(AccountRestrictionFlagsDto.ADDRESS)) {
-                GeneratorUtils.writeEntity(dataOutputStream, this.addressRestrictions);
-            }
-            if (this.restrictionFlags.contains(AccountRestrictionFlagsDto.MOSAIC_ID)) {
-                GeneratorUtils.writeEntity(dataOutputStream, this.mosaicIdRestrictions);
-            }
-            if (this.restrictionFlags.contains(AccountRestrictionFlagsDto.TRANSACTION_TYPE)) {
-                GeneratorUtils.writeEntity(dataOutputStream, this.transactionTypeRestrictions);
-            }
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        buffer.putShort((short) GeneratorUtils.toLong(AccountRestrictionFlagsDto.class, this.restrictionFlags));
+        if (this.restrictionFlags.contains(AccountRestrictionFlagsDto.ADDRESS)) {
+            GeneratorUtils.writeEntity(buffer, this.addressRestrictions);
+        }
+        if (this.restrictionFlags.contains(AccountRestrictionFlagsDto.MOSAIC_ID)) {
+            GeneratorUtils.writeEntity(buffer, this.mosaicIdRestrictions);
+        }
+        if (this.restrictionFlags.contains(AccountRestrictionFlagsDto.TRANSACTION_TYPE)) {
+            GeneratorUtils.writeEntity(buffer, this.transactionTypeRestrictions);
+        }
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
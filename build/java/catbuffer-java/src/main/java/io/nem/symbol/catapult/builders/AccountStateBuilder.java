@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -73,6 +74,18 @@ public class AccountStateBuilder extends StateHeaderBuilder implements Serialize
     /** Balances of account. **/
     private final List<MosaicBuilder> balances;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -119,7 +132,66 @@ public class AccountStateBuilder extends StateHeaderBuilder implements Serialize
      * @return Instance of AccountStateBuilder.
      */
     public static AccountStateBuilder loadFromBinary(DataInputStream stream) {
-        return new AccountStateBuilder(stream);
+        return GeneratorUtils.decode(AccountStateBuilder.class, stream, AccountStateBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected AccountStateBuilder(ByteBuffer buffer, DecodeContext context) {
+        super(buffer, context);
+        this.address = AddressDto.loadFromBinary(buffer, context);
+        this.addressHeight = HeightDto.loadFromBinary(buffer, context);
+        this.publicKey = KeyDto.loadFromBinary(buffer, context);
+        this.publicKeyHeight = HeightDto.loadFromBinary(buffer, context);
+        this.accountType = AccountTypeDto.loadFromBinary(buffer, context);
+        this.format = AccountStateFormatDto.loadFromBinary(buffer, context);
+        this.supplementalPublicKeysMask = GeneratorUtils.toSet(AccountKeyTypeFlagsDto.class, buffer.get());
+        final byte votingPublicKeysCount = buffer.get();
+        if (this.supplementalPublicKeysMask.contains(AccountKeyTypeFlagsDto.LINKED)) {
+            this.linkedPublicKey = KeyDto.loadFromBinary(buffer, context);
+        }
+        if (this.supplementalPublicKeysMask.contains(AccountKeyTypeFlagsDto.NODE)) {
+            this.nodePublicKey = KeyDto.loadFromBinary(buffer, context);
+        }
+        if (this.supplementalPublicKeysMask.contains(AccountKeyTypeFlagsDto.VRF)) {
+            this.vrfPublicKey = KeyDto.loadFromBinary(buffer, context);
+        }
+        this.votingPublicKeys = GeneratorUtils.loadFromBinaryArray(PinnedVotingKeyBuilder::loadFromBinary, buffer, context, votingPublicKeysCount, 0);
+        if (this.format == AccountStateFormatDto.HIGH_VALUE) {
+            this.importanceSnapshots = ImportanceSnapshotBuilder.loadFromBinary(buffer, context);
+        }
+        if (this.format == AccountStateFormatDto.HIGH_VALUE) {
+            this.activityBuckets = HeightActivityBucketsBuilder.loadFromBinary(buffer, context);
+        }
+        final short balancesCount = buffer.getShort();
+        this.balances = GeneratorUtils.loadFromBinaryArray(MosaicBuilder::loadFromBinary, buffer, context, balancesCount, 0);
+    }
+
+    /**
+     * Creates an instance of AccountStateBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of AccountStateBuilder.
+     */
+    public static AccountStateBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of AccountStateBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of AccountStateBuilder.
+     */
+    public static AccountStateBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(AccountStateBuilder.class, buffer, context, AccountStateBuilder::new);
     }
     
     /**
@@ -372,12 +444,46 @@ public class AccountStateBuilder extends StateHeaderBuilder implements Serialize
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public AccountStateBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        super.enableSizeCache();
+        this.sizeCacheEnabled = true;
+        this.votingPublicKeys.forEach(PinnedVotingKeyBuilder::enableSizeCache);
+        if (this.importanceSnapshots != null) {
+            this.importanceSnapshots.enableSizeCache();
+        }
+        if (this.activityBuckets != null) {
+            this.activityBuckets.enableSizeCache();
+        }
+        this.balances.forEach(MosaicBuilder::enableSizeCache);
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = super.getSize();
         size += this.address.getSize();
         size += this.addressHeight.getSize();
@@ -405,6 +511,9 @@ public class AccountStateBuilder extends StateHeaderBuilder implements Serialize
         }
         size += 2; // balancesCount
         size +=  GeneratorUtils.getSumSize(this.balances, 0);
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -416,36 +525,56 @@ public class AccountStateBuilder extends StateHeaderBuilder implements Serialize
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            final byte[] superBytes = super.serialize();
-            dataOutputStream.write(superBytes, 0, superBytes.length);
-            GeneratorUtils.writeEntity(dataOutputStream, this.address);
-            GeneratorUtils.writeEntity(dataOutputStream, this.addressHeight);
-            GeneratorUtils.writeEntity(dataOutputStream, this.publicKey);
-            GeneratorUtils.writeEntity(dataOutputStream, this.publicKeyHeight);
-            GeneratorUtils.writeEntity(dataOutputStream, this.accountType);
-            GeneratorUtils.writeEntity(dataOutputStream, this.format);
-            dataOutputStream.writeByte((byte) GeneratorUtils.toLong(AccountKeyTypeFlagsDto.class, this.supplementalPublicKeysMask));
-            dataOutputStream.writeByte((byte) GeneratorUtils.getSize(this.getVotingPublicKeys()));
-            if (this.supplementalPublicKeysMask.contains(AccountKeyTypeFlagsDto.LINKED)) {
-                GeneratorUtils.writeEntity(dataOutputStream, this.linkedPublicKey);
-            }
-            if (this.supplementalPublicKeysMask.contains(AccountKeyTypeFlagsDto.NODE)) {
-                GeneratorUtils.writeEntity(dataOutputStream, this.nodePublicKey);
-            }
-            if (this.supplementalPublicKeysMask.contains(AccountKeyTypeFlagsDto.VRF)) {
-                GeneratorUtils.writeEntity(dataOutputStream, this.vrfPublicKey);
-            }
-            GeneratorUtils.writeList(dataOutputStream, this.votingPublicKeys, 0);
-            if (this.format == AccountStateFormatDto.HIGH_VALUE) {
-                GeneratorUtils.writeEntity(dataOutputStream, this.importanceSnapshots);
-            }
-            if (this.format == AccountStateFormatDto.HIGH_VALUE) {
-                GeneratorUtils.writeEntity(dataOutputStream, this.activityBuckets);
-            }
-            dataOutputStream.writeShort(Short.reverseBytes((short) GeneratorUtils.getSize(this.getBalances())));
-            GeneratorUtils.writeList(dataOutputStream, this.balances, 0);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        super.serializeTo(buffer);
+        GeneratorUtils.writeEntity(buffer, this.address);
+        GeneratorUtils.writeEntity(buffer, this.addressHeight);
+        GeneratorUtils.writeEntity(buffer, this.publicKey);
+        GeneratorUtils.writeEntity(buffer, this.publicKeyHeight);
+        GeneratorUtils.writeEntity(buffer, this.accountType);
+        GeneratorUtils.writeEntity(buffer, this.format);
+        buffer.put((byte) GeneratorUtils.toLong(AccountKeyTypeFlagsDto.class, this.supplementalPublicKeysMask));
+        buffer.put((byte) GeneratorUtils.getSize(this.getVotingPublicKeys()));
+        if (this.supplementalPublicKeysMask.contains(AccountKeyTypeFlagsDto.LINKED)) {
+            GeneratorUtils.writeEntity(buffer, this.linkedPublicKey);
+        }
+        if (this.supplementalPublicKeysMask.contains(AccountKeyTypeFlagsDto.NODE)) {
+            GeneratorUtils.writeEntity(buffer, this.nodePublicKey);
+        }
+        if (this.supplementalPublicKeysMask.contains(AccountKeyTypeFlagsDto.VRF)) {
+            GeneratorUtils.writeEntity(buffer, this.vrfPublicKey);
+        }
+        GeneratorUtils.writeList(buffer, this.votingPublicKeys, 0);
+        if (this.format == AccountStateFormatDto.HIGH_VALUE) {
+            GeneratorUtils.writeEntity(buffer, this.importanceSnapshots);
+        }
+        if (this.format == AccountStateFormatDto.HIGH_VALUE) {
+            GeneratorUtils.writeEntity(buffer, this.activityBuckets);
+        }
+        buffer.putShort((short) GeneratorUtils.getSize(this.getBalances()));
+        GeneratorUtils.writeList(buffer, this.balances, 0);
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
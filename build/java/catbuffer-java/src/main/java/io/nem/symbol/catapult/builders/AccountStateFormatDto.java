@@ -22,6 +22,7 @@
 package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
+import java.nio.ByteBuffer;
 
 /**
 * Enumeration of account state formats
@@ -54,12 +55,14 @@ public enum AccountStateFormatDto implements Serializer {
      * @return Enum value.
      */
     public static AccountStateFormatDto rawValueOf(final byte value) {
-        for (AccountStateFormatDto current : AccountStateFormatDto.values()) {
-            if (value == current.value) {
-                return current;
-            }
+        switch (value) {
+            case (byte) 0:
+                return REGULAR;
+            case (byte) 1:
+                return HIGH_VALUE;
+            default:
+                throw new IllegalArgumentException(value + " was not a backing value for AccountStateFormatDto.");
         }
-        throw new IllegalArgumentException(value + " was not a backing value for AccountStateFormatDto.");
     }
 
     /**
@@ -94,15 +97,45 @@ public enum AccountStateFormatDto implements Serializer {
         }
     }
 
+    /**
+     * Creates an instance of AccountStateFormatDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of AccountStateFormatDto.
+     */
+    public static AccountStateFormatDto loadFromBinary(final ByteBuffer buffer) {
+        return rawValueOf(buffer.get());
+    }
+
+    /**
+     * Creates an instance of AccountStateFormatDto from a little-endian buffer with a decode context.
+     * Enum constants are shared, so the context is not used.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of AccountStateFormatDto.
+     */
+    public static AccountStateFormatDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return loadFromBinary(buffer);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.writeByte(this.value);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        buffer.put(this.value);
     }
 }
 
@@ -79,15 +79,46 @@ public final class AddressDto implements Serializer {
         return new AddressDto(stream);
     }
 
+    /**
+     * Creates an instance of AddressDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of AddressDto.
+     */
+    public static AddressDto loadFromBinary(final ByteBuffer buffer) {
+        return new AddressDto(GeneratorUtils.readByteBuffer(buffer, 24));
+    }
+
+    /**
+     * Creates an instance of AddressDto from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns AddressDto.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of AddressDto.
+     */
+    public static AddressDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return context.intern(AddressDto.class, buffer, 24, AddressDto::new);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.write(this.address.array(), 0, this.address.array().length);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        buffer.put(this.address.array());
     }
 }
 
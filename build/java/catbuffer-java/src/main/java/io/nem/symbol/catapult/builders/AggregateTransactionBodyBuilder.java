@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -43,6 +44,18 @@ public class AggregateTransactionBodyBuilder implements Serializer {
     /** Cosignatures data (fills remaining body space after transactions). **/
     private final List<CosignatureBuilder> cosignatures;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -67,7 +80,44 @@ public class AggregateTransactionBodyBuilder implements Serializer {
      * @return Instance of AggregateTransactionBodyBuilder.
      */
     public static AggregateTransactionBodyBuilder loadFromBinary(DataInputStream stream) {
-        return new AggregateTransactionBodyBuilder(stream);
+        return GeneratorUtils.decode(AggregateTransactionBodyBuilder.class, stream, AggregateTransactionBodyBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected AggregateTransactionBodyBuilder(ByteBuffer buffer, DecodeContext context) {
+        this.transactionsHash = Hash256Dto.loadFromBinary(buffer, context);
+        final int payloadSize = buffer.getInt();
+        this.aggregateTransactionHeader_Reserved1 = buffer.getInt();
+        this.transactions = GeneratorUtils.loadFromBinaryArrayRemaining(EmbeddedTransactionBuilderHelper::loadFromBinary, buffer, context, payloadSize, 8);
+        this.cosignatures = GeneratorUtils.loadFromBinaryArrayRemaining(CosignatureBuilder::loadFromBinary, buffer, context, 0);
+    }
+
+    /**
+     * Creates an instance of AggregateTransactionBodyBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of AggregateTransactionBodyBuilder.
+     */
+    public static AggregateTransactionBodyBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of AggregateTransactionBodyBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of AggregateTransactionBodyBuilder.
+     */
+    public static AggregateTransactionBodyBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(AggregateTransactionBodyBuilder.class, buffer, context, AggregateTransactionBodyBuilder::new);
     }
     
     /**
@@ -136,18 +186,48 @@ public class AggregateTransactionBodyBuilder implements Serializer {
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public AggregateTransactionBodyBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        this.sizeCacheEnabled = true;
+        this.transactions.forEach(EmbeddedTransactionBuilder::enableCache);
+        this.cosignatures.forEach(CosignatureBuilder::enableSizeCache);
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = 0;
         size += this.transactionsHash.getSize();
         size += 4; // payloadSize
         size += 4; // aggregateTransactionHeader_Reserved1
         size +=  GeneratorUtils.getSumSize(this.transactions, 8);
         size +=  GeneratorUtils.getSumSize(this.cosignatures, 0);
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -159,13 +239,34 @@ public class AggregateTransactionBodyBuilder implements Serializer {
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            GeneratorUtils.writeEntity(dataOutputStream, this.transactionsHash);
-            dataOutputStream.writeInt(Integer.reverseBytes((int) GeneratorUtils.getSumSize(this.getTransactions(), 8)));
-            dataOutputStream.writeInt(Integer.reverseBytes((int) this.getAggregateTransactionHeader_Reserved1()));
-            GeneratorUtils.writeList(dataOutputStream, this.transactions, 8);
-            GeneratorUtils.writeList(dataOutputStream, this.cosignatures, 0);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        GeneratorUtils.writeEntity(buffer, this.transactionsHash);
+        buffer.putInt((int) GeneratorUtils.getSumSize(this.getTransactions(), 8));
+        buffer.putInt((int) this.getAggregateTransactionHeader_Reserved1());
+        GeneratorUtils.writeList(buffer, this.transactions, 8);
+        GeneratorUtils.writeList(buffer, this.cosignatures, 0);
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
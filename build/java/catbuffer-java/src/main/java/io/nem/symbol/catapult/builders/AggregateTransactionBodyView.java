@@ -0,0 +1,203 @@
+/**
+*** Copyright (c) 2016-2019, Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp.
+*** Copyright (c) 2020-present, Jaguar0625, gimre, BloodyRookie.
+*** All rights reserved.
+***
+*** This file is part of Catapult.
+***
+*** Catapult is free software: you can redistribute it and/or modify
+*** it under the terms of the GNU Lesser General Public License as published by
+*** the Free Software Foundation, either version 3 of the License, or
+*** (at your option) any later version.
+***
+*** Catapult is distributed in the hope that it will be useful,
+*** but WITHOUT ANY WARRANTY; without even the implied warranty of
+*** MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+*** GNU Lesser General Public License for more details.
+***
+*** You should have received a copy of the GNU Lesser General Public License
+*** along with Catapult. If not, see <http://www.gnu.org/licenses/>.
+**/
+
+package io.nem.symbol.catapult.builders;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.EnumSet;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+* Read-only view of {@link AggregateTransactionBodyBuilder}.
+* The attributes are decoded from the underlying buffer only when requested. The view can be pointed to another
+* object with wrap, so the same instance can scan many objects without allocating.
+**/
+public final class AggregateTransactionBodyView {
+
+    /** Buffer provided by the caller. **/
+    private ByteBuffer source;
+
+    /** Little-endian buffer the attributes are read from. **/
+    private ByteBuffer buffer;
+
+    /** Offset of the object in the buffer. **/
+    private int offset;
+
+    /** Offset just after the object in the buffer. **/
+    private int end;
+
+    /**
+     * Points the view to the object starting at the given offset of the buffer. The object has no size field, so its
+     * length is given by the enclosing entity. The position and limit of the buffer are not changed.
+     *
+     * @param buffer Buffer holding the serialized object.
+     * @param offset Offset of the object in the buffer.
+     * @param length Length of the object in bytes.
+     * @return This view.
+     */
+    public AggregateTransactionBodyView wrap(final ByteBuffer buffer, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > buffer.limit() - length) {
+            throw new IllegalArgumentException("Invalid object [" + offset + ", " + offset + " + " + length + ")");
+        }
+        this.setBuffer(buffer);
+        this.offset = offset;
+        this.end = offset + length;
+        return this;
+    }
+
+    /**
+     * Sets the buffer the attributes are read from. The little-endian copy of a buffer of another byte order is
+     * kept while the same buffer is wrapped, and its limit follows the limit of the buffer.
+     *
+     * @param buffer Buffer provided by the caller.
+     */
+    private void setBuffer(final ByteBuffer buffer) {
+        if (buffer.order() == ByteOrder.LITTLE_ENDIAN) {
+            this.buffer = buffer;
+        } else if (buffer == this.source && this.buffer != buffer) {
+            this.buffer.limit(buffer.limit());
+        } else {
+            this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        }
+        this.source = buffer;
+    }
+
+    /**
+     * Gets the offset of the object in the buffer.
+     *
+     * @return Offset in bytes.
+     */
+    public int getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * Gets Aggregate hash of an aggregate's transactions.
+     *
+     * @return Aggregate hash of an aggregate's transactions.
+     */
+    public Hash256Dto getTransactionsHash() {
+        return new Hash256Dto(GeneratorUtils.readByteBuffer(this.buffer, this.offset, 32));
+    }
+
+    /**
+     * Compares Aggregate hash of an aggregate's transactions with the given value without decoding it.
+     *
+     * @param transactionsHash Expected value.
+     * @return True if the object holds the expected value.
+     */
+    public boolean matchesTransactionsHash(final Hash256Dto transactionsHash) {
+        return GeneratorUtils.equals(this.buffer, this.offset, transactionsHash.getHash256());
+    }
+
+    /**
+     * Gets Transaction payload size in bytes.
+     *
+     * @return Transaction payload size in bytes.
+     */
+    public int getPayloadSize() {
+        return this.buffer.getInt(this.offset + 32);
+    }
+
+    /**
+     * Gets the offset of sub-transaction data (transactions are variable sized and payload size is in bytes).
+     *
+     * @return Offset in bytes.
+     */
+    public int getTransactionsOffset() {
+        return this.offset + 40;
+    }
+
+    /**
+     * Creates a spliterator that decodes sub-transaction data (transactions are variable sized and payload size is in bytes) one element at a time.
+     *
+     * @return Spliterator of EmbeddedTransactionBuilder.
+     */
+    public Spliterator<EmbeddedTransactionBuilder> getTransactionsSpliterator() {
+        return BinarySpliterator.ofSizePrefixed(EmbeddedTransactionBuilderHelper::loadFromBinary, this.buffer, this.offset + 40, this.offset + 40 + this.getPayloadSize(), 8);
+    }
+
+    /**
+     * Streams sub-transaction data (transactions are variable sized and payload size is in bytes) decoding one element at a time.
+     *
+     * @param parallel True to create a parallel stream.
+     * @return Stream of EmbeddedTransactionBuilder.
+     */
+    public Stream<EmbeddedTransactionBuilder> streamTransactions(final boolean parallel) {
+        return StreamSupport.stream(this.getTransactionsSpliterator(), parallel);
+    }
+
+    /**
+     * Gets the offset of cosignatures data (fills remaining body space after transactions).
+     *
+     * @return Offset in bytes.
+     */
+    public int getCosignaturesOffset() {
+        return this.offset + 40 + this.getPayloadSize();
+    }
+
+    /**
+     * Creates a spliterator that decodes cosignatures data (fills remaining body space after transactions) one element at a time.
+     *
+     * @return Spliterator of CosignatureBuilder.
+     */
+    public Spliterator<CosignatureBuilder> getCosignaturesSpliterator() {
+        return BinarySpliterator.ofFixedSize(CosignatureBuilder::loadFromBinary, this.buffer, this.offset + 40 + this.getPayloadSize(), this.end, 104, 0);
+    }
+
+    /**
+     * Streams cosignatures data (fills remaining body space after transactions) decoding one element at a time.
+     *
+     * @param parallel True to create a parallel stream.
+     * @return Stream of CosignatureBuilder.
+     */
+    public Stream<CosignatureBuilder> streamCosignatures(final boolean parallel) {
+        return StreamSupport.stream(this.getCosignaturesSpliterator(), parallel);
+    }
+
+    /**
+     * Decodes the whole object.
+     *
+     * @return Instance of AggregateTransactionBodyBuilder.
+     */
+    public AggregateTransactionBodyBuilder toBuilder() {
+        final ByteBuffer buffer = this.buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        buffer.limit(this.end);
+        buffer.position(this.offset);
+        return AggregateTransactionBodyBuilder.loadFromBinary(buffer);
+    }
+
+    /**
+     * Decodes the whole object with a decode context.
+     *
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of AggregateTransactionBodyBuilder.
+     */
+    public AggregateTransactionBodyBuilder toBuilder(final DecodeContext context) {
+        final ByteBuffer buffer = this.buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        buffer.limit(this.end);
+        buffer.position(this.offset);
+        return AggregateTransactionBodyBuilder.loadFromBinary(buffer, context);
+    }
+}
@@ -79,15 +79,46 @@ public final class AmountDto implements Serializer {
         return new AmountDto(stream);
     }
 
+    /**
+     * Creates an instance of AmountDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of AmountDto.
+     */
+    public static AmountDto loadFromBinary(final ByteBuffer buffer) {
+        return new AmountDto(GeneratorUtils.readLong(buffer));
+    }
+
+    /**
+     * Creates an instance of AmountDto from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns AmountDto.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of AmountDto.
+     */
+    public static AmountDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return context.intern(AmountDto.class, GeneratorUtils.readLong(buffer), AmountDto::new);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.writeLong(Long.reverseBytes(this.getAmount()));
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        GeneratorUtils.writeLong(buffer, this.getAmount());
     }
 }
 
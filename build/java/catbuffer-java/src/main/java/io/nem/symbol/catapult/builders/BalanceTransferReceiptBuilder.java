@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -40,6 +41,18 @@ public class BalanceTransferReceiptBuilder extends ReceiptBuilder implements Ser
     /** Mosaic recipient address. **/
     private final AddressDto recipientAddress;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -58,12 +71,52 @@ public class BalanceTransferReceiptBuilder extends ReceiptBuilder implements Ser
 
     /**
      * Creates an instance of BalanceTransferReceiptBuilder from a stream.
+     * The stream is read up to the end of the object given by its size.
      *
      * @param stream Byte stream to use to serialize the object.
      * @return Instance of BalanceTransferReceiptBuilder.
      */
     public static BalanceTransferReceiptBuilder loadFromBinary(DataInputStream stream) {
-        return new BalanceTransferReceiptBuilder(stream);
+        return GeneratorUtils.decodeSizePrefixed(BalanceTransferReceiptBuilder.class, stream, BalanceTransferReceiptBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected BalanceTransferReceiptBuilder(ByteBuffer buffer, DecodeContext context) {
+        super(buffer, context);
+        this.mosaic = MosaicBuilder.loadFromBinary(buffer, context);
+        this.senderAddress = AddressDto.loadFromBinary(buffer, context);
+        this.recipientAddress = AddressDto.loadFromBinary(buffer, context);
+    }
+
+    /**
+     * Creates an instance of BalanceTransferReceiptBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     * The object is decoded within the bytes covered by its size.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of BalanceTransferReceiptBuilder.
+     */
+    public static BalanceTransferReceiptBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of BalanceTransferReceiptBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     * The object is decoded within the bytes covered by its size.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of BalanceTransferReceiptBuilder.
+     */
+    public static BalanceTransferReceiptBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decodeSizePrefixed(BalanceTransferReceiptBuilder.class, buffer, context, true,
+            BalanceTransferReceiptBuilder::new);
     }
     
     /**
@@ -129,16 +182,46 @@ public class BalanceTransferReceiptBuilder extends ReceiptBuilder implements Ser
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public BalanceTransferReceiptBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        super.enableSizeCache();
+        this.sizeCacheEnabled = true;
+        this.mosaic.enableSizeCache();
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = super.getSize();
         size += this.mosaic.getSize();
         size += this.senderAddress.getSize();
         size += this.recipientAddress.getSize();
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -150,13 +233,33 @@ public class BalanceTransferReceiptBuilder extends ReceiptBuilder implements Ser
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            final byte[] superBytes = super.serialize();
-            dataOutputStream.write(superBytes, 0, superBytes.length);
-            GeneratorUtils.writeEntity(dataOutputStream, this.mosaic);
-            GeneratorUtils.writeEntity(dataOutputStream, this.senderAddress);
-            GeneratorUtils.writeEntity(dataOutputStream, this.recipientAddress);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        super.serializeTo(buffer);
+        GeneratorUtils.writeEntity(buffer, this.mosaic);
+        GeneratorUtils.writeEntity(buffer, this.senderAddress);
+        GeneratorUtils.writeEntity(buffer, this.recipientAddress);
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
@@ -79,15 +79,46 @@ public final class BlockFeeMultiplierDto implements Serializer {
         return new BlockFeeMultiplierDto(stream);
     }
 
+    /**
+     * Creates an instance of BlockFeeMultiplierDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of BlockFeeMultiplierDto.
+     */
+    public static BlockFeeMultiplierDto loadFromBinary(final ByteBuffer buffer) {
+        return new BlockFeeMultiplierDto(GeneratorUtils.readInt(buffer));
+    }
+
+    /**
+     * Creates an instance of BlockFeeMultiplierDto from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns BlockFeeMultiplierDto.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of BlockFeeMultiplierDto.
+     */
+    public static BlockFeeMultiplierDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return loadFromBinary(buffer);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.writeInt(Integer.reverseBytes(this.getBlockFeeMultiplier()));
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        GeneratorUtils.writeInt(buffer, this.getBlockFeeMultiplier());
     }
 }
 
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -85,6 +86,18 @@ public class BlockHeaderBuilder implements Serializer {
     /** Fee multiplier applied to block transactions. **/
     private final BlockFeeMultiplierDto feeMultiplier;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -122,7 +135,60 @@ public class BlockHeaderBuilder implements Serializer {
      * @return Instance of BlockHeaderBuilder.
      */
     public static BlockHeaderBuilder loadFromBinary(DataInputStream stream) {
-        return new BlockHeaderBuilder(stream);
+        return GeneratorUtils.decode(BlockHeaderBuilder.class, stream, BlockHeaderBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected BlockHeaderBuilder(ByteBuffer buffer, DecodeContext context) {
+        this.size = buffer.getInt();
+        this.verifiableEntityHeader_Reserved1 = buffer.getInt();
+        this.signature = SignatureDto.loadFromBinary(buffer, context);
+        this.signerPublicKey = KeyDto.loadFromBinary(buffer, context);
+        this.entityBody_Reserved1 = buffer.getInt();
+        this.version = buffer.get();
+        this.network = NetworkTypeDto.loadFromBinary(buffer, context);
+        this.type = EntityTypeDto.loadFromBinary(buffer, context);
+        this.height = HeightDto.loadFromBinary(buffer, context);
+        this.timestamp = TimestampDto.loadFromBinary(buffer, context);
+        this.difficulty = DifficultyDto.loadFromBinary(buffer, context);
+        this.generationHashProof = VrfProofBuilder.loadFromBinary(buffer, context);
+        this.previousBlockHash = Hash256Dto.loadFromBinary(buffer, context);
+        this.transactionsHash = Hash256Dto.loadFromBinary(buffer, context);
+        this.receiptsHash = Hash256Dto.loadFromBinary(buffer, context);
+        this.stateHash = Hash256Dto.loadFromBinary(buffer, context);
+        this.beneficiaryAddress = AddressDto.loadFromBinary(buffer, context);
+        this.feeMultiplier = BlockFeeMultiplierDto.loadFromBinary(buffer, context);
+    }
+
+    /**
+     * Creates an instance of BlockHeaderBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     * The object is decoded within the bytes covered by its size.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of BlockHeaderBuilder.
+     */
+    public static BlockHeaderBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of BlockHeaderBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     * The object is decoded within the bytes covered by its size.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of BlockHeaderBuilder.
+     */
+    public static BlockHeaderBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decodeSizePrefixed(BlockHeaderBuilder.class, buffer, context, false,
+            BlockHeaderBuilder::new);
     }
     
     /**
@@ -366,12 +432,38 @@ public class BlockHeaderBuilder implements Serializer {
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public BlockHeaderBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        this.sizeCacheEnabled = true;
+        this.generationHashProof.enableSizeCache();
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = 0;
         size += 4; // size
         size += 4; // verifiableEntityHeader_Reserved1
@@ -391,6 +483,9 @@ public class BlockHeaderBuilder implements Serializer {
         size += this.stateHash.getSize();
         size += this.beneficiaryAddress.getSize();
         size += this.feeMultiplier.getSize();
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -402,26 +497,47 @@ public class BlockHeaderBuilder implements Serializer {
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            dataOutputStream.writeInt(Integer.reverseBytes((int) this.getSize()));
-            dataOutputStream.writeInt(Integer.reverseBytes((int) this.getVerifiableEntityHeader_Reserved1()));
-            GeneratorUtils.writeEntity(dataOutputStream, this.signature);
-            GeneratorUtils.writeEntity(dataOutputStream, this.signerPublicKey);
-            dataOutputStream.writeInt(Integer.reverseBytes((int) this.getEntityBody_Reserved1()));
-            dataOutputStream.writeByte((byte) this.getVersion());
-            GeneratorUtils.writeEntity(dataOutputStream, this.network);
-            GeneratorUtils.writeEntity(dataOutputStream, this.type);
-            GeneratorUtils.writeEntity(dataOutputStream, this.height);
-            GeneratorUtils.writeEntity(dataOutputStream, this.timestamp);
-            GeneratorUtils.writeEntity(dataOutputStream, this.difficulty);
-            GeneratorUtils.writeEntity(dataOutputStream, this.generationHashProof);
-            GeneratorUtils.writeEntity(dataOutputStream, this.previousBlockHash);
-            GeneratorUtils.writeEntity(dataOutputStream, this.transactionsHash);
-            GeneratorUtils.writeEntity(dataOutputStream, this.receiptsHash);
-            GeneratorUtils.writeEntity(dataOutputStream, this.stateHash);
-            GeneratorUtils.writeEntity(dataOutputStream, this.beneficiaryAddress);
-            GeneratorUtils.writeEntity(dataOutputStream, this.feeMultiplier);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        buffer.putInt((int) this.getSize());
+        buffer.putInt((int) this.getVerifiableEntityHeader_Reserved1());
+        GeneratorUtils.writeEntity(buffer, this.signature);
+        GeneratorUtils.writeEntity(buffer, this.signerPublicKey);
+        buffer.putInt((int) this.getEntityBody_Reserved1());
+        buffer.put((byte) this.getVersion());
+        GeneratorUtils.writeEntity(buffer, this.network);
+        GeneratorUtils.writeEntity(buffer, this.type);
+        GeneratorUtils.writeEntity(buffer, this.height);
+        GeneratorUtils.writeEntity(buffer, this.timestamp);
+        GeneratorUtils.writeEntity(buffer, this.difficulty);
+        GeneratorUtils.writeEntity(buffer, this.generationHashProof);
+        GeneratorUtils.writeEntity(buffer, this.previousBlockHash);
+        GeneratorUtils.writeEntity(buffer, this.transactionsHash);
+        GeneratorUtils.writeEntity(buffer, this.receiptsHash);
+        GeneratorUtils.writeEntity(buffer, this.stateHash);
+        GeneratorUtils.writeEntity(buffer, this.beneficiaryAddress);
+        GeneratorUtils.writeEntity(buffer, this.feeMultiplier);
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
@@ -0,0 +1,94 @@
+/**
+*** Copyright (c) 2016-2019, Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp.
+*** Copyright (c) 2020-present, Jaguar0625, gimre, BloodyRookie.
+*** All rights reserved.
+***
+*** This file is part of Catapult.
+***
+*** Catapult is free software: you can redistribute it and/or modify
+*** it under the terms of the GNU Lesser General Public License as published by
+*** the Free Software Foundation, either version 3 of the License, or
+*** (at your option) any later version.
+***
+*** Catapult is distributed in the hope that it will be useful,
+*** but WITHOUT ANY WARRANTY; without even the implied warranty of
+*** MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+*** GNU Lesser General Public License for more details.
+***
+*** You should have received a copy of the GNU Lesser General Public License
+*** along with Catapult. If not, see <http://www.gnu.org/licenses/>.
+**/
+
+package io.nem.symbol.catapult.builders;
+
+/**
+ * Listener notified of the entities decoded and encoded by the generated builders, installed with
+ * {@link GeneratorUtils#setCodecListener(CodecListener)}.
+ *
+ * Decoding is reported by every builder loadFromBinary and by the transaction helpers, so nested structures are
+ * reported as well as the entity holding them and the latencies include the nested structures. Encoding is reported
+ * by serialize() and by every entity written into a buffer by a builder. A decode failure is reported once, by the
+ * innermost builder that failed, before the exception is propagated.
+ *
+ * Listeners are called from the decoding and encoding threads and must be thread safe.
+ */
+public interface CodecListener {
+
+    /** Listener that ignores every event. Nothing is measured while it is installed. */
+    CodecListener NONE = new CodecListener() {
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void onDecode(final Serializer entity, final int size, final long nanos) {
+        }
+
+        @Override
+        public void onEncode(final Serializer entity, final int size, final long nanos) {
+        }
+
+        @Override
+        public void onDecodeFailure(final Class<?> type, final long offset, final RuntimeException exception) {
+        }
+    };
+
+    /**
+     * Tells whether the events must be measured and reported. When false, the codec does not read the clock.
+     *
+     * @return True if the listener is enabled.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Called after an entity has been decoded.
+     *
+     * @param entity Decoded entity.
+     * @param size Number of bytes read.
+     * @param nanos Decoding time in nanoseconds.
+     */
+    void onDecode(Serializer entity, int size, long nanos);
+
+    /**
+     * Called after an entity has been encoded.
+     *
+     * @param entity Encoded entity.
+     * @param size Number of bytes written.
+     * @param nanos Encoding time in nanoseconds.
+     */
+    void onEncode(Serializer entity, int size, long nanos);
+
+    /**
+     * Called when an entity cannot be decoded.
+     *
+     * @param type Type of the entity being decoded.
+     * @param offset Buffer position of the entity or -1 when decoding from a stream.
+     * @param exception Exception thrown by the decoder.
+     */
+    void onDecodeFailure(Class<?> type, long offset, RuntimeException exception);
+}
+
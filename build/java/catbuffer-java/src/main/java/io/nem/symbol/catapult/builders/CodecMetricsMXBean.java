@@ -0,0 +1,94 @@
+/**
+*** Copyright (c) 2016-2019, Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp.
+*** Copyright (c) 2020-present, Jaguar0625, gimre, BloodyRookie.
+*** All rights reserved.
+***
+*** This file is part of Catapult.
+***
+*** Catapult is free software: you can redistribute it and/or modify
+*** it under the terms of the GNU Lesser General Public License as published by
+*** the Free Software Foundation, either version 3 of the License, or
+*** (at your option) any later version.
+***
+*** Catapult is distributed in the hope that it will be useful,
+*** but WITHOUT ANY WARRANTY; without even the implied warranty of
+*** MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+*** GNU Lesser General Public License for more details.
+***
+*** You should have received a copy of the GNU Lesser General Public License
+*** along with Catapult. If not, see <http://www.gnu.org/licenses/>.
+**/
+
+package io.nem.symbol.catapult.builders;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Management interface of {@link CodecMetrics}. The maps are keyed by builder class name and by entity or receipt type,
+ * for example TransferTransactionBuilder and EntityTypeDto.TRANSFER_TRANSACTION.
+ */
+public interface CodecMetricsMXBean {
+
+    /**
+     * Gets the number of decoded entities.
+     *
+     * @return Counts by key.
+     */
+    Map<String, Long> getDecodeCounts();
+
+    /**
+     * Gets the number of decoded bytes.
+     *
+     * @return Byte totals by key.
+     */
+    Map<String, Long> getDecodeBytes();
+
+    /**
+     * Gets the 99th percentile of the decoding latency, rounded up to a power of two.
+     *
+     * @return Latencies in nanoseconds by key.
+     */
+    Map<String, Long> getDecodeP99Nanos();
+
+    /**
+     * Gets the number of encoded entities.
+     *
+     * @return Counts by key.
+     */
+    Map<String, Long> getEncodeCounts();
+
+    /**
+     * Gets the number of encoded bytes.
+     *
+     * @return Byte totals by key.
+     */
+    Map<String, Long> getEncodeBytes();
+
+    /**
+     * Gets the 99th percentile of the encoding latency, rounded up to a power of two.
+     *
+     * @return Latencies in nanoseconds by key.
+     */
+    Map<String, Long> getEncodeP99Nanos();
+
+    /**
+     * Gets the number of decode failures.
+     *
+     * @return Failure counts by type of the entity that failed.
+     */
+    Map<String, Long> getDecodeFailureCounts();
+
+    /**
+     * Gets the latest decode failures with their type and offset, oldest first.
+     *
+     * @return Failure descriptions.
+     */
+    List<String> getRecentDecodeFailures();
+
+    /**
+     * Clears all the counters.
+     */
+    void reset();
+}
+
@@ -0,0 +1,291 @@
+/**
+*** Copyright (c) 2016-2019, Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp.
+*** Copyright (c) 2020-present, Jaguar0625, gimre, BloodyRookie.
+*** All rights reserved.
+***
+*** This file is part of Catapult.
+***
+*** Catapult is free software: you can redistribute it and/or modify
+*** it under the terms of the GNU Lesser General Public License as published by
+*** the Free Software Foundation, either version 3 of the License, or
+*** (at your option) any later version.
+***
+*** Catapult is distributed in the hope that it will be useful,
+*** but WITHOUT ANY WARRANTY; without even the implied warranty of
+*** MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+*** GNU Lesser General Public License for more details.
+***
+*** You should have received a copy of the GNU Lesser General Public License
+*** along with Catapult. If not, see <http://www.gnu.org/licenses/>.
+**/
+
+package io.nem.symbol.catapult.builders;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * Opt-in state shared by the objects decoded with loadFromBinary(buffer, context).
+ *
+ * Interning: the fixed size DTOs of the enabled types are looked up in bounded caches before being allocated, so the
+ * values that repeat across messages (a few hot mosaics, accounts and keys) are shared instead of allocated again.
+ * A lookup hit does not allocate. Each cache is a direct mapped table: a new value evicts the value in its slot.
+ * Interned DTOs are shared and their buffers must not be modified.
+ *
+ * List pooling: the lists of the decoded objects are taken from a pool and given back by {@link #reset()}, so their
+ * backing arrays are reused from one message to the next. The objects decoded since the last reset must not be used
+ * after the next one.
+ *
+ * Contexts are not thread safe. Use one context per decoding thread.
+ */
+public final class DecodeContext {
+
+    /** Context that neither interns nor pools, used by loadFromBinary(buffer). */
+    static final DecodeContext NONE = new DecodeContext();
+
+    /** Largest capacity of an intern cache. */
+    private static final int MAX_CAPACITY = 1 << 24;
+
+    /** Intern caches by DTO type or null if interning is disabled. */
+    private Map<Class<?>, InternCache> caches;
+
+    /** Whether the lists are pooled. */
+    private boolean listPooling;
+
+    /** Pooled lists handed out since the last reset. */
+    private final List<ArrayList<Object>> usedLists = new ArrayList<>();
+
+    /** Pooled lists ready to be handed out. */
+    private final List<ArrayList<Object>> freeLists = new ArrayList<>();
+
+    /** Number of interned lookups that found the value. */
+    private long internHitCount;
+
+    /** Number of interned lookups that allocated the value. */
+    private long internMissCount;
+
+    /**
+     * Constructor - Creates a context that neither interns nor pools.
+     */
+    public DecodeContext() {
+    }
+
+    /**
+     * Creates a context interning the mosaic ids, addresses and public keys.
+     *
+     * @param capacity Capacity of each intern cache.
+     * @return The context.
+     */
+    public static DecodeContext createInterning(final int capacity) {
+        return new DecodeContext()
+            .enableInterning(MosaicIdDto.class, capacity)
+            .enableInterning(UnresolvedMosaicIdDto.class, capacity)
+            .enableInterning(AddressDto.class, capacity)
+            .enableInterning(UnresolvedAddressDto.class, capacity)
+            .enableInterning(KeyDto.class, capacity);
+    }
+
+    /**
+     * Enables the interning of a fixed size DTO type. Only DTOs backed by a buffer or by a 64 bit value are interned.
+     *
+     * @param type DTO type.
+     * @param capacity Number of values kept, rounded up to a power of two.
+     * @return This context.
+     */
+    public DecodeContext enableInterning(final Class<? extends Serializer> type, final int capacity) {
+        GeneratorUtils.notNull(type, "type is null");
+        GeneratorUtils.isTrue(capacity > 0 && capacity <= MAX_CAPACITY, "Invalid capacity %d", capacity);
+        if (this.caches == null) {
+            this.caches = new IdentityHashMap<>();
+        }
+        this.caches.put(type, new InternCache(capacity));
+        return this;
+    }
+
+    /**
+     * Enables the pooling of the lists of the decoded objects.
+     *
+     * @return This context.
+     */
+    public DecodeContext enableListPooling() {
+        this.listPooling = true;
+        return this;
+    }
+
+    /**
+     * Gives the pooled lists back to the pool. The interned values are kept.
+     * The objects decoded since the previous reset must not be used anymore.
+     */
+    public void reset() {
+        for (ArrayList<Object> list : this.usedLists) {
+            list.clear();
+            this.freeLists.add(list);
+        }
+        this.usedLists.clear();
+    }
+
+    /**
+     * Gets the number of interned lookups that found the value.
+     *
+     * @return Number of hits.
+     */
+    public long getInternHitCount() {
+        return this.internHitCount;
+    }
+
+    /**
+     * Gets the number of interned lookups that allocated the value.
+     *
+     * @return Number of misses.
+     */
+    public long getInternMissCount() {
+        return this.internMissCount;
+    }
+
+    /**
+     * Gets a DTO backed by a 64 bit value.
+     *
+     * @param type DTO type.
+     * @param value Value read from the buffer.
+     * @param factory Factory creating the DTO when it is not interned.
+     * @param <T> DTO type.
+     * @return The DTO.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T intern(final Class<T> type, final long value, final LongFunction<T> factory) {
+        final InternCache cache = this.caches == null ? null : this.caches.get(type);
+        if (cache == null) {
+            return factory.apply(value);
+        }
+        final int index = cache.getIndex(value);
+        final Object cached = cache.values[index];
+        if (cached != null && cache.numericKeys[index] == value) {
+            this.internHitCount++;
+            return (T) cached;
+        }
+        final T created = factory.apply(value);
+        cache.numericKeys[index] = value;
+        cache.values[index] = created;
+        this.internMissCount++;
+        return created;
+    }
+
+    /**
+     * Gets a DTO backed by a buffer, reading it from the current position of a little-endian buffer.
+     * The buffer position is advanced past the DTO.
+     *
+     * @param type DTO type.
+     * @param buffer Buffer to read the DTO from.
+     * @param size Size of the DTO.
+     * @param factory Factory creating the DTO from a copy of its bytes when it is not interned.
+     * @param <T> DTO type.
+     * @return The DTO.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T intern(final Class<T> type, final ByteBuffer buffer, final int size,
+        final Function<ByteBuffer, T> factory) {
+        final InternCache cache = this.caches == null ? null : this.caches.get(type);
+        if (cache == null) {
+            return factory.apply(GeneratorUtils.readByteBuffer(buffer, size));
+        }
+        final int position = buffer.position();
+        final int index = cache.getIndex(hash(buffer, position, size));
+        final Object cached = cache.values[index];
+        if (cached != null && GeneratorUtils.equals(buffer, position, cache.bufferKeys[index])) {
+            buffer.position(position + size);
+            this.internHitCount++;
+            return (T) cached;
+        }
+        final ByteBuffer key = GeneratorUtils.readByteBuffer(buffer, size);
+        final T created = factory.apply(key);
+        cache.bufferKeys[index] = key;
+        cache.values[index] = created;
+        this.internMissCount++;
+        return created;
+    }
+
+    /**
+     * Creates the list of a decoded object, taking it from the pool when list pooling is enabled.
+     *
+     * @param capacity Expected number of elements.
+     * @param <T> Element type.
+     * @return An empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> newList(final int capacity) {
+        if (!this.listPooling) {
+            return new ArrayList<>(capacity);
+        }
+        final ArrayList<Object> list = this.freeLists.isEmpty()
+            ? new ArrayList<>(capacity) : this.freeLists.remove(this.freeLists.size() - 1);
+        list.ensureCapacity(capacity);
+        this.usedLists.add(list);
+        return (List<T>) list;
+    }
+
+    /**
+     * Hashes the bytes of a DTO without copying them.
+     *
+     * @param buffer Little-endian buffer.
+     * @param position Position of the DTO.
+     * @param size Size of the DTO.
+     * @return Hash.
+     */
+    private static long hash(final ByteBuffer buffer, final int position, final int size) {
+        long hash = size;
+        int index = 0;
+        for (; index + 8 <= size; index += 8) {
+            hash = hash * 0x9E3779B97F4A7C15L + buffer.getLong(position + index);
+        }
+        for (; index < size; index++) {
+            hash = hash * 31 + buffer.get(position + index);
+        }
+        return hash;
+    }
+
+    /** Direct mapped table of interned values. */
+    private static final class InternCache {
+
+        /** Keys of the DTOs backed by a 64 bit value. */
+        private final long[] numericKeys;
+
+        /** Keys of the DTOs backed by a buffer. */
+        private final ByteBuffer[] bufferKeys;
+
+        /** Interned values. */
+        private final Object[] values;
+
+        /** Mask of the table indexes. */
+        private final int mask;
+
+        /**
+         * Constructor.
+         *
+         * @param capacity Number of values kept, rounded up to a power of two.
+         */
+        private InternCache(final int capacity) {
+            final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+            this.numericKeys = new long[size];
+            this.bufferKeys = new ByteBuffer[size];
+            this.values = new Object[size];
+            this.mask = size - 1;
+        }
+
+        /**
+         * Gets the table index of a key.
+         *
+         * @param key Key or hash of the key.
+         * @return Table index.
+         */
+        private int getIndex(final long key) {
+            final long mixed = key * 0x9E3779B97F4A7C15L;
+            return (int) (mixed ^ (mixed >>> 32)) & this.mask;
+        }
+    }
+}
+
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -34,6 +35,18 @@ public class EmbeddedAccountKeyLinkTransactionBuilder extends EmbeddedTransactio
     /** Account key link transaction body. **/
     private final AccountKeyLinkTransactionBodyBuilder accountKeyLinkTransactionBody;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -50,12 +63,87 @@ public class EmbeddedAccountKeyLinkTransactionBuilder extends EmbeddedTransactio
 
     /**
      * Creates an instance of EmbeddedAccountKeyLinkTransactionBuilder from a stream.
+     * The stream is read up to the end of the object given by its size.
      *
      * @param stream Byte stream to use to serialize the object.
      * @return Instance of EmbeddedAccountKeyLinkTransactionBuilder.
      */
     public static EmbeddedAccountKeyLinkTransactionBuilder loadFromBinary(DataInputStream stream) {
-        return new EmbeddedAccountKeyLinkTransactionBuilder(stream);
+        return GeneratorUtils.decodeSizePrefixed(EmbeddedAccountKeyLinkTransactionBuilder.class, stream, EmbeddedAccountKeyLinkTransactionBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected EmbeddedAccountKeyLinkTransactionBuilder(ByteBuffer buffer, DecodeContext context) {
+        super(buffer, context);
+        this.accountKeyLinkTransactionBody = AccountKeyLinkTransactionBodyBuilder.loadFromBinary(buffer, context);
+    }
+
+    /**
+     * Creates an instance of EmbeddedAccountKeyLinkTransactionBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     * The object is decoded within the bytes covered by its size.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of EmbeddedAccountKeyLinkTransactionBuilder.
+     */
+    public static EmbeddedAccountKeyLinkTransactionBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of EmbeddedAccountKeyLinkTransactionBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     * The object is decoded within the bytes covered by its size.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of EmbeddedAccountKeyLinkTransactionBuilder.
+     */
+    public static EmbeddedAccountKeyLinkTransactionBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decodeSizePrefixed(EmbeddedAccountKeyLinkTransactionBuilder.class, buffer, context, true,
+            EmbeddedAccountKeyLinkTransactionBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from an already parsed header and body.
+     *
+     * @param header Parsed header.
+     * @param body Parsed body.
+     */
+    protected EmbeddedAccountKeyLinkTransactionBuilder(EmbeddedTransactionBuilder header, AccountKeyLinkTransactionBodyBuilder body) {
+        super(header);
+        this.accountKeyLinkTransactionBody = body;
+    }
+
+    /**
+     * Creates an instance of EmbeddedAccountKeyLinkTransactionBuilder from an already parsed header and a
+     * little-endian buffer positioned at the body. The buffer position is advanced past the body.
+     *
+     * @param header Parsed header.
+     * @param buffer Buffer to read the body from.
+     * @return Instance of EmbeddedAccountKeyLinkTransactionBuilder.
+     */
+    public static EmbeddedAccountKeyLinkTransactionBuilder loadFromBinary(EmbeddedTransactionBuilder header, ByteBuffer buffer) {
+        return loadFromBinary(header, buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of EmbeddedAccountKeyLinkTransactionBuilder from an already parsed header and a
+     * little-endian buffer positioned at the body, with a decode context. The buffer position is advanced past the body.
+     *
+     * @param header Parsed header.
+     * @param buffer Buffer to read the body from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of EmbeddedAccountKeyLinkTransactionBuilder.
+     */
+    public static EmbeddedAccountKeyLinkTransactionBuilder loadFromBinary(EmbeddedTransactionBuilder header, ByteBuffer buffer,
+        DecodeContext context) {
+        return new EmbeddedAccountKeyLinkTransactionBuilder(header, AccountKeyLinkTransactionBodyBuilder.loadFromBinary(buffer, context));
     }
     
     /**
@@ -113,14 +201,44 @@ public class EmbeddedAccountKeyLinkTransactionBuilder extends EmbeddedTransactio
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public EmbeddedAccountKeyLinkTransactionBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        super.enableSizeCache();
+        this.sizeCacheEnabled = true;
+        this.accountKeyLinkTransactionBody.enableSizeCache();
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = super.getSize();
         size += this.accountKeyLinkTransactionBody.getSize();
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -141,11 +259,31 @@ public class EmbeddedAccountKeyLinkTransactionBuilder extends EmbeddedTransactio
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            final byte[] superBytes = super.serialize();
-            dataOutputStream.write(superBytes, 0, superBytes.length);
-            GeneratorUtils.writeEntity(dataOutputStream, this.accountKeyLinkTransactionBody);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        super.serializeTo(buffer);
+        GeneratorUtils.writeEntity(buffer, this.accountKeyLinkTransactionBody);
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -52,6 +53,18 @@ public class EmbeddedTransactionBuilder implements Serializer {
     /** Entity type. **/
     private final EntityTypeDto type;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -78,7 +91,64 @@ public class EmbeddedTransactionBuilder implements Serializer {
      * @return Instance of EmbeddedTransactionBuilder.
      */
     public static EmbeddedTransactionBuilder loadFromBinary(DataInputStream stream) {
-        return new EmbeddedTransactionBuilder(stream);
+        return GeneratorUtils.decode(EmbeddedTransactionBuilder.class, stream, EmbeddedTransactionBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected EmbeddedTransactionBuilder(ByteBuffer buffer, DecodeContext context) {
+        this.size = buffer.getInt();
+        this.embeddedTransactionHeader_Reserved1 = buffer.getInt();
+        this.signerPublicKey = KeyDto.loadFromBinary(buffer, context);
+        this.entityBody_Reserved1 = buffer.getInt();
+        this.version = buffer.get();
+        this.network = NetworkTypeDto.loadFromBinary(buffer, context);
+        this.type = EntityTypeDto.loadFromBinary(buffer, context);
+    }
+
+    /**
+     * Creates an instance of EmbeddedTransactionBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     * The object is decoded within the bytes covered by its size.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of EmbeddedTransactionBuilder.
+     */
+    public static EmbeddedTransactionBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of EmbeddedTransactionBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     * The object is decoded within the bytes covered by its size.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of EmbeddedTransactionBuilder.
+     */
+    public static EmbeddedTransactionBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decodeSizePrefixed(EmbeddedTransactionBuilder.class, buffer, context, false,
+            EmbeddedTransactionBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object copying an already parsed header.
+     *
+     * @param header Header to copy.
+     */
+    protected EmbeddedTransactionBuilder(EmbeddedTransactionBuilder header) {
+        this.size = header.size;
+        this.embeddedTransactionHeader_Reserved1 = header.embeddedTransactionHeader_Reserved1;
+        this.signerPublicKey = header.signerPublicKey;
+        this.entityBody_Reserved1 = header.entityBody_Reserved1;
+        this.version = header.version;
+        this.network = header.network;
+        this.type = header.type;
     }
     
     /**
@@ -179,12 +249,37 @@ public class EmbeddedTransactionBuilder implements Serializer {
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public EmbeddedTransactionBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        this.sizeCacheEnabled = true;
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = 0;
         size += 4; // size
         size += 4; // embeddedTransactionHeader_Reserved1
@@ -193,6 +288,9 @@ public class EmbeddedTransactionBuilder implements Serializer {
         size += 1; // version
         size += this.network.getSize();
         size += this.type.getSize();
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -212,15 +310,36 @@ public class EmbeddedTransactionBuilder implements Serializer {
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            dataOutputStream.writeInt(Integer.reverseBytes((int) this.getSize()));
-            dataOutputStream.writeInt(Integer.reverseBytes((int) this.getEmbeddedTransactionHeader_Reserved1()));
-            GeneratorUtils.writeEntity(dataOutputStream, this.signerPublicKey);
-            dataOutputStream.writeInt(Integer.reverseBytes((int) this.getEntityBody_Reserved1()));
-            dataOutputStream.writeByte((byte) this.getVersion());
-            GeneratorUtils.writeEntity(dataOutputStream, this.network);
-            GeneratorUtils.writeEntity(dataOutputStream, this.type);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        buffer.putInt((int) this.getSize());
+        buffer.putInt((int) this.getEmbeddedTransactionHeader_Reserved1());
+        GeneratorUtils.writeEntity(buffer, this.signerPublicKey);
+        buffer.putInt((int) this.getEntityBody_Reserved1());
+        buffer.put((byte) this.getVersion());
+        GeneratorUtils.writeEntity(buffer, this.network);
+        GeneratorUtils.writeEntity(buffer, this.type);
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
@@ -22,177 +22,145 @@
 package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
-import java.io.SequenceInputStream;
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.BiFunction;
 
-/** Factory in charge of creating the right transaction builder from the streamed data. */
+/** Factory in charge of creating the right embedded transaction builder from the streamed data. */
 public class EmbeddedTransactionBuilderHelper {
 
+    /** Factories of the known embedded transaction builders keyed by entity type and version. */
+    private static final TransactionBuilderRegistry<EmbeddedTransactionBuilder> REGISTRY = new TransactionBuilderRegistry<>();
+
+    static {
+                                                                                                                                                                                                                                                                                                                                                                                                                                            REGISTRY.register(EntityTypeDto.EMBEDDED_ACCOUNT_KEY_LINK_TRANSACTION, (byte) 1, EmbeddedAccountKeyLinkTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_NODE_KEY_LINK_TRANSACTION, (byte) 1, EmbeddedNodeKeyLinkTransactionBuilder::loadFromBinary);
+                                        REGISTRY.register(EntityTypeDto.EMBEDDED_VOTING_KEY_LINK_TRANSACTION, (byte) 1, EmbeddedVotingKeyLinkTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_VRF_KEY_LINK_TRANSACTION, (byte) 1, EmbeddedVrfKeyLinkTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_HASH_LOCK_TRANSACTION, (byte) 1, EmbeddedHashLockTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_SECRET_LOCK_TRANSACTION, (byte) 1, EmbeddedSecretLockTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_SECRET_PROOF_TRANSACTION, (byte) 1, EmbeddedSecretProofTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_ACCOUNT_METADATA_TRANSACTION, (byte) 1, EmbeddedAccountMetadataTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_MOSAIC_METADATA_TRANSACTION, (byte) 1, EmbeddedMosaicMetadataTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_NAMESPACE_METADATA_TRANSACTION, (byte) 1, EmbeddedNamespaceMetadataTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_MOSAIC_DEFINITION_TRANSACTION, (byte) 1, EmbeddedMosaicDefinitionTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_MOSAIC_SUPPLY_CHANGE_TRANSACTION, (byte) 1, EmbeddedMosaicSupplyChangeTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_MULTISIG_ACCOUNT_MODIFICATION_TRANSACTION, (byte) 1, EmbeddedMultisigAccountModificationTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_ADDRESS_ALIAS_TRANSACTION, (byte) 1, EmbeddedAddressAliasTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_MOSAIC_ALIAS_TRANSACTION, (byte) 1, EmbeddedMosaicAliasTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_NAMESPACE_REGISTRATION_TRANSACTION, (byte) 1, EmbeddedNamespaceRegistrationTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_ACCOUNT_ADDRESS_RESTRICTION_TRANSACTION, (byte) 1, EmbeddedAccountAddressRestrictionTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_ACCOUNT_MOSAIC_RESTRICTION_TRANSACTION, (byte) 1, EmbeddedAccountMosaicRestrictionTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_ACCOUNT_OPERATION_RESTRICTION_TRANSACTION, (byte) 1, EmbeddedAccountOperationRestrictionTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_MOSAIC_ADDRESS_RESTRICTION_TRANSACTION, (byte) 1, EmbeddedMosaicAddressRestrictionTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_MOSAIC_GLOBAL_RESTRICTION_TRANSACTION, (byte) 1, EmbeddedMosaicGlobalRestrictionTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.EMBEDDED_TRANSFER_TRANSACTION, (byte) 1, EmbeddedTransferTransactionBuilder::loadFromBinary);
+    }
+
+    /**
+    * Registers the factory of an embedded transaction builder, replacing any previous one for the same
+    * entity type and version. The header type is parsed into EntityTypeDto before the lookup, so
+    * only the entity types it declares can be registered, as overrides or as new versions.
+    *
+    * @param type the entity type
+    * @param version the entity version
+    * @param factory the factory creating the builder from the parsed header and the body buffer
+    */
+    public static void register(final EntityTypeDto type, final byte version,
+        final BiFunction<EmbeddedTransactionBuilder, ByteBuffer, ? extends EmbeddedTransactionBuilder> factory) {
+        GeneratorUtils.notNull(factory, "factory is null");
+        REGISTRY.register(type, version, (header, buffer, context) -> factory.apply(header, buffer));
+    }
+
     /**
-    * It creates the rigth embbeded transaction builder from the stream data.
+    * Registers the factory of an embedded transaction builder that also receives the decode context,
+    * replacing any previous one for the same entity type and version. Only the entity types
+    * declared by EntityTypeDto can be registered.
+    *
+    * @param type the entity type
+    * @param version the entity version
+    * @param factory the factory creating the builder from the parsed header, the body buffer and the decode context
+    */
+    public static void register(final EntityTypeDto type, final byte version,
+        final TransactionBuilderRegistry.Factory<EmbeddedTransactionBuilder> factory) {
+        REGISTRY.register(type, version, factory);
+    }
+
+    /**
+    * It creates the right embedded transaction builder from the stream data.
     *
     * @param stream the stream
     * @return the EmbeddedTransactionBuilder subclass
     */
     public static EmbeddedTransactionBuilder loadFromBinary(final DataInputStream stream) {
+        return GeneratorUtils.decode(EmbeddedTransactionBuilder.class, stream, EmbeddedTransactionBuilderHelper::decode);
+    }
 
-        EmbeddedTransactionBuilder headerBuilder = EmbeddedTransactionBuilder.loadFromBinary(stream);
-                                                                                                                                                                                                                                                                                                                                                                                                                                            if (headerBuilder.getType().getValue() == 16716 && headerBuilder.getVersion() == 1) {
-            AccountKeyLinkTransactionBodyBuilder bodyBuilder = AccountKeyLinkTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedAccountKeyLinkTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16972 && headerBuilder.getVersion() == 1) {
-            NodeKeyLinkTransactionBodyBuilder bodyBuilder = NodeKeyLinkTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedNodeKeyLinkTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                                        if (headerBuilder.getType().getValue() == 16707 && headerBuilder.getVersion() == 1) {
-            VotingKeyLinkTransactionBodyBuilder bodyBuilder = VotingKeyLinkTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedVotingKeyLinkTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16963 && headerBuilder.getVersion() == 1) {
-            VrfKeyLinkTransactionBodyBuilder bodyBuilder = VrfKeyLinkTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedVrfKeyLinkTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16712 && headerBuilder.getVersion() == 1) {
-            HashLockTransactionBodyBuilder bodyBuilder = HashLockTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedHashLockTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16722 && headerBuilder.getVersion() == 1) {
-            SecretLockTransactionBodyBuilder bodyBuilder = SecretLockTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedSecretLockTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16978 && headerBuilder.getVersion() == 1) {
-            SecretProofTransactionBodyBuilder bodyBuilder = SecretProofTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedSecretProofTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16708 && headerBuilder.getVersion() == 1) {
-            AccountMetadataTransactionBodyBuilder bodyBuilder = AccountMetadataTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedAccountMetadataTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16964 && headerBuilder.getVersion() == 1) {
-            MosaicMetadataTransactionBodyBuilder bodyBuilder = MosaicMetadataTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedMosaicMetadataTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 17220 && headerBuilder.getVersion() == 1) {
-            NamespaceMetadataTransactionBodyBuilder bodyBuilder = NamespaceMetadataTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedNamespaceMetadataTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16717 && headerBuilder.getVersion() == 1) {
-            MosaicDefinitionTransactionBodyBuilder bodyBuilder = MosaicDefinitionTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedMosaicDefinitionTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16973 && headerBuilder.getVersion() == 1) {
-            MosaicSupplyChangeTransactionBodyBuilder bodyBuilder = MosaicSupplyChangeTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedMosaicSupplyChangeTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16725 && headerBuilder.getVersion() == 1) {
-            MultisigAccountModificationTransactionBodyBuilder bodyBuilder = MultisigAccountModificationTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedMultisigAccountModificationTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16974 && headerBuilder.getVersion() == 1) {
-            AddressAliasTransactionBodyBuilder bodyBuilder = AddressAliasTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedAddressAliasTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 17230 && headerBuilder.getVersion() == 1) {
-            MosaicAliasTransactionBodyBuilder bodyBuilder = MosaicAliasTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedMosaicAliasTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
+    private static EmbeddedTransactionBuilder decode(final DataInputStream stream) {
+        final EmbeddedTransactionBuilder headerBuilder = EmbeddedTransactionBuilder.loadFromBinary(stream);
+        try {
+            final byte[] body = new byte[checkBodySize(headerBuilder)];
+            stream.readFully(body);
+            final TransactionBuilderRegistry.Factory<EmbeddedTransactionBuilder> factory = REGISTRY
+                .get(headerBuilder.getType(), headerBuilder.getVersion());
+            if (factory == null) {
+                return headerBuilder;
+            }
+            return factory.create(headerBuilder, GeneratorUtils.wrap(body), DecodeContext.NONE);
+        } catch (Exception e) {
+            throw GeneratorUtils.getExceptionToPropagate(e);
         }
-                    if (headerBuilder.getType().getValue() == 16718 && headerBuilder.getVersion() == 1) {
-            NamespaceRegistrationTransactionBodyBuilder bodyBuilder = NamespaceRegistrationTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedNamespaceRegistrationTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16720 && headerBuilder.getVersion() == 1) {
-            AccountAddressRestrictionTransactionBodyBuilder bodyBuilder = AccountAddressRestrictionTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedAccountAddressRestrictionTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16976 && headerBuilder.getVersion() == 1) {
-            AccountMosaicRestrictionTransactionBodyBuilder bodyBuilder = AccountMosaicRestrictionTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedAccountMosaicRestrictionTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 17232 && headerBuilder.getVersion() == 1) {
-            AccountOperationRestrictionTransactionBodyBuilder bodyBuilder = AccountOperationRestrictionTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedAccountOperationRestrictionTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16977 && headerBuilder.getVersion() == 1) {
-            MosaicAddressRestrictionTransactionBodyBuilder bodyBuilder = MosaicAddressRestrictionTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedMosaicAddressRestrictionTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16721 && headerBuilder.getVersion() == 1) {
-            MosaicGlobalRestrictionTransactionBodyBuilder bodyBuilder = MosaicGlobalRestrictionTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedMosaicGlobalRestrictionTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16724 && headerBuilder.getVersion() == 1) {
-            TransferTransactionBodyBuilder bodyBuilder = TransferTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return EmbeddedTransferTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-        return headerBuilder;
     }
 
-}
+    /**
+    * It creates the right embedded transaction builder from a little-endian buffer. The body is read in place
+    * and never past the entity size, and the buffer is positioned at the end of the entity.
+    *
+    * @param buffer the buffer, positioned at the start of the embedded transaction
+    * @return the EmbeddedTransactionBuilder subclass
+    */
+    public static EmbeddedTransactionBuilder loadFromBinary(final ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
 
+    /**
+    * It creates the right embedded transaction builder from a little-endian buffer with a decode context. The body is
+    * read in place and never past the entity size, and the buffer is positioned at the end of the entity.
+    *
+    * @param buffer the buffer, positioned at the start of the embedded transaction
+    * @param context the context interning the DTOs and pooling the lists
+    * @return the EmbeddedTransactionBuilder subclass
+    */
+    public static EmbeddedTransactionBuilder loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return GeneratorUtils.decodeSizePrefixed(EmbeddedTransactionBuilder.class, buffer, context, true,
+            EmbeddedTransactionBuilderHelper::decode);
+    }
+
+    private static EmbeddedTransactionBuilder decode(final ByteBuffer buffer, final DecodeContext context) {
+        final EmbeddedTransactionBuilder headerBuilder = EmbeddedTransactionBuilder.loadFromBinary(buffer, context);
+        checkBodySize(headerBuilder);
+        final TransactionBuilderRegistry.Factory<EmbeddedTransactionBuilder> factory = REGISTRY
+            .get(headerBuilder.getType(), headerBuilder.getVersion());
+        if (factory == null) {
+            return headerBuilder;
+        }
+        return factory.create(headerBuilder, buffer, context);
+    }
+
+    /**
+    * Checks that the size of an embedded transaction covers its header and gets the size of its body.
+    *
+    * @param headerBuilder the parsed header
+    * @return the body size
+    */
+    private static int checkBodySize(final EmbeddedTransactionBuilder headerBuilder) {
+        final int bodySize = headerBuilder.getStreamSize() - headerBuilder.getSize();
+        if (bodySize < 0) {
+            throw GeneratorUtils.getExceptionToPropagate(new IOException("Invalid embedded transaction size "
+                + Integer.toUnsignedString(headerBuilder.getStreamSize()) + ", the header size is "
+                + headerBuilder.getSize()));
+        }
+        return bodySize;
+    }
+
+}
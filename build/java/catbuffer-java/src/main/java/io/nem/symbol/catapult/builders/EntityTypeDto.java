@@ -22,6 +22,7 @@
 package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
+import java.nio.ByteBuffer;
 
 /**
 * Enumeration of entity types
@@ -198,12 +199,66 @@ public enum EntityTypeDto implements Serializer {
      * @return Enum value.
      */
     public static EntityTypeDto rawValueOf(final short value) {
-        for (EntityTypeDto current : EntityTypeDto.values()) {
-            if (value == current.value) {
-                return current;
-            }
+        switch (value) {
+            case (short) 0:
+                return RESERVED;
+            case (short) 32835:
+                return NEMESIS_BLOCK_HEADER;
+            case (short) 33091:
+                return NORMAL_BLOCK_HEADER;
+            case (short) 33347:
+                return IMPORTANCE_BLOCK_HEADER;
+            case (short) 16716:
+                return ACCOUNT_KEY_LINK_TRANSACTION;
+            case (short) 16972:
+                return NODE_KEY_LINK_TRANSACTION;
+            case (short) 16705:
+                return AGGREGATE_COMPLETE_TRANSACTION;
+            case (short) 16961:
+                return AGGREGATE_BONDED_TRANSACTION;
+            case (short) 16707:
+                return VOTING_KEY_LINK_TRANSACTION;
+            case (short) 16963:
+                return VRF_KEY_LINK_TRANSACTION;
+            case (short) 16712:
+                return HASH_LOCK_TRANSACTION;
+            case (short) 16722:
+                return SECRET_LOCK_TRANSACTION;
+            case (short) 16978:
+                return SECRET_PROOF_TRANSACTION;
+            case (short) 16708:
+                return ACCOUNT_METADATA_TRANSACTION;
+            case (short) 16964:
+                return MOSAIC_METADATA_TRANSACTION;
+            case (short) 17220:
+                return NAMESPACE_METADATA_TRANSACTION;
+            case (short) 16717:
+                return MOSAIC_DEFINITION_TRANSACTION;
+            case (short) 16973:
+                return MOSAIC_SUPPLY_CHANGE_TRANSACTION;
+            case (short) 16725:
+                return MULTISIG_ACCOUNT_MODIFICATION_TRANSACTION;
+            case (short) 16974:
+                return ADDRESS_ALIAS_TRANSACTION;
+            case (short) 17230:
+                return MOSAIC_ALIAS_TRANSACTION;
+            case (short) 16718:
+                return NAMESPACE_REGISTRATION_TRANSACTION;
+            case (short) 16720:
+                return ACCOUNT_ADDRESS_RESTRICTION_TRANSACTION;
+            case (short) 16976:
+                return ACCOUNT_MOSAIC_RESTRICTION_TRANSACTION;
+            case (short) 17232:
+                return ACCOUNT_OPERATION_RESTRICTION_TRANSACTION;
+            case (short) 16977:
+                return MOSAIC_ADDRESS_RESTRICTION_TRANSACTION;
+            case (short) 16721:
+                return MOSAIC_GLOBAL_RESTRICTION_TRANSACTION;
+            case (short) 16724:
+                return TRANSFER_TRANSACTION;
+            default:
+                throw new IllegalArgumentException(value + " was not a backing value for EntityTypeDto.");
         }
-        throw new IllegalArgumentException(value + " was not a backing value for EntityTypeDto.");
     }
 
     /**
@@ -238,15 +293,45 @@ public enum EntityTypeDto implements Serializer {
         }
     }
 
+    /**
+     * Creates an instance of EntityTypeDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of EntityTypeDto.
+     */
+    public static EntityTypeDto loadFromBinary(final ByteBuffer buffer) {
+        return rawValueOf(GeneratorUtils.readShort(buffer));
+    }
+
+    /**
+     * Creates an instance of EntityTypeDto from a little-endian buffer with a decode context.
+     * Enum constants are shared, so the context is not used.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of EntityTypeDto.
+     */
+    public static EntityTypeDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return loadFromBinary(buffer);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.writeShort(Short.reverseBytes(this.value));
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        GeneratorUtils.writeShort(buffer, this.value);
     }
 }
 
@@ -79,15 +79,46 @@ public final class FinalizationEpochDto implements Serializer {
         return new FinalizationEpochDto(stream);
     }
 
+    /**
+     * Creates an instance of FinalizationEpochDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of FinalizationEpochDto.
+     */
+    public static FinalizationEpochDto loadFromBinary(final ByteBuffer buffer) {
+        return new FinalizationEpochDto(GeneratorUtils.readInt(buffer));
+    }
+
+    /**
+     * Creates an instance of FinalizationEpochDto from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns FinalizationEpochDto.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of FinalizationEpochDto.
+     */
+    public static FinalizationEpochDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return loadFromBinary(buffer);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.writeInt(Integer.reverseBytes(this.getFinalizationEpoch()));
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        GeneratorUtils.writeInt(buffer, this.getFinalizationEpoch());
     }
 }
 
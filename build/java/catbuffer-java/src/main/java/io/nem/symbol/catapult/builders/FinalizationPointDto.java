@@ -79,15 +79,46 @@ public final class FinalizationPointDto implements Serializer {
         return new FinalizationPointDto(stream);
     }
 
+    /**
+     * Creates an instance of FinalizationPointDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of FinalizationPointDto.
+     */
+    public static FinalizationPointDto loadFromBinary(final ByteBuffer buffer) {
+        return new FinalizationPointDto(GeneratorUtils.readInt(buffer));
+    }
+
+    /**
+     * Creates an instance of FinalizationPointDto from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns FinalizationPointDto.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of FinalizationPointDto.
+     */
+    public static FinalizationPointDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return loadFromBinary(buffer);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.writeInt(Integer.reverseBytes(this.getFinalizationPoint()));
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        GeneratorUtils.writeInt(buffer, this.getFinalizationPoint());
     }
 }
 
@@ -25,16 +25,22 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.PushbackInputStream;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
@@ -42,12 +48,329 @@ import java.util.function.Function;
  */
 public final class GeneratorUtils {
 
+    /** Listener notified of the decoded and encoded entities. */
+    private static volatile CodecListener codecListener = CodecListener.NONE;
+
+    /** Decode state of the current thread while the codec listener is enabled. */
+    private static final ThreadLocal<DecodeState> DECODE_STATE = ThreadLocal.withInitial(DecodeState::new);
+
+    /**
+     * Nesting depth and reported failure of the decodes in progress on a thread.
+     */
+    private static final class DecodeState {
+
+        /** Number of nested decodes in progress. */
+        private int depth;
+
+        /** Failure already reported by a nested entity, cleared when the outermost decode ends. */
+        private RuntimeException reportedFailure;
+    }
+
     /**
      * Constructor.
      */
     private GeneratorUtils() {
     }
 
+    /**
+     * Installs the listener notified of the decoded and encoded entities.
+     * While {@link CodecListener#NONE} is installed, the codec only pays for a volatile read and a branch.
+     *
+     * @param listener the listener or {@link CodecListener#NONE} to disable the instrumentation
+     */
+    public static void setCodecListener(final CodecListener listener) {
+        notNull(listener, "listener is null");
+        codecListener = listener;
+    }
+
+    /**
+     * Gets the listener notified of the decoded and encoded entities.
+     *
+     * @return the listener
+     */
+    public static CodecListener getCodecListener() {
+        return codecListener;
+    }
+
+    /**
+     * Decodes an entity from a buffer and reports it to the codec listener.
+     * A buffer that is not little-endian is read as little-endian and its byte order is restored afterwards.
+     *
+     * @param type the type of the entity
+     * @param buffer the buffer positioned at the entity
+     * @param context the decode context
+     * @param decoder the function decoding the entity
+     * @param <T> the type of the entity
+     * @return the entity
+     */
+    public static <T extends Serializer> T decode(final Class<T> type, final ByteBuffer buffer,
+        final DecodeContext context, final BiFunction<ByteBuffer, DecodeContext, ? extends T> decoder) {
+        if (!codecListener.isEnabled() && buffer.order() == ByteOrder.LITTLE_ENDIAN) {
+            return decoder.apply(buffer, context);
+        }
+        return decode(type, buffer, context, false, false, decoder);
+    }
+
+    /**
+     * Decodes a size prefixed entity from a buffer and reports it to the codec listener.
+     * The entity is decoded within the bytes covered by its size, so its trailing arrays stop at its end, and the
+     * buffer limit is restored afterwards. A buffer that is not little-endian is read as little-endian and its byte
+     * order is restored afterwards.
+     *
+     * @param type the type of the entity
+     * @param buffer the buffer positioned at the size of the entity
+     * @param context the decode context
+     * @param skipToEnd whether the buffer is positioned at the end of the entity afterwards, instead of after the
+     *     decoded fields
+     * @param decoder the function decoding the entity
+     * @param <T> the type of the entity
+     * @return the entity
+     */
+    public static <T extends Serializer> T decodeSizePrefixed(final Class<T> type, final ByteBuffer buffer,
+        final DecodeContext context, final boolean skipToEnd,
+        final BiFunction<ByteBuffer, DecodeContext, ? extends T> decoder) {
+        return decode(type, buffer, context, true, skipToEnd, decoder);
+    }
+
+    /**
+     * Decodes an entity from a buffer in little-endian, optionally within its size, and reports it to the codec
+     * listener.
+     *
+     * @param type the type of the entity
+     * @param buffer the buffer positioned at the entity
+     * @param context the decode context
+     * @param sizePrefixed whether the entity starts with its size
+     * @param skipToEnd whether the buffer is positioned at the end of a size prefixed entity afterwards
+     * @param decoder the function decoding the entity
+     * @param <T> the type of the entity
+     * @return the entity
+     */
+    private static <T extends Serializer> T decode(final Class<T> type, final ByteBuffer buffer,
+        final DecodeContext context, final boolean sizePrefixed, final boolean skipToEnd,
+        final BiFunction<ByteBuffer, DecodeContext, ? extends T> decoder) {
+        final CodecListener listener = codecListener;
+        final long startTime = listener.isEnabled() ? System.nanoTime() : 0;
+        final DecodeState state = listener.isEnabled() ? enterDecode() : null;
+        final ByteOrder order = buffer.order();
+        final int start = buffer.position();
+        final int limit = buffer.limit();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            final int end = sizePrefixed ? start + readEntitySize(buffer, start, limit) : limit;
+            buffer.limit(end);
+            final T entity;
+            try {
+                entity = decoder.apply(buffer, context);
+            } catch (BufferUnderflowException e) {
+                if (!sizePrefixed) {
+                    throw e;
+                }
+                final EOFException exception = new EOFException(
+                    "Entity at position " + start + " does not fit in its size " + (end - start));
+                exception.initCause(e);
+                throw getExceptionToPropagate(exception);
+            }
+            if (skipToEnd) {
+                buffer.position(end);
+            }
+            if (listener.isEnabled()) {
+                listener.onDecode(entity, buffer.position() - start, System.nanoTime() - startTime);
+            }
+            return entity;
+        } catch (RuntimeException e) {
+            if (state != null) {
+                reportDecodeFailure(listener, state, type, start, e);
+            }
+            throw e;
+        } finally {
+            buffer.limit(limit);
+            buffer.order(order);
+            if (state != null) {
+                exitDecode(state);
+            }
+        }
+    }
+
+    /**
+     * Reads the size of a size prefixed entity and checks that the entity fits in the buffer.
+     *
+     * @param buffer the little-endian buffer
+     * @param start the offset of the entity
+     * @param limit the buffer limit
+     * @return the size of the entity
+     */
+    private static int readEntitySize(final ByteBuffer buffer, final int start, final int limit) {
+        if (limit - start < Integer.BYTES) {
+            throw getExceptionToPropagate(new EOFException("Truncated entity size at position " + start));
+        }
+        final int size = buffer.getInt(start);
+        if (size < Integer.BYTES) {
+            throw getExceptionToPropagate(new IOException(
+                "Invalid entity size " + Integer.toUnsignedString(size) + " at position " + start));
+        }
+        if (size > limit - start) {
+            throw getExceptionToPropagate(new EOFException(
+                "Entity size " + size + " exceeds the " + (limit - start) + " remaining bytes at position " + start));
+        }
+        return size;
+    }
+
+    /**
+     * Decodes an entity from a stream and reports it to the codec listener.
+     *
+     * @param type the type of the entity
+     * @param stream the stream
+     * @param decoder the function decoding the entity
+     * @param <T> the type of the entity
+     * @return the entity
+     */
+    public static <T extends Serializer> T decode(final Class<T> type, final DataInputStream stream,
+        final Function<DataInputStream, ? extends T> decoder) {
+        final CodecListener listener = codecListener;
+        if (!listener.isEnabled()) {
+            return decoder.apply(stream);
+        }
+        final long startTime = System.nanoTime();
+        final DecodeState state = enterDecode();
+        try {
+            final T entity = decoder.apply(stream);
+            final long nanos = System.nanoTime() - startTime;
+            listener.onDecode(entity, entity.getSize(), nanos);
+            return entity;
+        } catch (RuntimeException e) {
+            reportDecodeFailure(listener, state, type, -1, e);
+            throw e;
+        } finally {
+            exitDecode(state);
+        }
+    }
+
+    /**
+     * Decodes a size prefixed entity from a stream and reports it to the codec listener.
+     * Exactly the bytes covered by the size of the entity are read, so its trailing arrays stop at its end.
+     *
+     * @param type the type of the entity
+     * @param stream the stream positioned at the size of the entity
+     * @param decoder the function decoding the entity
+     * @param <T> the type of the entity
+     * @return the entity
+     */
+    public static <T extends Serializer> T decodeSizePrefixed(final Class<T> type, final DataInputStream stream,
+        final Function<DataInputStream, ? extends T> decoder) {
+        return decode(type, stream, source -> decoder.apply(readSizePrefixed(source)));
+    }
+
+    /**
+     * Reads the bytes of a size prefixed entity, size included.
+     *
+     * @param stream the stream positioned at the size of the entity
+     * @return a stream that ends with the entity
+     */
+    private static DataInputStream readSizePrefixed(final DataInputStream stream) {
+        try {
+            final int size = Integer.reverseBytes(stream.readInt());
+            if (size < Integer.BYTES) {
+                throw new IOException("Invalid entity size " + Integer.toUnsignedString(size));
+            }
+            final byte[] entity = new byte[size];
+            wrap(entity).putInt(size);
+            stream.readFully(entity, Integer.BYTES, size - Integer.BYTES);
+            return new DataInputStream(new ByteArrayInputStream(entity));
+        } catch (IOException e) {
+            throw getExceptionToPropagate(e);
+        }
+    }
+
+    /**
+     * Starts a decode on the current thread.
+     *
+     * @return the decode state of the current thread
+     */
+    private static DecodeState enterDecode() {
+        final DecodeState state = DECODE_STATE.get();
+        state.depth++;
+        return state;
+    }
+
+    /**
+     * Ends a decode on the current thread and forgets the reported failure when it is the outermost one.
+     *
+     * @param state the decode state of the current thread
+     */
+    private static void exitDecode(final DecodeState state) {
+        if (--state.depth == 0) {
+            state.reportedFailure = null;
+        }
+    }
+
+    /**
+     * Reports a decode failure unless it, or the failure it wraps, has already been reported by a nested entity.
+     *
+     * @param listener the listener
+     * @param state the decode state of the current thread
+     * @param type the type of the entity that failed
+     * @param offset the buffer position of the entity or -1
+     * @param exception the exception
+     */
+    private static void reportDecodeFailure(final CodecListener listener, final DecodeState state,
+        final Class<?> type, final long offset, final RuntimeException exception) {
+        if (!isCausedBy(exception, state.reportedFailure)) {
+            state.reportedFailure = exception;
+            listener.onDecodeFailure(type, offset, exception);
+        }
+    }
+
+    /**
+     * Checks whether an exception is, or is caused by, another exception.
+     *
+     * @param exception the exception
+     * @param cause the possible cause or null
+     * @return true if the exception is caused by the cause
+     */
+    private static boolean isCausedBy(final Throwable exception, final Throwable cause) {
+        for (Throwable current = exception; current != null; current = current.getCause()) {
+            if (current == cause) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Serializes an entity into a buffer and reports it to the codec listener.
+     *
+     * @param entity the entity
+     * @param buffer the little-endian buffer to serialize into
+     */
+    private static void encode(final Serializer entity, final ByteBuffer buffer) {
+        final CodecListener listener = codecListener;
+        if (!listener.isEnabled()) {
+            entity.serializeTo(buffer);
+            return;
+        }
+        final int start = buffer.position();
+        final long startTime = System.nanoTime();
+        entity.serializeTo(buffer);
+        listener.onEncode(entity, buffer.position() - start, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Serializes an entity in little-endian into a buffer of another byte order. The byte order of the buffer is
+     * restored afterwards.
+     *
+     * @param entity the entity
+     * @param buffer the buffer to serialize into
+     */
+    public static void serializeLittleEndian(final Serializer entity, final ByteBuffer buffer) {
+        final ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            entity.serializeTo(buffer);
+        } finally {
+            buffer.order(order);
+        }
+    }
+
     /**
      * Throws if the object is null.
      *
@@ -248,6 +571,104 @@ public final class GeneratorUtils {
         });
     }
 
+    /**
+     * Serializes an object into a single buffer sized from {@link Serializer#getSize()}.
+     *
+     * @param serializer the object to serialize
+     * @return Byte array of data written.
+     */
+    public static byte[] serialize(final Serializer serializer) {
+        final ByteBuffer buffer = allocate(serializer.getSize());
+        encode(serializer, buffer);
+        if (buffer.position() == buffer.capacity()) {
+            return buffer.array();
+        }
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    /**
+     * Allocates a heap buffer in the little-endian order used by the catbuffer entities.
+     *
+     * @param size the buffer capacity
+     * @return the buffer
+     */
+    public static ByteBuffer allocate(final int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Wraps a byte array in a little-endian buffer without copying it.
+     *
+     * @param bytes the bytes to wrap
+     * @return the buffer
+     */
+    public static ByteBuffer wrap(final byte[] bytes) {
+        return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Reads a little-endian short at the position of a buffer of any byte order.
+     *
+     * @param buffer the buffer
+     * @return the value
+     */
+    public static short readShort(final ByteBuffer buffer) {
+        final short value = buffer.getShort();
+        return buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Short.reverseBytes(value);
+    }
+
+    /**
+     * Reads a little-endian int at the position of a buffer of any byte order.
+     *
+     * @param buffer the buffer
+     * @return the value
+     */
+    public static int readInt(final ByteBuffer buffer) {
+        final int value = buffer.getInt();
+        return buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Integer.reverseBytes(value);
+    }
+
+    /**
+     * Reads a little-endian long at the position of a buffer of any byte order.
+     *
+     * @param buffer the buffer
+     * @return the value
+     */
+    public static long readLong(final ByteBuffer buffer) {
+        final long value = buffer.getLong();
+        return buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Long.reverseBytes(value);
+    }
+
+    /**
+     * Writes a little-endian short at the position of a buffer of any byte order.
+     *
+     * @param buffer the buffer
+     * @param value the value
+     */
+    public static void writeShort(final ByteBuffer buffer, final short value) {
+        buffer.putShort(buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Short.reverseBytes(value));
+    }
+
+    /**
+     * Writes a little-endian int at the position of a buffer of any byte order.
+     *
+     * @param buffer the buffer
+     * @param value the value
+     */
+    public static void writeInt(final ByteBuffer buffer, final int value) {
+        buffer.putInt(buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Integer.reverseBytes(value));
+    }
+
+    /**
+     * Writes a little-endian long at the position of a buffer of any byte order.
+     *
+     * @param buffer the buffer
+     * @param value the value
+     */
+    public static void writeLong(final ByteBuffer buffer, final long value) {
+        buffer.putLong(buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Long.reverseBytes(value));
+    }
+
     /**
      * It moves the output stream pointer the padding size calculated from the payload size
      *
@@ -284,6 +705,35 @@ public final class GeneratorUtils {
         });
     }
 
+    /**
+     * It moves the buffer position the padding size calculated from the payload size, without
+     * going past the buffer limit.
+     *
+     * @param size the payload size used to calcualted the padding
+     * @param buffer the buffer that will be moved the calcauted padding size
+     * @param alignment Next multiple alignment
+     */
+    public static void skipPadding(int size, final ByteBuffer buffer, int alignment) {
+        final int padding = getPadding(size, alignment);
+        buffer.position(Math.min(buffer.position() + padding, buffer.limit()));
+    }
+
+    /**
+     * This method writes 0 into the buffer. The amount of 0s is the calculated padding size from
+     * provided payload size.
+     *
+     * @param size the payload size used to calcualted the padding
+     * @param buffer used to write the 0s.
+     * @param alignment Next multiple alignment
+     */
+    public static void addPadding(int size, final ByteBuffer buffer, int alignment) {
+        int padding = getPadding(size, alignment);
+        while (padding > 0) {
+            buffer.put((byte) 0);
+            padding--;
+        }
+    }
+
     /**
      * It calcualtes the padding that needs to be added/skipped when processing inner transactions.
      *
@@ -336,21 +786,15 @@ public final class GeneratorUtils {
         final Function<DataInputStream, T> builder, DataInputStream stream, int payloadSize,
         int alignment)
         throws IOException {
-        final ByteBuffer byteCount = ByteBuffer.allocate(payloadSize);
-        stream.read(byteCount.array());
-        final DataInputStream dataInputStream = new DataInputStream(
-            new ByteArrayInputStream(byteCount.array()));
-        List<T> entities = new java.util.ArrayList<>();
-        while (dataInputStream.available() > 0) {
-            T entity = builder.apply(dataInputStream);
-            entities.add(entity);
-            GeneratorUtils.skipPadding(entity.getSize(), dataInputStream, alignment);
-        }
-        return entities;
+        final byte[] payload = new byte[payloadSize];
+        stream.readFully(payload);
+        return readEntities(builder, new DataInputStream(new ByteArrayInputStream(payload)), payloadSize, alignment);
     }
 
     /**
-     * It reads all the remaining entities until the end.
+     * It reads all the remaining entities until the end of the stream, straight from the stream. The stream must be
+     * bounded: reading blocks until it ends. Size prefixed entities are read from a stream that ends with them, so
+     * their trailing arrays stop at their end.
      *
      * @param builder the entity builder
      * @param stream the stream to read from
@@ -363,11 +807,176 @@ public final class GeneratorUtils {
         final Function<DataInputStream, T> builder, DataInputStream stream,
         int alignment)
         throws IOException {
+        final PushbackInputStream source = new PushbackInputStream(stream, 1);
+        final DataInputStream entityStream = new DataInputStream(source);
+        final List<T> entities = new java.util.ArrayList<>();
+        for (int next = source.read(); next >= 0; next = source.read()) {
+            source.unread(next);
+            final T entity = builder.apply(entityStream);
+            entities.add(entity);
+            GeneratorUtils.skipPadding(entity.getSize(), entityStream, alignment);
+        }
+        return entities;
+    }
+
+    /**
+     * Reads the entities contained in the next bytes of a stream, counting the bytes of each entity and its padding.
+     *
+     * @param builder the entity builder
+     * @param stream the stream to read from
+     * @param size the number of bytes holding the entities
+     * @param alignment Next multiple alignment
+     * @param <T> the type of the entity
+     * @return a list of entities
+     */
+    private static <T extends Serializer> List<T> readEntities(final Function<DataInputStream, T> builder,
+        final DataInputStream stream, final int size, final int alignment) {
+        final List<T> entities = new java.util.ArrayList<>();
+        int remaining = size;
+        while (remaining > 0) {
+            final T entity = builder.apply(stream);
+            entities.add(entity);
+            final int entitySize = entity.getSize();
+            GeneratorUtils.skipPadding(entitySize, stream, alignment);
+            remaining -= entitySize + getPadding(entitySize, alignment);
+        }
+        return entities;
+    }
+
+    /**
+     * It reads count elements from the buffer and creates a list using the builder
+     *
+     * @param builder the builder
+     * @param buffer the little-endian buffer
+     * @param count the elements to be read
+     * @param alignment Next multiple alignment
+     * @param <T> the the type to be returned
+     * @return a list of T.
+     */
+    public static <T extends Serializer> List<T> loadFromBinaryArray(
+        final Function<ByteBuffer, T> builder,
+        final ByteBuffer buffer, final long count, final int alignment) {
+        List<T> list = new java.util.ArrayList<>((int) count);
+        for (int i = 0; i < count; i++) {
+            final int start = buffer.position();
+            final T entity = builder.apply(buffer);
+            list.add(entity);
+            GeneratorUtils.skipPadding(buffer.position() - start, buffer, alignment);
+        }
+        return list;
+    }
+
+    /**
+     * It reads all the entities contained in the next payloadSize bytes of the buffer. The
+     * entities are read in place, the buffer limit is restored afterwards.
+     *
+     * @param builder the entity builder
+     * @param buffer the little-endian buffer to read from
+     * @param payloadSize the payload size
+     * @param alignment alignment Next multiple alignment
+     * @param <T> the type of the entity
+     * @return a list of entities
+     */
+    public static <T extends Serializer> List<T> loadFromBinaryArrayRemaining(
+        final Function<ByteBuffer, T> builder, final ByteBuffer buffer, int payloadSize,
+        int alignment) {
+        final int limit = buffer.limit();
+        buffer.limit(buffer.position() + payloadSize);
+        try {
+            return loadFromBinaryArrayRemaining(builder, buffer, alignment);
+        } finally {
+            buffer.limit(limit);
+        }
+    }
+
+    /**
+     * It reads all the remaining entities until the buffer limit.
+     *
+     * @param builder the entity builder
+     * @param buffer the little-endian buffer to read from
+     * @param alignment alignment Next multiple alignment
+     * @param <T> the type of the entity
+     * @return a list of entities
+     */
+    public static <T extends Serializer> List<T> loadFromBinaryArrayRemaining(
+        final Function<ByteBuffer, T> builder, final ByteBuffer buffer, int alignment) {
         List<T> entities = new java.util.ArrayList<>();
-        while (stream.available() > 0) {
-            T entity = builder.apply(stream);
+        while (buffer.hasRemaining()) {
+            final int start = buffer.position();
+            T entity = builder.apply(buffer);
             entities.add(entity);
-            GeneratorUtils.skipPadding(entity.getSize(), stream, alignment);
+            GeneratorUtils.skipPadding(buffer.position() - start, buffer, alignment);
+        }
+        return entities;
+    }
+
+    /**
+     * It reads count elements from the buffer and creates a list using the builder and the decode context
+     *
+     * @param builder the builder
+     * @param buffer the little-endian buffer
+     * @param context the decode context creating the list
+     * @param count the elements to be read
+     * @param alignment Next multiple alignment
+     * @param <T> the the type to be returned
+     * @return a list of T.
+     */
+    public static <T extends Serializer> List<T> loadFromBinaryArray(
+        final BiFunction<ByteBuffer, DecodeContext, T> builder, final ByteBuffer buffer,
+        final DecodeContext context, final long count, final int alignment) {
+        List<T> list = context.newList((int) count);
+        for (int i = 0; i < count; i++) {
+            final int start = buffer.position();
+            final T entity = builder.apply(buffer, context);
+            list.add(entity);
+            GeneratorUtils.skipPadding(buffer.position() - start, buffer, alignment);
+        }
+        return list;
+    }
+
+    /**
+     * It reads all the entities contained in the next payloadSize bytes of the buffer using the decode context. The
+     * entities are read in place, the buffer limit is restored afterwards.
+     *
+     * @param builder the entity builder
+     * @param buffer the little-endian buffer to read from
+     * @param context the decode context creating the list
+     * @param payloadSize the payload size
+     * @param alignment alignment Next multiple alignment
+     * @param <T> the type of the entity
+     * @return a list of entities
+     */
+    public static <T extends Serializer> List<T> loadFromBinaryArrayRemaining(
+        final BiFunction<ByteBuffer, DecodeContext, T> builder, final ByteBuffer buffer,
+        final DecodeContext context, int payloadSize, int alignment) {
+        final int limit = buffer.limit();
+        buffer.limit(buffer.position() + payloadSize);
+        try {
+            return loadFromBinaryArrayRemaining(builder, buffer, context, alignment);
+        } finally {
+            buffer.limit(limit);
+        }
+    }
+
+    /**
+     * It reads all the remaining entities until the buffer limit using the decode context.
+     *
+     * @param builder the entity builder
+     * @param buffer the little-endian buffer to read from
+     * @param context the decode context creating the list
+     * @param alignment alignment Next multiple alignment
+     * @param <T> the type of the entity
+     * @return a list of entities
+     */
+    public static <T extends Serializer> List<T> loadFromBinaryArrayRemaining(
+        final BiFunction<ByteBuffer, DecodeContext, T> builder, final ByteBuffer buffer,
+        final DecodeContext context, int alignment) {
+        List<T> entities = context.newList(10);
+        while (buffer.hasRemaining()) {
+            final int start = buffer.position();
+            T entity = builder.apply(buffer, context);
+            entities.add(entity);
+            GeneratorUtils.skipPadding(buffer.position() - start, buffer, alignment);
         }
         return entities;
     }
@@ -402,6 +1011,32 @@ public final class GeneratorUtils {
         dataOutputStream.write(entityBytes, 0, entityBytes.length);
     }
 
+    /**
+     * Write a list of catbuffer entities into the buffer.
+     *
+     * @param buffer the little-endian buffer to serialize into
+     * @param entities the entities to be serialized
+     * @param alignment alignment Next multiple alignment
+     */
+    public static void writeList(final ByteBuffer buffer,
+        final List<? extends Serializer> entities, int alignment) {
+        for (Serializer entity : entities) {
+            final int start = buffer.position();
+            encode(entity, buffer);
+            GeneratorUtils.addPadding(buffer.position() - start, buffer, alignment);
+        }
+    }
+
+    /**
+     * Write a serializer into the buffer.
+     *
+     * @param buffer the little-endian buffer to serialize into
+     * @param entity the entities to be serialized
+     */
+    public static void writeEntity(final ByteBuffer buffer, final Serializer entity) {
+        encode(entity, buffer);
+    }
+
     /**
      * Read a {@link ByteBuffer} of the given size form the strem
      *
@@ -417,6 +1052,74 @@ public final class GeneratorUtils {
         return buffer;
     }
 
+    /**
+     * Read a {@link ByteBuffer} of the given size from the buffer
+     *
+     * @param buffer the source buffer
+     * @param size the size of the buffer to read
+     * @return the buffer
+     */
+    public static ByteBuffer readByteBuffer(final ByteBuffer buffer, final int size) {
+        ByteBuffer result = ByteBuffer.allocate(size);
+        buffer.get(result.array());
+        return result;
+    }
+
+    /**
+     * Read a {@link ByteBuffer} of the given size at an absolute index of the buffer.
+     * The buffer position is not changed.
+     *
+     * @param buffer the source buffer
+     * @param index the index of the first byte to read
+     * @param size the size of the buffer to read
+     * @return the buffer
+     */
+    public static ByteBuffer readByteBuffer(final ByteBuffer buffer, final int index, final int size) {
+        ByteBuffer result = ByteBuffer.allocate(size);
+        for (int i = 0; i < size; i++) {
+            result.put(i, buffer.get(index + i));
+        }
+        return result;
+    }
+
+    /**
+     * Copies the bytes between two absolute indexes of the buffer, for example the bytes just written by
+     * serializeTo. The buffer position is not changed.
+     *
+     * @param buffer the source buffer
+     * @param start the index of the first byte to copy
+     * @param end the index just after the last byte to copy
+     * @return the bytes
+     */
+    public static byte[] getBytes(final ByteBuffer buffer, final int start, final int end) {
+        final byte[] bytes = new byte[end - start];
+        final ByteBuffer source = buffer.duplicate();
+        source.position(start);
+        source.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Compares the bytes at an absolute index of the buffer with the content of the value without copying.
+     *
+     * @param buffer the source buffer
+     * @param index the index of the first byte to compare
+     * @param value the expected bytes
+     * @return true if the buffer contains all the bytes of the value at the given index
+     */
+    public static boolean equals(final ByteBuffer buffer, final int index, final ByteBuffer value) {
+        final byte[] bytes = value.array();
+        if (index < 0 || index + bytes.length > buffer.limit()) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (buffer.get(index + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns the size of the buffer.
      *
@@ -79,15 +79,46 @@ public final class Hash256Dto implements Serializer {
         return new Hash256Dto(stream);
     }
 
+    /**
+     * Creates an instance of Hash256Dto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of Hash256Dto.
+     */
+    public static Hash256Dto loadFromBinary(final ByteBuffer buffer) {
+        return new Hash256Dto(GeneratorUtils.readByteBuffer(buffer, 32));
+    }
+
+    /**
+     * Creates an instance of Hash256Dto from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns Hash256Dto.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of Hash256Dto.
+     */
+    public static Hash256Dto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return context.intern(Hash256Dto.class, buffer, 32, Hash256Dto::new);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.write(this.hash256.array(), 0, this.hash256.array().length);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        buffer.put(this.hash256.array());
     }
 }
 
@@ -79,15 +79,46 @@ public final class Hash512Dto implements Serializer {
         return new Hash512Dto(stream);
     }
 
+    /**
+     * Creates an instance of Hash512Dto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of Hash512Dto.
+     */
+    public static Hash512Dto loadFromBinary(final ByteBuffer buffer) {
+        return new Hash512Dto(GeneratorUtils.readByteBuffer(buffer, 64));
+    }
+
+    /**
+     * Creates an instance of Hash512Dto from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns Hash512Dto.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of Hash512Dto.
+     */
+    public static Hash512Dto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return context.intern(Hash512Dto.class, buffer, 64, Hash512Dto::new);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.write(this.hash512.array(), 0, this.hash512.array().length);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        buffer.put(this.hash512.array());
     }
 }
 
@@ -79,15 +79,46 @@ public final class ImportanceDto implements Serializer {
         return new ImportanceDto(stream);
     }
 
+    /**
+     * Creates an instance of ImportanceDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of ImportanceDto.
+     */
+    public static ImportanceDto loadFromBinary(final ByteBuffer buffer) {
+        return new ImportanceDto(GeneratorUtils.readLong(buffer));
+    }
+
+    /**
+     * Creates an instance of ImportanceDto from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns ImportanceDto.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of ImportanceDto.
+     */
+    public static ImportanceDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return context.intern(ImportanceDto.class, GeneratorUtils.readLong(buffer), ImportanceDto::new);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.writeLong(Long.reverseBytes(this.getImportance()));
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        GeneratorUtils.writeLong(buffer, this.getImportance());
     }
 }
 
@@ -79,15 +79,46 @@ public final class KeyDto implements Serializer {
         return new KeyDto(stream);
     }
 
+    /**
+     * Creates an instance of KeyDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of KeyDto.
+     */
+    public static KeyDto loadFromBinary(final ByteBuffer buffer) {
+        return new KeyDto(GeneratorUtils.readByteBuffer(buffer, 32));
+    }
+
+    /**
+     * Creates an instance of KeyDto from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns KeyDto.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of KeyDto.
+     */
+    public static KeyDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return context.intern(KeyDto.class, buffer, 32, KeyDto::new);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.write(this.key.array(), 0, this.key.array().length);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        buffer.put(this.key.array());
     }
 }
 
@@ -22,6 +22,7 @@
 package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
+import java.nio.ByteBuffer;
 
 /**
 * Enumeration of lock hash algorithms
@@ -57,12 +58,16 @@ public enum LockHashAlgorithmDto implements Serializer {
      * @return Enum value.
      */
     public static LockHashAlgorithmDto rawValueOf(final byte value) {
-        for (LockHashAlgorithmDto current : LockHashAlgorithmDto.values()) {
-            if (value == current.value) {
-                return current;
-            }
+        switch (value) {
+            case (byte) 0:
+                return SHA3_256;
+            case (byte) 1:
+                return HASH_160;
+            case (byte) 2:
+                return HASH_256;
+            default:
+                throw new IllegalArgumentException(value + " was not a backing value for LockHashAlgorithmDto.");
         }
-        throw new IllegalArgumentException(value + " was not a backing value for LockHashAlgorithmDto.");
     }
 
     /**
@@ -97,15 +102,45 @@ public enum LockHashAlgorithmDto implements Serializer {
         }
     }
 
+    /**
+     * Creates an instance of LockHashAlgorithmDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of LockHashAlgorithmDto.
+     */
+    public static LockHashAlgorithmDto loadFromBinary(final ByteBuffer buffer) {
+        return rawValueOf(buffer.get());
+    }
+
+    /**
+     * Creates an instance of LockHashAlgorithmDto from a little-endian buffer with a decode context.
+     * Enum constants are shared, so the context is not used.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of LockHashAlgorithmDto.
+     */
+    public static LockHashAlgorithmDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return loadFromBinary(buffer);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.writeByte(this.value);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        buffer.put(this.value);
     }
 }
 
@@ -0,0 +1,175 @@
+/**
+*** Copyright (c) 2016-2019, Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp.
+*** Copyright (c) 2020-present, Jaguar0625, gimre, BloodyRookie.
+*** All rights reserved.
+***
+*** This file is part of Catapult.
+***
+*** Catapult is free software: you can redistribute it and/or modify
+*** it under the terms of the GNU Lesser General Public License as published by
+*** the Free Software Foundation, either version 3 of the License, or
+*** (at your option) any later version.
+***
+*** Catapult is distributed in the hope that it will be useful,
+*** but WITHOUT ANY WARRANTY; without even the implied warranty of
+*** MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+*** GNU Lesser General Public License for more details.
+***
+*** You should have received a copy of the GNU Lesser General Public License
+*** along with Catapult. If not, see <http://www.gnu.org/licenses/>.
+**/
+
+package io.nem.symbol.catapult.builders;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental builder of the Merkle root of a list of hashes, as used by the transactionsHash of aggregate
+ * transactions. A level with an odd number of nodes duplicates its last node, a single hash is its own root and an
+ * empty list has a zero root.
+ *
+ * Appending a hash only hashes the pairs it completes, so updating the root after each inner transaction costs
+ * O(log n) hashes instead of rehashing the whole list. Instances are not thread safe.
+ */
+public final class MerkleHashBuilder {
+
+    /** Size of the hashes. */
+    private static final int HASH_SIZE = 32;
+
+    /** Digest used to hash the inner transactions and the pairs of nodes. */
+    private final MessageDigest digest;
+
+    /** Nodes of each level that only depend on complete pairs of the level below. */
+    private final List<List<byte[]>> levels = new ArrayList<>();
+
+    /** Root of the current hashes or null if it needs to be calculated. */
+    private Hash256Dto root;
+
+    /**
+     * Constructor using the SHA3-256 digest of the installed security providers.
+     */
+    public MerkleHashBuilder() {
+        this(getSha3Digest());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param digest Digest producing 32 byte hashes.
+     */
+    public MerkleHashBuilder(final MessageDigest digest) {
+        GeneratorUtils.notNull(digest, "digest is null");
+        GeneratorUtils.isTrue(digest.getDigestLength() == HASH_SIZE, "Digest length must be %d", HASH_SIZE);
+        this.digest = digest;
+    }
+
+    /**
+     * Calculates the transactionsHash of the inner transactions of an aggregate.
+     *
+     * @param transactions Inner transactions.
+     * @return Merkle root of the inner transaction hashes.
+     */
+    public static Hash256Dto calculateTransactionsHash(final List<? extends EmbeddedTransactionBuilder> transactions) {
+        final MerkleHashBuilder builder = new MerkleHashBuilder();
+        transactions.forEach(builder::update);
+        return builder.getRoot();
+    }
+
+    /**
+     * Appends the hash of an inner transaction.
+     * The transaction is serialized with serialize(), so transactions with enableCache(), including the transactions
+     * of an aggregate with enableCache(), are not encoded again.
+     *
+     * @param transaction Inner transaction.
+     * @return This builder.
+     */
+    public MerkleHashBuilder update(final EmbeddedTransactionBuilder transaction) {
+        return this.append(this.digest.digest(transaction.serialize()));
+    }
+
+    /**
+     * Appends a hash.
+     *
+     * @param hash Hash to append.
+     * @return This builder.
+     */
+    public MerkleHashBuilder update(final Hash256Dto hash) {
+        return this.append(hash.serialize());
+    }
+
+    /**
+     * Gets the number of hashes appended so far.
+     *
+     * @return Number of hashes.
+     */
+    public int getCount() {
+        return this.levels.isEmpty() ? 0 : this.levels.get(0).size();
+    }
+
+    /**
+     * Gets the Merkle root of the hashes appended so far.
+     *
+     * @return Merkle root.
+     */
+    public Hash256Dto getRoot() {
+        if (this.root == null) {
+            this.root = new Hash256Dto(ByteBuffer.wrap(this.calculateRoot()));
+        }
+        return this.root;
+    }
+
+    private MerkleHashBuilder append(final byte[] hash) {
+        byte[] node = hash;
+        for (int level = 0; node != null; level++) {
+            if (level == this.levels.size()) {
+                this.levels.add(new ArrayList<>());
+            }
+            final List<byte[]> nodes = this.levels.get(level);
+            nodes.add(node);
+            final int count = nodes.size();
+            node = count % 2 == 0 ? this.hashPair(nodes.get(count - 2), node) : null;
+        }
+        this.root = null;
+        return this;
+    }
+
+    private byte[] calculateRoot() {
+        if (this.levels.isEmpty()) {
+            return new byte[HASH_SIZE];
+        }
+        // The carry is the node built from the incomplete pairs of the levels below.
+        byte[] carry = null;
+        for (int level = 0; ; level++) {
+            final List<byte[]> nodes = level < this.levels.size() ? this.levels.get(level) : new ArrayList<>();
+            final int count = nodes.size() + (carry == null ? 0 : 1);
+            if (count == 1) {
+                return carry == null ? nodes.get(0) : carry;
+            }
+            if (nodes.size() % 2 == 1) {
+                final byte[] last = nodes.get(nodes.size() - 1);
+                carry = this.hashPair(last, carry == null ? last : carry);
+            } else if (carry != null) {
+                carry = this.hashPair(carry, carry);
+            }
+        }
+    }
+
+    private byte[] hashPair(final byte[] left, final byte[] right) {
+        this.digest.update(left);
+        this.digest.update(right);
+        return this.digest.digest();
+    }
+
+    private static MessageDigest getSha3Digest() {
+        try {
+            return MessageDigest.getInstance("SHA3-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA3-256 is not available, provide the digest explicitly", e);
+        }
+    }
+}
+
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -49,6 +50,18 @@ public class MetadataEntryBuilder extends StateHeaderBuilder implements Serializ
     /** Value. **/
     private final MetadataValueBuilder value;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -75,7 +88,46 @@ public class MetadataEntryBuilder extends StateHeaderBuilder implements Serializ
      * @return Instance of MetadataEntryBuilder.
      */
     public static MetadataEntryBuilder loadFromBinary(DataInputStream stream) {
-        return new MetadataEntryBuilder(stream);
+        return GeneratorUtils.decode(MetadataEntryBuilder.class, stream, MetadataEntryBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected MetadataEntryBuilder(ByteBuffer buffer, DecodeContext context) {
+        super(buffer, context);
+        this.sourceAddress = AddressDto.loadFromBinary(buffer, context);
+        this.targetAddress = AddressDto.loadFromBinary(buffer, context);
+        this.scopedMetadataKey = ScopedMetadataKeyDto.loadFromBinary(buffer, context);
+        this.targetId = buffer.getLong();
+        this.metadataType = MetadataTypeDto.loadFromBinary(buffer, context);
+        this.value = MetadataValueBuilder.loadFromBinary(buffer, context);
+    }
+
+    /**
+     * Creates an instance of MetadataEntryBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of MetadataEntryBuilder.
+     */
+    public static MetadataEntryBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of MetadataEntryBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of MetadataEntryBuilder.
+     */
+    public static MetadataEntryBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(MetadataEntryBuilder.class, buffer, context, MetadataEntryBuilder::new);
     }
     
     /**
@@ -177,12 +229,39 @@ public class MetadataEntryBuilder extends StateHeaderBuilder implements Serializ
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public MetadataEntryBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        super.enableSizeCache();
+        this.sizeCacheEnabled = true;
+        this.value.enableSizeCache();
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = super.getSize();
         size += this.sourceAddress.getSize();
         size += this.targetAddress.getSize();
@@ -190,6 +269,9 @@ public class MetadataEntryBuilder extends StateHeaderBuilder implements Serializ
         size += 8; // targetId
         size += this.metadataType.getSize();
         size += this.value.getSize();
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -201,16 +283,36 @@ public class MetadataEntryBuilder extends StateHeaderBuilder implements Serializ
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            final byte[] superBytes = super.serialize();
-            dataOutputStream.write(superBytes, 0, superBytes.length);
-            GeneratorUtils.writeEntity(dataOutputStream, this.sourceAddress);
-            GeneratorUtils.writeEntity(dataOutputStream, this.targetAddress);
-            GeneratorUtils.writeEntity(dataOutputStream, this.scopedMetadataKey);
-            dataOutputStream.writeLong(Long.reverseBytes((long) this.getTargetId()));
-            GeneratorUtils.writeEntity(dataOutputStream, this.metadataType);
-            GeneratorUtils.writeEntity(dataOutputStream, this.value);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        super.serializeTo(buffer);
+        GeneratorUtils.writeEntity(buffer, this.sourceAddress);
+        GeneratorUtils.writeEntity(buffer, this.targetAddress);
+        GeneratorUtils.writeEntity(buffer, this.scopedMetadataKey);
+        buffer.putLong((long) this.getTargetId());
+        GeneratorUtils.writeEntity(buffer, this.metadataType);
+        GeneratorUtils.writeEntity(buffer, this.value);
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
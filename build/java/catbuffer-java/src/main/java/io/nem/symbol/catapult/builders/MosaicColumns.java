@@ -0,0 +1,196 @@
+/**
+*** Copyright (c) 2016-2019, Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp.
+*** Copyright (c) 2020-present, Jaguar0625, gimre, BloodyRookie.
+*** All rights reserved.
+***
+*** This file is part of Catapult.
+***
+*** Catapult is free software: you can redistribute it and/or modify
+*** it under the terms of the GNU Lesser General Public License as published by
+*** the Free Software Foundation, either version 3 of the License, or
+*** (at your option) any later version.
+***
+*** Catapult is distributed in the hope that it will be useful,
+*** but WITHOUT ANY WARRANTY; without even the implied warranty of
+*** MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+*** GNU Lesser General Public License for more details.
+***
+*** You should have received a copy of the GNU Lesser General Public License
+*** along with Catapult. If not, see <http://www.gnu.org/licenses/>.
+**/
+
+package io.nem.symbol.catapult.builders;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Primitive storage of a list of mosaics. The ids and the amounts are kept in two long arrays instead of a builder
+ * and two DTOs per mosaic. The arrays only grow and are kept by {@link #clear()}, so an instance can be reused.
+ */
+public final class MosaicColumns {
+
+    /** Size of a serialized mosaic (id and amount). */
+    private static final int MOSAIC_SIZE = 16;
+
+    /** Mosaic ids. */
+    private long[] mosaicIds;
+
+    /** Amounts. */
+    private long[] amounts;
+
+    /** Number of mosaics. */
+    private int size;
+
+    /**
+     * Constructor.
+     */
+    public MosaicColumns() {
+        this(8);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity Initial capacity.
+     */
+    public MosaicColumns(final int capacity) {
+        GeneratorUtils.isTrue(capacity >= 0, "Invalid capacity %d", capacity);
+        this.mosaicIds = new long[capacity];
+        this.amounts = new long[capacity];
+    }
+
+    /**
+     * Gets the number of mosaics.
+     *
+     * @return Number of mosaics.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the id of a mosaic.
+     *
+     * @param index Index of the mosaic.
+     * @return Mosaic id.
+     */
+    public long getMosaicId(final int index) {
+        this.checkIndex(index);
+        return this.mosaicIds[index];
+    }
+
+    /**
+     * Gets the amount of a mosaic.
+     *
+     * @param index Index of the mosaic.
+     * @return Amount.
+     */
+    public long getAmount(final int index) {
+        this.checkIndex(index);
+        return this.amounts[index];
+    }
+
+    /**
+     * Finds the index of a mosaic id.
+     *
+     * @param mosaicId Mosaic id.
+     * @return Index of the first mosaic with this id or -1.
+     */
+    public int indexOf(final long mosaicId) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.mosaicIds[i] == mosaicId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Appends a mosaic.
+     *
+     * @param mosaicId Mosaic id.
+     * @param amount Amount.
+     */
+    public void add(final long mosaicId, final long amount) {
+        this.ensureCapacity(this.size + 1);
+        this.mosaicIds[this.size] = mosaicId;
+        this.amounts[this.size] = amount;
+        this.size++;
+    }
+
+    /**
+     * Removes all the mosaics, keeping the arrays.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * Appends serialized mosaics read at an absolute offset of a buffer. The mosaics are read in little-endian
+     * whatever the byte order of the buffer, and the buffer position is not changed.
+     *
+     * @param buffer Buffer holding the mosaics.
+     * @param offset Offset of the first mosaic.
+     * @param count Number of mosaics.
+     * @return This object.
+     */
+    public MosaicColumns readFrom(final ByteBuffer buffer, final int offset, final int count) {
+        GeneratorUtils.isTrue(count >= 0 && offset + (long) count * MOSAIC_SIZE <= buffer.limit(),
+            "Invalid mosaics [%d, %d)", offset, count);
+        final ByteBuffer source = buffer.order() == ByteOrder.LITTLE_ENDIAN ? buffer
+            : buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.ensureCapacity(this.size + count);
+        for (int i = 0, mosaicOffset = offset; i < count; i++, mosaicOffset += MOSAIC_SIZE) {
+            this.mosaicIds[this.size] = source.getLong(mosaicOffset);
+            this.amounts[this.size] = source.getLong(mosaicOffset + 8);
+            this.size++;
+        }
+        return this;
+    }
+
+    /**
+     * Creates the builders of the mosaics.
+     *
+     * @return The mosaics.
+     */
+    public List<MosaicBuilder> toMosaics() {
+        final List<MosaicBuilder> mosaics = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            mosaics.add(MosaicBuilder.create(new MosaicIdDto(this.mosaicIds[i]), new AmountDto(this.amounts[i])));
+        }
+        return mosaics;
+    }
+
+    /**
+     * Creates the builders of the mosaics as unresolved mosaics.
+     *
+     * @return The mosaics.
+     */
+    public List<UnresolvedMosaicBuilder> toUnresolvedMosaics() {
+        final List<UnresolvedMosaicBuilder> mosaics = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            mosaics.add(UnresolvedMosaicBuilder.create(new UnresolvedMosaicIdDto(this.mosaicIds[i]),
+                new AmountDto(this.amounts[i])));
+        }
+        return mosaics;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > this.mosaicIds.length) {
+            final int newCapacity = Math.max(capacity, this.mosaicIds.length * 2);
+            this.mosaicIds = Arrays.copyOf(this.mosaicIds, newCapacity);
+            this.amounts = Arrays.copyOf(this.amounts, newCapacity);
+        }
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Invalid mosaic index " + index);
+        }
+    }
+}
+
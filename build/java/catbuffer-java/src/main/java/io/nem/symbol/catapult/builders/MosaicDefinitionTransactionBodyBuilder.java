@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -46,6 +47,18 @@ public class MosaicDefinitionTransactionBodyBuilder implements Serializer {
     /** Mosaic divisibility. **/
     private final byte divisibility;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -70,7 +83,44 @@ public class MosaicDefinitionTransactionBodyBuilder implements Serializer {
      * @return Instance of MosaicDefinitionTransactionBodyBuilder.
      */
     public static MosaicDefinitionTransactionBodyBuilder loadFromBinary(DataInputStream stream) {
-        return new MosaicDefinitionTransactionBodyBuilder(stream);
+        return GeneratorUtils.decode(MosaicDefinitionTransactionBodyBuilder.class, stream, MosaicDefinitionTransactionBodyBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected MosaicDefinitionTransactionBodyBuilder(ByteBuffer buffer, DecodeContext context) {
+        this.id = MosaicIdDto.loadFromBinary(buffer, context);
+        this.duration = BlockDurationDto.loadFromBinary(buffer, context);
+        this.nonce = MosaicNonceDto.loadFromBinary(buffer, context);
+        this.flags = GeneratorUtils.toSet(MosaicFlagsDto.class, buffer.get());
+        this.divisibility = buffer.get();
+    }
+
+    /**
+     * Creates an instance of MosaicDefinitionTransactionBodyBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of MosaicDefinitionTransactionBodyBuilder.
+     */
+    public static MosaicDefinitionTransactionBodyBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of MosaicDefinitionTransactionBodyBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of MosaicDefinitionTransactionBodyBuilder.
+     */
+    public static MosaicDefinitionTransactionBodyBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(MosaicDefinitionTransactionBodyBuilder.class, buffer, context, MosaicDefinitionTransactionBodyBuilder::new);
     }
     
     /**
@@ -155,18 +205,46 @@ public class MosaicDefinitionTransactionBodyBuilder implements Serializer {
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public MosaicDefinitionTransactionBodyBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        this.sizeCacheEnabled = true;
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = 0;
         size += this.id.getSize();
         size += this.duration.getSize();
         size += this.nonce.getSize();
         size += MosaicFlagsDto.values()[0].getSize();
         size += 1; // divisibility
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -178,13 +256,34 @@ public class MosaicDefinitionTransactionBodyBuilder implements Serializer {
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            GeneratorUtils.writeEntity(dataOutputStream, this.id);
-            GeneratorUtils.writeEntity(dataOutputStream, this.duration);
-            GeneratorUtils.writeEntity(dataOutputStream, this.nonce);
-            dataOutputStream.writeByte((byte) GeneratorUtils.toLong(MosaicFlagsDto.class, this.flags));
-            dataOutputStream.writeByte((byte) this.getDivisibility());
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        GeneratorUtils.writeEntity(buffer, this.id);
+        GeneratorUtils.writeEntity(buffer, this.duration);
+        GeneratorUtils.writeEntity(buffer, this.nonce);
+        buffer.put((byte) GeneratorUtils.toLong(MosaicFlagsDto.class, this.flags));
+        buffer.put((byte) this.getDivisibility());
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -52,6 +53,18 @@ public class MosaicGlobalRestrictionTransactionBodyBuilder implements Serializer
     /** New restriction type. **/
     private final MosaicRestrictionTypeDto newRestrictionType;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -78,7 +91,46 @@ public class MosaicGlobalRestrictionTransactionBodyBuilder implements Serializer
      * @return Instance of MosaicGlobalRestrictionTransactionBodyBuilder.
      */
     public static MosaicGlobalRestrictionTransactionBodyBuilder loadFromBinary(DataInputStream stream) {
-        return new MosaicGlobalRestrictionTransactionBodyBuilder(stream);
+        return GeneratorUtils.decode(MosaicGlobalRestrictionTransactionBodyBuilder.class, stream, MosaicGlobalRestrictionTransactionBodyBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected MosaicGlobalRestrictionTransactionBodyBuilder(ByteBuffer buffer, DecodeContext context) {
+        this.mosaicId = UnresolvedMosaicIdDto.loadFromBinary(buffer, context);
+        this.referenceMosaicId = UnresolvedMosaicIdDto.loadFromBinary(buffer, context);
+        this.restrictionKey = buffer.getLong();
+        this.previousRestrictionValue = buffer.getLong();
+        this.newRestrictionValue = buffer.getLong();
+        this.previousRestrictionType = MosaicRestrictionTypeDto.loadFromBinary(buffer, context);
+        this.newRestrictionType = MosaicRestrictionTypeDto.loadFromBinary(buffer, context);
+    }
+
+    /**
+     * Creates an instance of MosaicGlobalRestrictionTransactionBodyBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of MosaicGlobalRestrictionTransactionBodyBuilder.
+     */
+    public static MosaicGlobalRestrictionTransactionBodyBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of MosaicGlobalRestrictionTransactionBodyBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of MosaicGlobalRestrictionTransactionBodyBuilder.
+     */
+    public static MosaicGlobalRestrictionTransactionBodyBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(MosaicGlobalRestrictionTransactionBodyBuilder.class, buffer, context, MosaicGlobalRestrictionTransactionBodyBuilder::new);
     }
     
     /**
@@ -189,12 +241,37 @@ public class MosaicGlobalRestrictionTransactionBodyBuilder implements Serializer
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public MosaicGlobalRestrictionTransactionBodyBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        this.sizeCacheEnabled = true;
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = 0;
         size += this.mosaicId.getSize();
         size += this.referenceMosaicId.getSize();
@@ -203,6 +280,9 @@ public class MosaicGlobalRestrictionTransactionBodyBuilder implements Serializer
         size += 8; // newRestrictionValue
         size += this.previousRestrictionType.getSize();
         size += this.newRestrictionType.getSize();
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -214,15 +294,36 @@ public class MosaicGlobalRestrictionTransactionBodyBuilder implements Serializer
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            GeneratorUtils.writeEntity(dataOutputStream, this.mosaicId);
-            GeneratorUtils.writeEntity(dataOutputStream, this.referenceMosaicId);
-            dataOutputStream.writeLong(Long.reverseBytes((long) this.getRestrictionKey()));
-            dataOutputStream.writeLong(Long.reverseBytes((long) this.getPreviousRestrictionValue()));
-            dataOutputStream.writeLong(Long.reverseBytes((long) this.getNewRestrictionValue()));
-            GeneratorUtils.writeEntity(dataOutputStream, this.previousRestrictionType);
-            GeneratorUtils.writeEntity(dataOutputStream, this.newRestrictionType);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        GeneratorUtils.writeEntity(buffer, this.mosaicId);
+        GeneratorUtils.writeEntity(buffer, this.referenceMosaicId);
+        buffer.putLong((long) this.getRestrictionKey());
+        buffer.putLong((long) this.getPreviousRestrictionValue());
+        buffer.putLong((long) this.getNewRestrictionValue());
+        GeneratorUtils.writeEntity(buffer, this.previousRestrictionType);
+        GeneratorUtils.writeEntity(buffer, this.newRestrictionType);
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
@@ -79,15 +79,46 @@ public final class MosaicIdDto implements Serializer {
         return new MosaicIdDto(stream);
     }
 
+    /**
+     * Creates an instance of MosaicIdDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of MosaicIdDto.
+     */
+    public static MosaicIdDto loadFromBinary(final ByteBuffer buffer) {
+        return new MosaicIdDto(GeneratorUtils.readLong(buffer));
+    }
+
+    /**
+     * Creates an instance of MosaicIdDto from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns MosaicIdDto.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of MosaicIdDto.
+     */
+    public static MosaicIdDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return context.intern(MosaicIdDto.class, GeneratorUtils.readLong(buffer), MosaicIdDto::new);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.writeLong(Long.reverseBytes(this.getMosaicId()));
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        GeneratorUtils.writeLong(buffer, this.getMosaicId());
     }
 }
 
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -40,6 +41,18 @@ public class MosaicRestrictionEntryBuilder extends StateHeaderBuilder implements
     /** Global mosaic rule. **/
     private MosaicGlobalRestrictionEntryBuilder globalEntry;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -67,7 +80,47 @@ public class MosaicRestrictionEntryBuilder extends StateHeaderBuilder implements
      * @return Instance of MosaicRestrictionEntryBuilder.
      */
     public static MosaicRestrictionEntryBuilder loadFromBinary(DataInputStream stream) {
-        return new MosaicRestrictionEntryBuilder(stream);
+        return GeneratorUtils.decode(MosaicRestrictionEntryBuilder.class, stream, MosaicRestrictionEntryBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected MosaicRestrictionEntryBuilder(ByteBuffer buffer, DecodeContext context) {
+        super(buffer, context);
+        this.entryType = MosaicRestrictionEntryTypeDto.loadFromBinary(buffer, context);
+        if (this.entryType == MosaicRestrictionEntryTypeDto.ADDRESS) {
+            this.addressEntry = MosaicAddressRestrictionEntryBuilder.loadFromBinary(buffer, context);
+        }
+        if (this.entryType == MosaicRestrictionEntryTypeDto.GLOBAL) {
+            this.globalEntry = MosaicGlobalRestrictionEntryBuilder.loadFromBinary(buffer, context);
+        }
+    }
+
+    /**
+     * Creates an instance of MosaicRestrictionEntryBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of MosaicRestrictionEntryBuilder.
+     */
+    public static MosaicRestrictionEntryBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of MosaicRestrictionEntryBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of MosaicRestrictionEntryBuilder.
+     */
+    public static MosaicRestrictionEntryBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(MosaicRestrictionEntryBuilder.class, buffer, context, MosaicRestrictionEntryBuilder::new);
     }
     
     /**
@@ -151,12 +204,44 @@ public class MosaicRestrictionEntryBuilder extends StateHeaderBuilder implements
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public MosaicRestrictionEntryBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        super.enableSizeCache();
+        this.sizeCacheEnabled = true;
+        if (this.addressEntry != null) {
+            this.addressEntry.enableSizeCache();
+        }
+        if (this.globalEntry != null) {
+            this.globalEntry.enableSizeCache();
+        }
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = super.getSize();
         size += this.entryType.getSize();
         if (this.entryType == MosaicRestrictionEntryTypeDto.ADDRESS) {
@@ -165,6 +250,9 @@ public class MosaicRestrictionEntryBuilder extends StateHeaderBuilder implements
         if (this.entryType == MosaicRestrictionEntryTypeDto.GLOBAL) {
             size += this.globalEntry.getSize();
         }
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -176,17 +264,37 @@ public class MosaicRestrictionEntryBuilder extends StateHeaderBuilder implements
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            final byte[] superBytes = super.serialize();
-            dataOutputStream.write(superBytes, 0, superBytes.length);
-            GeneratorUtils.writeEntity(dataOutputStream, this.entryType);
-            if (this.entryType == MosaicRestrictionEntryTypeDto.ADDRESS) {
-                GeneratorUtils.writeEntity(dataOutputStream, this.addressEntry);
-            }
-            if (this.entryType == MosaicRestrictionEntryTypeDto.GLOBAL) {
-                GeneratorUtils.writeEntity(dataOutputStream, this.globalEntry);
-            }
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        super.serializeTo(buffer);
+        GeneratorUtils.writeEntity(buffer, this.entryType);
+        if (this.entryType == MosaicRestrictionEntryTypeDto.ADDRESS) {
+            GeneratorUtils.writeEntity(buffer, this.addressEntry);
+        }
+        if (this.entryType == MosaicRestrictionEntryTypeDto.GLOBAL) {
+            GeneratorUtils.writeEntity(buffer, this.globalEntry);
+        }
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
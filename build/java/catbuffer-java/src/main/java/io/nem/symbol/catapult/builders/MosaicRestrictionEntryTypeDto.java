@@ -22,6 +22,7 @@
 package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
+import java.nio.ByteBuffer;
 
 /**
 * Type of mosaic restriction entry
@@ -54,12 +55,14 @@ public enum MosaicRestrictionEntryTypeDto implements Serializer {
      * @return Enum value.
      */
     public static MosaicRestrictionEntryTypeDto rawValueOf(final byte value) {
-        for (MosaicRestrictionEntryTypeDto current : MosaicRestrictionEntryTypeDto.values()) {
-            if (value == current.value) {
-                return current;
-            }
+        switch (value) {
+            case (byte) 0:
+                return ADDRESS;
+            case (byte) 1:
+                return GLOBAL;
+            default:
+                throw new IllegalArgumentException(value + " was not a backing value for MosaicRestrictionEntryTypeDto.");
         }
-        throw new IllegalArgumentException(value + " was not a backing value for MosaicRestrictionEntryTypeDto.");
     }
 
     /**
@@ -94,15 +97,45 @@ public enum MosaicRestrictionEntryTypeDto implements Serializer {
         }
     }
 
+    /**
+     * Creates an instance of MosaicRestrictionEntryTypeDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of MosaicRestrictionEntryTypeDto.
+     */
+    public static MosaicRestrictionEntryTypeDto loadFromBinary(final ByteBuffer buffer) {
+        return rawValueOf(buffer.get());
+    }
+
+    /**
+     * Creates an instance of MosaicRestrictionEntryTypeDto from a little-endian buffer with a decode context.
+     * Enum constants are shared, so the context is not used.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of MosaicRestrictionEntryTypeDto.
+     */
+    public static MosaicRestrictionEntryTypeDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return loadFromBinary(buffer);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.writeByte(this.value);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        buffer.put(this.value);
     }
 }
 
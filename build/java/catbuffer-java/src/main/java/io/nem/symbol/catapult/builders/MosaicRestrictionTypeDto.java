@@ -22,6 +22,7 @@
 package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
+import java.nio.ByteBuffer;
 
 /**
 * Enumeration of mosaic restriction types
@@ -69,12 +70,24 @@ public enum MosaicRestrictionTypeDto implements Serializer {
      * @return Enum value.
      */
     public static MosaicRestrictionTypeDto rawValueOf(final byte value) {
-        for (MosaicRestrictionTypeDto current : MosaicRestrictionTypeDto.values()) {
-            if (value == current.value) {
-                return current;
-            }
+        switch (value) {
+            case (byte) 0:
+                return NONE;
+            case (byte) 1:
+                return EQ;
+            case (byte) 2:
+                return NE;
+            case (byte) 3:
+                return LT;
+            case (byte) 4:
+                return LE;
+            case (byte) 5:
+                return GT;
+            case (byte) 6:
+                return GE;
+            default:
+                throw new IllegalArgumentException(value + " was not a backing value for MosaicRestrictionTypeDto.");
         }
-        throw new IllegalArgumentException(value + " was not a backing value for MosaicRestrictionTypeDto.");
     }
 
     /**
@@ -109,15 +122,45 @@ public enum MosaicRestrictionTypeDto implements Serializer {
         }
     }
 
+    /**
+     * Creates an instance of MosaicRestrictionTypeDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of MosaicRestrictionTypeDto.
+     */
+    public static MosaicRestrictionTypeDto loadFromBinary(final ByteBuffer buffer) {
+        return rawValueOf(buffer.get());
+    }
+
+    /**
+     * Creates an instance of MosaicRestrictionTypeDto from a little-endian buffer with a decode context.
+     * Enum constants are shared, so the context is not used.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of MosaicRestrictionTypeDto.
+     */
+    public static MosaicRestrictionTypeDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return loadFromBinary(buffer);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.writeByte(this.value);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        buffer.put(this.value);
     }
 }
 
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -46,6 +47,18 @@ public class MultisigAccountModificationTransactionBodyBuilder implements Serial
     /** Cosignatory address deletions. **/
     private final List<UnresolvedAddressDto> addressDeletions;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -72,7 +85,46 @@ public class MultisigAccountModificationTransactionBodyBuilder implements Serial
      * @return Instance of MultisigAccountModificationTransactionBodyBuilder.
      */
     public static MultisigAccountModificationTransactionBodyBuilder loadFromBinary(DataInputStream stream) {
-        return new MultisigAccountModificationTransactionBodyBuilder(stream);
+        return GeneratorUtils.decode(MultisigAccountModificationTransactionBodyBuilder.class, stream, MultisigAccountModificationTransactionBodyBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected MultisigAccountModificationTransactionBodyBuilder(ByteBuffer buffer, DecodeContext context) {
+        this.minRemovalDelta = buffer.get();
+        this.minApprovalDelta = buffer.get();
+        final byte addressAdditionsCount = buffer.get();
+        final byte addressDeletionsCount = buffer.get();
+        this.multisigAccountModificationTransactionBody_Reserved1 = buffer.getInt();
+        this.addressAdditions = GeneratorUtils.loadFromBinaryArray(UnresolvedAddressDto::loadFromBinary, buffer, context, addressAdditionsCount, 0);
+        this.addressDeletions = GeneratorUtils.loadFromBinaryArray(UnresolvedAddressDto::loadFromBinary, buffer, context, addressDeletionsCount, 0);
+    }
+
+    /**
+     * Creates an instance of MultisigAccountModificationTransactionBodyBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of MultisigAccountModificationTransactionBodyBuilder.
+     */
+    public static MultisigAccountModificationTransactionBodyBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of MultisigAccountModificationTransactionBodyBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of MultisigAccountModificationTransactionBodyBuilder.
+     */
+    public static MultisigAccountModificationTransactionBodyBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(MultisigAccountModificationTransactionBodyBuilder.class, buffer, context, MultisigAccountModificationTransactionBodyBuilder::new);
     }
     
     /**
@@ -154,12 +206,37 @@ public class MultisigAccountModificationTransactionBodyBuilder implements Serial
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public MultisigAccountModificationTransactionBodyBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        this.sizeCacheEnabled = true;
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = 0;
         size += 1; // minRemovalDelta
         size += 1; // minApprovalDelta
@@ -168,6 +245,9 @@ public class MultisigAccountModificationTransactionBodyBuilder implements Serial
         size += 4; // multisigAccountModificationTransactionBody_Reserved1
         size +=  GeneratorUtils.getSumSize(this.addressAdditions, 0);
         size +=  GeneratorUtils.getSumSize(this.addressDeletions, 0);
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -179,15 +259,36 @@ public class MultisigAccountModificationTransactionBodyBuilder implements Serial
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            dataOutputStream.writeByte((byte) this.getMinRemovalDelta());
-            dataOutputStream.writeByte((byte) this.getMinApprovalDelta());
-            dataOutputStream.writeByte((byte) GeneratorUtils.getSize(this.getAddressAdditions()));
-            dataOutputStream.writeByte((byte) GeneratorUtils.getSize(this.getAddressDeletions()));
-            dataOutputStream.writeInt(Integer.reverseBytes((int) this.getMultisigAccountModificationTransactionBody_Reserved1()));
-            GeneratorUtils.writeList(dataOutputStream, this.addressAdditions, 0);
-            GeneratorUtils.writeList(dataOutputStream, this.addressDeletions, 0);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        buffer.put((byte) this.getMinRemovalDelta());
+        buffer.put((byte) this.getMinApprovalDelta());
+        buffer.put((byte) GeneratorUtils.getSize(this.getAddressAdditions()));
+        buffer.put((byte) GeneratorUtils.getSize(this.getAddressDeletions()));
+        buffer.putInt((int) this.getMultisigAccountModificationTransactionBody_Reserved1());
+        GeneratorUtils.writeList(buffer, this.addressAdditions, 0);
+        GeneratorUtils.writeList(buffer, this.addressDeletions, 0);
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -46,6 +47,18 @@ public class MultisigEntryBuilder extends StateHeaderBuilder implements Serializ
     /** Accounts for which the entry is cosignatory. **/
     private final List<AddressDto> multisigAddresses;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -73,7 +86,47 @@ public class MultisigEntryBuilder extends StateHeaderBuilder implements Serializ
      * @return Instance of MultisigEntryBuilder.
      */
     public static MultisigEntryBuilder loadFromBinary(DataInputStream stream) {
-        return new MultisigEntryBuilder(stream);
+        return GeneratorUtils.decode(MultisigEntryBuilder.class, stream, MultisigEntryBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected MultisigEntryBuilder(ByteBuffer buffer, DecodeContext context) {
+        super(buffer, context);
+        this.minApproval = buffer.getInt();
+        this.minRemoval = buffer.getInt();
+        this.accountAddress = AddressDto.loadFromBinary(buffer, context);
+        final long cosignatoryAddressesCount = buffer.getLong();
+        this.cosignatoryAddresses = GeneratorUtils.loadFromBinaryArray(AddressDto::loadFromBinary, buffer, context, cosignatoryAddressesCount, 0);
+        final long multisigAddressesCount = buffer.getLong();
+        this.multisigAddresses = GeneratorUtils.loadFromBinaryArray(AddressDto::loadFromBinary, buffer, context, multisigAddressesCount, 0);
+    }
+
+    /**
+     * Creates an instance of MultisigEntryBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of MultisigEntryBuilder.
+     */
+    public static MultisigEntryBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of MultisigEntryBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of MultisigEntryBuilder.
+     */
+    public static MultisigEntryBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(MultisigEntryBuilder.class, buffer, context, MultisigEntryBuilder::new);
     }
     
     /**
@@ -162,12 +215,38 @@ public class MultisigEntryBuilder extends StateHeaderBuilder implements Serializ
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public MultisigEntryBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        super.enableSizeCache();
+        this.sizeCacheEnabled = true;
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = super.getSize();
         size += 4; // minApproval
         size += 4; // minRemoval
@@ -176,6 +255,9 @@ public class MultisigEntryBuilder extends StateHeaderBuilder implements Serializ
         size +=  GeneratorUtils.getSumSize(this.cosignatoryAddresses, 0);
         size += 8; // multisigAddressesCount
         size +=  GeneratorUtils.getSumSize(this.multisigAddresses, 0);
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -187,17 +269,37 @@ public class MultisigEntryBuilder extends StateHeaderBuilder implements Serializ
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            final byte[] superBytes = super.serialize();
-            dataOutputStream.write(superBytes, 0, superBytes.length);
-            dataOutputStream.writeInt(Integer.reverseBytes((int) this.getMinApproval()));
-            dataOutputStream.writeInt(Integer.reverseBytes((int) this.getMinRemoval()));
-            GeneratorUtils.writeEntity(dataOutputStream, this.accountAddress);
-            dataOutputStream.writeLong(Long.reverseBytes((long) GeneratorUtils.getSize(this.getCosignatoryAddresses())));
-            GeneratorUtils.writeList(dataOutputStream, this.cosignatoryAddresses, 0);
-            dataOutputStream.writeLong(Long.reverseBytes((long) GeneratorUtils.getSize(this.getMultisigAddresses())));
-            GeneratorUtils.writeList(dataOutputStream, this.multisigAddresses, 0);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        super.serializeTo(buffer);
+        buffer.putInt((int) this.getMinApproval());
+        buffer.putInt((int) this.getMinRemoval());
+        GeneratorUtils.writeEntity(buffer, this.accountAddress);
+        buffer.putLong((long) GeneratorUtils.getSize(this.getCosignatoryAddresses()));
+        GeneratorUtils.writeList(buffer, this.cosignatoryAddresses, 0);
+        buffer.putLong((long) GeneratorUtils.getSize(this.getMultisigAddresses()));
+        GeneratorUtils.writeList(buffer, this.multisigAddresses, 0);
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -40,6 +41,18 @@ public class NamespaceAliasBuilder implements Serializer {
     /** Address alias. **/
     private AddressDto addressAlias;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -66,7 +79,46 @@ public class NamespaceAliasBuilder implements Serializer {
      * @return Instance of NamespaceAliasBuilder.
      */
     public static NamespaceAliasBuilder loadFromBinary(DataInputStream stream) {
-        return new NamespaceAliasBuilder(stream);
+        return GeneratorUtils.decode(NamespaceAliasBuilder.class, stream, NamespaceAliasBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected NamespaceAliasBuilder(ByteBuffer buffer, DecodeContext context) {
+        this.namespaceAliasType = NamespaceAliasTypeDto.loadFromBinary(buffer, context);
+        if (this.namespaceAliasType == NamespaceAliasTypeDto.MOSAIC_ID) {
+            this.mosaicAlias = MosaicIdDto.loadFromBinary(buffer, context);
+        }
+        if (this.namespaceAliasType == NamespaceAliasTypeDto.ADDRESS) {
+            this.addressAlias = AddressDto.loadFromBinary(buffer, context);
+        }
+    }
+
+    /**
+     * Creates an instance of NamespaceAliasBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of NamespaceAliasBuilder.
+     */
+    public static NamespaceAliasBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of NamespaceAliasBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of NamespaceAliasBuilder.
+     */
+    public static NamespaceAliasBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(NamespaceAliasBuilder.class, buffer, context, NamespaceAliasBuilder::new);
     }
     
     /**
@@ -155,12 +207,37 @@ public class NamespaceAliasBuilder implements Serializer {
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public NamespaceAliasBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        this.sizeCacheEnabled = true;
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = 0;
         size += this.namespaceAliasType.getSize();
         if (this.namespaceAliasType == NamespaceAliasTypeDto.MOSAIC_ID) {
@@ -169,6 +246,9 @@ public class NamespaceAliasBuilder implements Serializer {
         if (this.namespaceAliasType == NamespaceAliasTypeDto.ADDRESS) {
             size += this.addressAlias.getSize();
         }
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -180,15 +260,36 @@ public class NamespaceAliasBuilder implements Serializer {
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            GeneratorUtils.writeEntity(dataOutputStream, this.namespaceAliasType);
-            if (this.namespaceAliasType == NamespaceAliasTypeDto.MOSAIC_ID) {
-                GeneratorUtils.writeEntity(dataOutputStream, this.mosaicAlias);
-            }
-            if (this.namespaceAliasType == NamespaceAliasTypeDto.ADDRESS) {
-                GeneratorUtils.writeEntity(dataOutputStream, this.addressAlias);
-            }
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        GeneratorUtils.writeEntity(buffer, this.namespaceAliasType);
+        if (this.namespaceAliasType == NamespaceAliasTypeDto.MOSAIC_ID) {
+            GeneratorUtils.writeEntity(buffer, this.mosaicAlias);
+        }
+        if (this.namespaceAliasType == NamespaceAliasTypeDto.ADDRESS) {
+            GeneratorUtils.writeEntity(buffer, this.addressAlias);
+        }
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -46,6 +47,18 @@ public class NamespaceMetadataTransactionBodyBuilder implements Serializer {
     /** Difference between existing value and new value \note when there is no existing value, new value is same this value \note when there is an existing value, new value is calculated as xor(previous-value, value). **/
     private final ByteBuffer value;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -71,7 +84,45 @@ public class NamespaceMetadataTransactionBodyBuilder implements Serializer {
      * @return Instance of NamespaceMetadataTransactionBodyBuilder.
      */
     public static NamespaceMetadataTransactionBodyBuilder loadFromBinary(DataInputStream stream) {
-        return new NamespaceMetadataTransactionBodyBuilder(stream);
+        return GeneratorUtils.decode(NamespaceMetadataTransactionBodyBuilder.class, stream, NamespaceMetadataTransactionBodyBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected NamespaceMetadataTransactionBodyBuilder(ByteBuffer buffer, DecodeContext context) {
+        this.targetAddress = UnresolvedAddressDto.loadFromBinary(buffer, context);
+        this.scopedMetadataKey = buffer.getLong();
+        this.targetNamespaceId = NamespaceIdDto.loadFromBinary(buffer, context);
+        this.valueSizeDelta = buffer.getShort();
+        final short valueSize = buffer.getShort();
+        this.value = GeneratorUtils.readByteBuffer(buffer, valueSize);
+    }
+
+    /**
+     * Creates an instance of NamespaceMetadataTransactionBodyBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of NamespaceMetadataTransactionBodyBuilder.
+     */
+    public static NamespaceMetadataTransactionBodyBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of NamespaceMetadataTransactionBodyBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of NamespaceMetadataTransactionBodyBuilder.
+     */
+    public static NamespaceMetadataTransactionBodyBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(NamespaceMetadataTransactionBodyBuilder.class, buffer, context, NamespaceMetadataTransactionBodyBuilder::new);
     }
     
     /**
@@ -156,12 +207,37 @@ public class NamespaceMetadataTransactionBodyBuilder implements Serializer {
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public NamespaceMetadataTransactionBodyBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        this.sizeCacheEnabled = true;
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = 0;
         size += this.targetAddress.getSize();
         size += 8; // scopedMetadataKey
@@ -169,6 +245,9 @@ public class NamespaceMetadataTransactionBodyBuilder implements Serializer {
         size += 2; // valueSizeDelta
         size += 2; // valueSize
         size += this.value.array().length;
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -180,14 +259,35 @@ public class NamespaceMetadataTransactionBodyBuilder implements Serializer {
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            GeneratorUtils.writeEntity(dataOutputStream, this.targetAddress);
-            dataOutputStream.writeLong(Long.reverseBytes((long) this.getScopedMetadataKey()));
-            GeneratorUtils.writeEntity(dataOutputStream, this.targetNamespaceId);
-            dataOutputStream.writeShort(Short.reverseBytes((short) this.getValueSizeDelta()));
-            dataOutputStream.writeShort(Short.reverseBytes((short) GeneratorUtils.getSize(this.getValue())));
-            dataOutputStream.write(this.value.array(), 0, this.value.array().length);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        GeneratorUtils.writeEntity(buffer, this.targetAddress);
+        buffer.putLong((long) this.getScopedMetadataKey());
+        GeneratorUtils.writeEntity(buffer, this.targetNamespaceId);
+        buffer.putShort((short) this.getValueSizeDelta());
+        buffer.putShort((short) GeneratorUtils.getSize(this.getValue()));
+        buffer.put(this.value.array());
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -46,6 +47,18 @@ public class NamespaceRegistrationTransactionBodyBuilder implements Serializer {
     /** Namespace name. **/
     private final ByteBuffer name;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -76,7 +89,50 @@ public class NamespaceRegistrationTransactionBodyBuilder implements Serializer {
      * @return Instance of NamespaceRegistrationTransactionBodyBuilder.
      */
     public static NamespaceRegistrationTransactionBodyBuilder loadFromBinary(DataInputStream stream) {
-        return new NamespaceRegistrationTransactionBodyBuilder(stream);
+        return GeneratorUtils.decode(NamespaceRegistrationTransactionBodyBuilder.class, stream, NamespaceRegistrationTransactionBodyBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected NamespaceRegistrationTransactionBodyBuilder(ByteBuffer buffer, DecodeContext context) {
+        final long registrationTypeCondition = buffer.getLong();
+        this.id = NamespaceIdDto.loadFromBinary(buffer, context);
+        this.registrationType = NamespaceRegistrationTypeDto.loadFromBinary(buffer, context);
+        final byte nameSize = buffer.get();
+        this.name = GeneratorUtils.readByteBuffer(buffer, nameSize);
+        if (this.registrationType == NamespaceRegistrationTypeDto.ROOT) {
+            this.duration = new BlockDurationDto(registrationTypeCondition);
+        }
+        if (this.registrationType == NamespaceRegistrationTypeDto.CHILD) {
+            this.parentId = new NamespaceIdDto(registrationTypeCondition);
+        }
+    }
+
+    /**
+     * Creates an instance of NamespaceRegistrationTransactionBodyBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of NamespaceRegistrationTransactionBodyBuilder.
+     */
+    public static NamespaceRegistrationTransactionBodyBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of NamespaceRegistrationTransactionBodyBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of NamespaceRegistrationTransactionBodyBuilder.
+     */
+    public static NamespaceRegistrationTransactionBodyBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(NamespaceRegistrationTransactionBodyBuilder.class, buffer, context, NamespaceRegistrationTransactionBodyBuilder::new);
     }
     
     /**
@@ -183,12 +239,37 @@ public class NamespaceRegistrationTransactionBodyBuilder implements Serializer {
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public NamespaceRegistrationTransactionBodyBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        this.sizeCacheEnabled = true;
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = 0;
         if (this.registrationType == NamespaceRegistrationTypeDto.ROOT) {
             size += this.duration.getSize();
@@ -200,6 +281,9 @@ public class NamespaceRegistrationTransactionBodyBuilder implements Serializer {
         size += this.registrationType.getSize();
         size += 1; // nameSize
         size += this.name.array().length;
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -211,18 +295,39 @@ public class NamespaceRegistrationTransactionBodyBuilder implements Serializer {
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            if (this.registrationType == NamespaceRegistrationTypeDto.ROOT) {
-                GeneratorUtils.writeEntity(dataOutputStream, this.duration);
-            }
-            if (this.registrationType == NamespaceRegistrationTypeDto.CHILD) {
-                GeneratorUtils.writeEntity(dataOutputStream, this.parentId);
-            }
-            GeneratorUtils.writeEntity(dataOutputStream, this.id);
-            GeneratorUtils.writeEntity(dataOutputStream, this.registrationType);
-            dataOutputStream.writeByte((byte) GeneratorUtils.getSize(this.getName()));
-            dataOutputStream.write(this.name.array(), 0, this.name.array().length);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        if (this.registrationType == NamespaceRegistrationTypeDto.ROOT) {
+            GeneratorUtils.writeEntity(buffer, this.duration);
+        }
+        if (this.registrationType == NamespaceRegistrationTypeDto.CHILD) {
+            GeneratorUtils.writeEntity(buffer, this.parentId);
+        }
+        GeneratorUtils.writeEntity(buffer, this.id);
+        GeneratorUtils.writeEntity(buffer, this.registrationType);
+        buffer.put((byte) GeneratorUtils.getSize(this.getName()));
+        buffer.put(this.name.array());
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
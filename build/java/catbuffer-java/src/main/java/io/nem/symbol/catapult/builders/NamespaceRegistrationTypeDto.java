@@ -22,6 +22,7 @@
 package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
+import java.nio.ByteBuffer;
 
 /**
 * Enumeration of namespace registration types
@@ -54,12 +55,14 @@ public enum NamespaceRegistrationTypeDto implements Serializer {
      * @return Enum value.
      */
     public static NamespaceRegistrationTypeDto rawValueOf(final byte value) {
-        for (NamespaceRegistrationTypeDto current : NamespaceRegistrationTypeDto.values()) {
-            if (value == current.value) {
-                return current;
-            }
+        switch (value) {
+            case (byte) 0:
+                return ROOT;
+            case (byte) 1:
+                return CHILD;
+            default:
+                throw new IllegalArgumentException(value + " was not a backing value for NamespaceRegistrationTypeDto.");
         }
-        throw new IllegalArgumentException(value + " was not a backing value for NamespaceRegistrationTypeDto.");
     }
 
     /**
@@ -94,15 +97,45 @@ public enum NamespaceRegistrationTypeDto implements Serializer {
         }
     }
 
+    /**
+     * Creates an instance of NamespaceRegistrationTypeDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of NamespaceRegistrationTypeDto.
+     */
+    public static NamespaceRegistrationTypeDto loadFromBinary(final ByteBuffer buffer) {
+        return rawValueOf(buffer.get());
+    }
+
+    /**
+     * Creates an instance of NamespaceRegistrationTypeDto from a little-endian buffer with a decode context.
+     * Enum constants are shared, so the context is not used.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of NamespaceRegistrationTypeDto.
+     */
+    public static NamespaceRegistrationTypeDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return loadFromBinary(buffer);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.writeByte(this.value);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        buffer.put(this.value);
     }
 }
 
@@ -22,6 +22,7 @@
 package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
+import java.nio.ByteBuffer;
 
 /**
 * Enumeration of network types
@@ -66,12 +67,22 @@ public enum NetworkTypeDto implements Serializer {
      * @return Enum value.
      */
     public static NetworkTypeDto rawValueOf(final byte value) {
-        for (NetworkTypeDto current : NetworkTypeDto.values()) {
-            if (value == current.value) {
-                return current;
-            }
+        switch (value) {
+            case (byte) 96:
+                return MIJIN;
+            case (byte) 104:
+                return PUBLIC;
+            case (byte) 120:
+                return PRIVATE;
+            case (byte) 144:
+                return MIJIN_TEST;
+            case (byte) 152:
+                return PUBLIC_TEST;
+            case (byte) 168:
+                return PRIVATE_TEST;
+            default:
+                throw new IllegalArgumentException(value + " was not a backing value for NetworkTypeDto.");
         }
-        throw new IllegalArgumentException(value + " was not a backing value for NetworkTypeDto.");
     }
 
     /**
@@ -106,15 +117,45 @@ public enum NetworkTypeDto implements Serializer {
         }
     }
 
+    /**
+     * Creates an instance of NetworkTypeDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of NetworkTypeDto.
+     */
+    public static NetworkTypeDto loadFromBinary(final ByteBuffer buffer) {
+        return rawValueOf(buffer.get());
+    }
+
+    /**
+     * Creates an instance of NetworkTypeDto from a little-endian buffer with a decode context.
+     * Enum constants are shared, so the context is not used.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of NetworkTypeDto.
+     */
+    public static NetworkTypeDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return loadFromBinary(buffer);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.writeByte(this.value);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        buffer.put(this.value);
     }
 }
 
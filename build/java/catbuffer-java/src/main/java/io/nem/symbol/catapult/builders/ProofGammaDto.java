@@ -79,15 +79,46 @@ public final class ProofGammaDto implements Serializer {
         return new ProofGammaDto(stream);
     }
 
+    /**
+     * Creates an instance of ProofGammaDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of ProofGammaDto.
+     */
+    public static ProofGammaDto loadFromBinary(final ByteBuffer buffer) {
+        return new ProofGammaDto(GeneratorUtils.readByteBuffer(buffer, 32));
+    }
+
+    /**
+     * Creates an instance of ProofGammaDto from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns ProofGammaDto.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of ProofGammaDto.
+     */
+    public static ProofGammaDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return context.intern(ProofGammaDto.class, buffer, 32, ProofGammaDto::new);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.write(this.proofGamma.array(), 0, this.proofGamma.array().length);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        buffer.put(this.proofGamma.array());
     }
 }
 
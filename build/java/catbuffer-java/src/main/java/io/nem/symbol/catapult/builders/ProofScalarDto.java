@@ -79,15 +79,46 @@ public final class ProofScalarDto implements Serializer {
         return new ProofScalarDto(stream);
     }
 
+    /**
+     * Creates an instance of ProofScalarDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of ProofScalarDto.
+     */
+    public static ProofScalarDto loadFromBinary(final ByteBuffer buffer) {
+        return new ProofScalarDto(GeneratorUtils.readByteBuffer(buffer, 32));
+    }
+
+    /**
+     * Creates an instance of ProofScalarDto from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns ProofScalarDto.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of ProofScalarDto.
+     */
+    public static ProofScalarDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return context.intern(ProofScalarDto.class, buffer, 32, ProofScalarDto::new);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.write(this.proofScalar.array(), 0, this.proofScalar.array().length);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        buffer.put(this.proofScalar.array());
     }
 }
 
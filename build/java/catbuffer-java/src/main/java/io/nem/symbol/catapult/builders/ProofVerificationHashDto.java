@@ -79,15 +79,46 @@ public final class ProofVerificationHashDto implements Serializer {
         return new ProofVerificationHashDto(stream);
     }
 
+    /**
+     * Creates an instance of ProofVerificationHashDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of ProofVerificationHashDto.
+     */
+    public static ProofVerificationHashDto loadFromBinary(final ByteBuffer buffer) {
+        return new ProofVerificationHashDto(GeneratorUtils.readByteBuffer(buffer, 16));
+    }
+
+    /**
+     * Creates an instance of ProofVerificationHashDto from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns ProofVerificationHashDto.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of ProofVerificationHashDto.
+     */
+    public static ProofVerificationHashDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return context.intern(ProofVerificationHashDto.class, buffer, 16, ProofVerificationHashDto::new);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.write(this.proofVerificationHash.array(), 0, this.proofVerificationHash.array().length);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        buffer.put(this.proofVerificationHash.array());
     }
 }
 
@@ -22,6 +22,7 @@
 package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
+import java.nio.ByteBuffer;
 
 /**
 * Enumeration of receipt types
@@ -99,12 +100,44 @@ public enum ReceiptTypeDto implements Serializer {
      * @return Enum value.
      */
     public static ReceiptTypeDto rawValueOf(final short value) {
-        for (ReceiptTypeDto current : ReceiptTypeDto.values()) {
-            if (value == current.value) {
-                return current;
-            }
+        switch (value) {
+            case (short) 0:
+                return RESERVED;
+            case (short) 4685:
+                return MOSAIC_RENTAL_FEE;
+            case (short) 4942:
+                return NAMESPACE_RENTAL_FEE;
+            case (short) 8515:
+                return HARVEST_FEE;
+            case (short) 8776:
+                return LOCK_HASH_COMPLETED;
+            case (short) 9032:
+                return LOCK_HASH_EXPIRED;
+            case (short) 8786:
+                return LOCK_SECRET_COMPLETED;
+            case (short) 9042:
+                return LOCK_SECRET_EXPIRED;
+            case (short) 12616:
+                return LOCK_HASH_CREATED;
+            case (short) 12626:
+                return LOCK_SECRET_CREATED;
+            case (short) 16717:
+                return MOSAIC_EXPIRED;
+            case (short) 16718:
+                return NAMESPACE_EXPIRED;
+            case (short) 16974:
+                return NAMESPACE_DELETED;
+            case (short) 20803:
+                return INFLATION;
+            case (short) 57667:
+                return TRANSACTION_GROUP;
+            case (short) 61763:
+                return ADDRESS_ALIAS_RESOLUTION;
+            case (short) 62019:
+                return MOSAIC_ALIAS_RESOLUTION;
+            default:
+                throw new IllegalArgumentException(value + " was not a backing value for ReceiptTypeDto.");
         }
-        throw new IllegalArgumentException(value + " was not a backing value for ReceiptTypeDto.");
     }
 
     /**
@@ -139,15 +172,45 @@ public enum ReceiptTypeDto implements Serializer {
         }
     }
 
+    /**
+     * Creates an instance of ReceiptTypeDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of ReceiptTypeDto.
+     */
+    public static ReceiptTypeDto loadFromBinary(final ByteBuffer buffer) {
+        return rawValueOf(GeneratorUtils.readShort(buffer));
+    }
+
+    /**
+     * Creates an instance of ReceiptTypeDto from a little-endian buffer with a decode context.
+     * Enum constants are shared, so the context is not used.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of ReceiptTypeDto.
+     */
+    public static ReceiptTypeDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return loadFromBinary(buffer);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.writeShort(Short.reverseBytes(this.value));
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        GeneratorUtils.writeShort(buffer, this.value);
     }
 }
 
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -46,6 +47,18 @@ public class RootNamespaceHistoryBuilder extends StateHeaderBuilder implements S
     /** Save child sub-namespace paths. **/
     private final List<NamespacePathBuilder> paths;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -72,7 +85,46 @@ public class RootNamespaceHistoryBuilder extends StateHeaderBuilder implements S
      * @return Instance of RootNamespaceHistoryBuilder.
      */
     public static RootNamespaceHistoryBuilder loadFromBinary(DataInputStream stream) {
-        return new RootNamespaceHistoryBuilder(stream);
+        return GeneratorUtils.decode(RootNamespaceHistoryBuilder.class, stream, RootNamespaceHistoryBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected RootNamespaceHistoryBuilder(ByteBuffer buffer, DecodeContext context) {
+        super(buffer, context);
+        this.id = NamespaceIdDto.loadFromBinary(buffer, context);
+        this.ownerAddress = AddressDto.loadFromBinary(buffer, context);
+        this.lifetime = NamespaceLifetimeBuilder.loadFromBinary(buffer, context);
+        this.rootAlias = NamespaceAliasBuilder.loadFromBinary(buffer, context);
+        final long childrenCount = buffer.getLong();
+        this.paths = GeneratorUtils.loadFromBinaryArray(NamespacePathBuilder::loadFromBinary, buffer, context, childrenCount, 0);
+    }
+
+    /**
+     * Creates an instance of RootNamespaceHistoryBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of RootNamespaceHistoryBuilder.
+     */
+    public static RootNamespaceHistoryBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of RootNamespaceHistoryBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of RootNamespaceHistoryBuilder.
+     */
+    public static RootNamespaceHistoryBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(RootNamespaceHistoryBuilder.class, buffer, context, RootNamespaceHistoryBuilder::new);
     }
     
     /**
@@ -161,12 +213,41 @@ public class RootNamespaceHistoryBuilder extends StateHeaderBuilder implements S
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public RootNamespaceHistoryBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        super.enableSizeCache();
+        this.sizeCacheEnabled = true;
+        this.lifetime.enableSizeCache();
+        this.rootAlias.enableSizeCache();
+        this.paths.forEach(NamespacePathBuilder::enableSizeCache);
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = super.getSize();
         size += this.id.getSize();
         size += this.ownerAddress.getSize();
@@ -174,6 +255,9 @@ public class RootNamespaceHistoryBuilder extends StateHeaderBuilder implements S
         size += this.rootAlias.getSize();
         size += 8; // childrenCount
         size +=  GeneratorUtils.getSumSize(this.paths, 0);
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -185,16 +269,36 @@ public class RootNamespaceHistoryBuilder extends StateHeaderBuilder implements S
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            final byte[] superBytes = super.serialize();
-            dataOutputStream.write(superBytes, 0, superBytes.length);
-            GeneratorUtils.writeEntity(dataOutputStream, this.id);
-            GeneratorUtils.writeEntity(dataOutputStream, this.ownerAddress);
-            GeneratorUtils.writeEntity(dataOutputStream, this.lifetime);
-            GeneratorUtils.writeEntity(dataOutputStream, this.rootAlias);
-            dataOutputStream.writeLong(Long.reverseBytes((long) GeneratorUtils.getSize(this.getPaths())));
-            GeneratorUtils.writeList(dataOutputStream, this.paths, 0);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        super.serializeTo(buffer);
+        GeneratorUtils.writeEntity(buffer, this.id);
+        GeneratorUtils.writeEntity(buffer, this.ownerAddress);
+        GeneratorUtils.writeEntity(buffer, this.lifetime);
+        GeneratorUtils.writeEntity(buffer, this.rootAlias);
+        buffer.putLong((long) GeneratorUtils.getSize(this.getPaths()));
+        GeneratorUtils.writeList(buffer, this.paths, 0);
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
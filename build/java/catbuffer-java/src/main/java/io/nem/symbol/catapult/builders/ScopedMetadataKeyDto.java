@@ -79,15 +79,46 @@ public final class ScopedMetadataKeyDto implements Serializer {
         return new ScopedMetadataKeyDto(stream);
     }
 
+    /**
+     * Creates an instance of ScopedMetadataKeyDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of ScopedMetadataKeyDto.
+     */
+    public static ScopedMetadataKeyDto loadFromBinary(final ByteBuffer buffer) {
+        return new ScopedMetadataKeyDto(GeneratorUtils.readLong(buffer));
+    }
+
+    /**
+     * Creates an instance of ScopedMetadataKeyDto from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns ScopedMetadataKeyDto.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of ScopedMetadataKeyDto.
+     */
+    public static ScopedMetadataKeyDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return context.intern(ScopedMetadataKeyDto.class, GeneratorUtils.readLong(buffer), ScopedMetadataKeyDto::new);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.writeLong(Long.reverseBytes(this.getScopedMetadataKey()));
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        GeneratorUtils.writeLong(buffer, this.getScopedMetadataKey());
     }
 }
 
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -52,6 +53,18 @@ public class SecretLockInfoBuilder extends StateHeaderBuilder implements Seriali
     /** Transaction recipient. **/
     private final AddressDto recipient;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -79,7 +92,47 @@ public class SecretLockInfoBuilder extends StateHeaderBuilder implements Seriali
      * @return Instance of SecretLockInfoBuilder.
      */
     public static SecretLockInfoBuilder loadFromBinary(DataInputStream stream) {
-        return new SecretLockInfoBuilder(stream);
+        return GeneratorUtils.decode(SecretLockInfoBuilder.class, stream, SecretLockInfoBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected SecretLockInfoBuilder(ByteBuffer buffer, DecodeContext context) {
+        super(buffer, context);
+        this.ownerAddress = AddressDto.loadFromBinary(buffer, context);
+        this.mosaic = MosaicBuilder.loadFromBinary(buffer, context);
+        this.endHeight = HeightDto.loadFromBinary(buffer, context);
+        this.status = LockStatusDto.loadFromBinary(buffer, context);
+        this.hashAlgorithm = LockHashAlgorithmDto.loadFromBinary(buffer, context);
+        this.secret = Hash256Dto.loadFromBinary(buffer, context);
+        this.recipient = AddressDto.loadFromBinary(buffer, context);
+    }
+
+    /**
+     * Creates an instance of SecretLockInfoBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of SecretLockInfoBuilder.
+     */
+    public static SecretLockInfoBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of SecretLockInfoBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of SecretLockInfoBuilder.
+     */
+    public static SecretLockInfoBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(SecretLockInfoBuilder.class, buffer, context, SecretLockInfoBuilder::new);
     }
     
     /**
@@ -194,12 +247,39 @@ public class SecretLockInfoBuilder extends StateHeaderBuilder implements Seriali
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public SecretLockInfoBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        super.enableSizeCache();
+        this.sizeCacheEnabled = true;
+        this.mosaic.enableSizeCache();
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = super.getSize();
         size += this.ownerAddress.getSize();
         size += this.mosaic.getSize();
@@ -208,6 +288,9 @@ public class SecretLockInfoBuilder extends StateHeaderBuilder implements Seriali
         size += this.hashAlgorithm.getSize();
         size += this.secret.getSize();
         size += this.recipient.getSize();
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -219,17 +302,37 @@ public class SecretLockInfoBuilder extends StateHeaderBuilder implements Seriali
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            final byte[] superBytes = super.serialize();
-            dataOutputStream.write(superBytes, 0, superBytes.length);
-            GeneratorUtils.writeEntity(dataOutputStream, this.ownerAddress);
-            GeneratorUtils.writeEntity(dataOutputStream, this.mosaic);
-            GeneratorUtils.writeEntity(dataOutputStream, this.endHeight);
-            GeneratorUtils.writeEntity(dataOutputStream, this.status);
-            GeneratorUtils.writeEntity(dataOutputStream, this.hashAlgorithm);
-            GeneratorUtils.writeEntity(dataOutputStream, this.secret);
-            GeneratorUtils.writeEntity(dataOutputStream, this.recipient);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        super.serializeTo(buffer);
+        GeneratorUtils.writeEntity(buffer, this.ownerAddress);
+        GeneratorUtils.writeEntity(buffer, this.mosaic);
+        GeneratorUtils.writeEntity(buffer, this.endHeight);
+        GeneratorUtils.writeEntity(buffer, this.status);
+        GeneratorUtils.writeEntity(buffer, this.hashAlgorithm);
+        GeneratorUtils.writeEntity(buffer, this.secret);
+        GeneratorUtils.writeEntity(buffer, this.recipient);
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -46,6 +47,18 @@ public class SecretLockTransactionBodyBuilder implements Serializer {
     /** Hash algorithm. **/
     private final LockHashAlgorithmDto hashAlgorithm;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -70,7 +83,44 @@ public class SecretLockTransactionBodyBuilder implements Serializer {
      * @return Instance of SecretLockTransactionBodyBuilder.
      */
     public static SecretLockTransactionBodyBuilder loadFromBinary(DataInputStream stream) {
-        return new SecretLockTransactionBodyBuilder(stream);
+        return GeneratorUtils.decode(SecretLockTransactionBodyBuilder.class, stream, SecretLockTransactionBodyBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected SecretLockTransactionBodyBuilder(ByteBuffer buffer, DecodeContext context) {
+        this.recipientAddress = UnresolvedAddressDto.loadFromBinary(buffer, context);
+        this.secret = Hash256Dto.loadFromBinary(buffer, context);
+        this.mosaic = UnresolvedMosaicBuilder.loadFromBinary(buffer, context);
+        this.duration = BlockDurationDto.loadFromBinary(buffer, context);
+        this.hashAlgorithm = LockHashAlgorithmDto.loadFromBinary(buffer, context);
+    }
+
+    /**
+     * Creates an instance of SecretLockTransactionBodyBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of SecretLockTransactionBodyBuilder.
+     */
+    public static SecretLockTransactionBodyBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of SecretLockTransactionBodyBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of SecretLockTransactionBodyBuilder.
+     */
+    public static SecretLockTransactionBodyBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(SecretLockTransactionBodyBuilder.class, buffer, context, SecretLockTransactionBodyBuilder::new);
     }
     
     /**
@@ -155,18 +205,47 @@ public class SecretLockTransactionBodyBuilder implements Serializer {
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public SecretLockTransactionBodyBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        this.sizeCacheEnabled = true;
+        this.mosaic.enableSizeCache();
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = 0;
         size += this.recipientAddress.getSize();
         size += this.secret.getSize();
         size += this.mosaic.getSize();
         size += this.duration.getSize();
         size += this.hashAlgorithm.getSize();
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -178,13 +257,34 @@ public class SecretLockTransactionBodyBuilder implements Serializer {
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            GeneratorUtils.writeEntity(dataOutputStream, this.recipientAddress);
-            GeneratorUtils.writeEntity(dataOutputStream, this.secret);
-            GeneratorUtils.writeEntity(dataOutputStream, this.mosaic);
-            GeneratorUtils.writeEntity(dataOutputStream, this.duration);
-            GeneratorUtils.writeEntity(dataOutputStream, this.hashAlgorithm);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        GeneratorUtils.writeEntity(buffer, this.recipientAddress);
+        GeneratorUtils.writeEntity(buffer, this.secret);
+        GeneratorUtils.writeEntity(buffer, this.mosaic);
+        GeneratorUtils.writeEntity(buffer, this.duration);
+        GeneratorUtils.writeEntity(buffer, this.hashAlgorithm);
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
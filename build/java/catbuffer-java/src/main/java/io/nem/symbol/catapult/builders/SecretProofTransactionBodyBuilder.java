@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -43,6 +44,18 @@ public class SecretProofTransactionBodyBuilder implements Serializer {
     /** Proof data. **/
     private final ByteBuffer proof;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -67,7 +80,44 @@ public class SecretProofTransactionBodyBuilder implements Serializer {
      * @return Instance of SecretProofTransactionBodyBuilder.
      */
     public static SecretProofTransactionBodyBuilder loadFromBinary(DataInputStream stream) {
-        return new SecretProofTransactionBodyBuilder(stream);
+        return GeneratorUtils.decode(SecretProofTransactionBodyBuilder.class, stream, SecretProofTransactionBodyBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected SecretProofTransactionBodyBuilder(ByteBuffer buffer, DecodeContext context) {
+        this.recipientAddress = UnresolvedAddressDto.loadFromBinary(buffer, context);
+        this.secret = Hash256Dto.loadFromBinary(buffer, context);
+        final short proofSize = buffer.getShort();
+        this.hashAlgorithm = LockHashAlgorithmDto.loadFromBinary(buffer, context);
+        this.proof = GeneratorUtils.readByteBuffer(buffer, proofSize);
+    }
+
+    /**
+     * Creates an instance of SecretProofTransactionBodyBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of SecretProofTransactionBodyBuilder.
+     */
+    public static SecretProofTransactionBodyBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of SecretProofTransactionBodyBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of SecretProofTransactionBodyBuilder.
+     */
+    public static SecretProofTransactionBodyBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(SecretProofTransactionBodyBuilder.class, buffer, context, SecretProofTransactionBodyBuilder::new);
     }
     
     /**
@@ -139,18 +189,46 @@ public class SecretProofTransactionBodyBuilder implements Serializer {
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public SecretProofTransactionBodyBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        this.sizeCacheEnabled = true;
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = 0;
         size += this.recipientAddress.getSize();
         size += this.secret.getSize();
         size += 2; // proofSize
         size += this.hashAlgorithm.getSize();
         size += this.proof.array().length;
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -162,13 +240,34 @@ public class SecretProofTransactionBodyBuilder implements Serializer {
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            GeneratorUtils.writeEntity(dataOutputStream, this.recipientAddress);
-            GeneratorUtils.writeEntity(dataOutputStream, this.secret);
-            dataOutputStream.writeShort(Short.reverseBytes((short) GeneratorUtils.getSize(this.getProof())));
-            GeneratorUtils.writeEntity(dataOutputStream, this.hashAlgorithm);
-            dataOutputStream.write(this.proof.array(), 0, this.proof.array().length);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        GeneratorUtils.writeEntity(buffer, this.recipientAddress);
+        GeneratorUtils.writeEntity(buffer, this.secret);
+        buffer.putShort((short) GeneratorUtils.getSize(this.getProof()));
+        GeneratorUtils.writeEntity(buffer, this.hashAlgorithm);
+        buffer.put(this.proof.array());
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
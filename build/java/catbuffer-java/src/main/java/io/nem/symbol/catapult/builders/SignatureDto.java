@@ -79,15 +79,46 @@ public final class SignatureDto implements Serializer {
         return new SignatureDto(stream);
     }
 
+    /**
+     * Creates an instance of SignatureDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of SignatureDto.
+     */
+    public static SignatureDto loadFromBinary(final ByteBuffer buffer) {
+        return new SignatureDto(GeneratorUtils.readByteBuffer(buffer, 64));
+    }
+
+    /**
+     * Creates an instance of SignatureDto from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns SignatureDto.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of SignatureDto.
+     */
+    public static SignatureDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return context.intern(SignatureDto.class, buffer, 64, SignatureDto::new);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.write(this.signature.array(), 0, this.signature.array().length);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        buffer.put(this.signature.array());
     }
 }
 
@@ -0,0 +1,290 @@
+/**
+*** Copyright (c) 2016-2019, Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp.
+*** Copyright (c) 2020-present, Jaguar0625, gimre, BloodyRookie.
+*** All rights reserved.
+***
+*** This file is part of Catapult.
+***
+*** Catapult is free software: you can redistribute it and/or modify
+*** it under the terms of the GNU Lesser General Public License as published by
+*** the Free Software Foundation, either version 3 of the License, or
+*** (at your option) any later version.
+***
+*** Catapult is distributed in the hope that it will be useful,
+*** but WITHOUT ANY WARRANTY; without even the implied warranty of
+*** MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+*** GNU Lesser General Public License for more details.
+***
+*** You should have received a copy of the GNU Lesser General Public License
+*** along with Catapult. If not, see <http://www.gnu.org/licenses/>.
+**/
+
+package io.nem.symbol.catapult.builders;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Layout of the serialized state records, read straight from a little-endian buffer at an absolute offset.
+ * The sizes are found from the fixed parts, the counts and the conditional sections of each record without decoding
+ * it, so a snapshot can be indexed in a single pass. Every method can be used as a
+ * {@link StateSnapshotReader.RecordSizer}. The sizes follow {@link #SUPPORTED_STATE_VERSION} and records of other
+ * versions are rejected instead of being sized with the wrong layout.
+ */
+public final class StateRecordLayout {
+
+    /** State version of the records described by this layout. */
+    public static final short SUPPORTED_STATE_VERSION = 1;
+
+    /** Size of the state header (version). */
+    public static final int STATE_HEADER_SIZE = 2;
+
+    /** Size of a mosaic (id and amount). */
+    public static final int MOSAIC_SIZE = 8 + 8;
+
+    /** Size of a mosaic entry: header, id, supply and definition (height, owner, revision and properties). */
+    public static final int MOSAIC_ENTRY_SIZE = STATE_HEADER_SIZE + 8 + 8 + (8 + 24 + 4 + 1 + 1 + 8);
+
+    /** Size of a hash lock info: header, owner, mosaic, end height, status and hash. */
+    public static final int HASH_LOCK_INFO_SIZE = STATE_HEADER_SIZE + 24 + MOSAIC_SIZE + 8 + 1 + 32;
+
+    /** Size of a secret lock info: header, owner, mosaic, end height, status, hash algorithm, secret and recipient. */
+    public static final int SECRET_LOCK_INFO_SIZE = STATE_HEADER_SIZE + 24 + MOSAIC_SIZE + 8 + 1 + 1 + 32 + 24;
+
+    /** Offset of the format in an account state: header, address and public key with their heights and type. */
+    private static final int ACCOUNT_STATE_FORMAT_OFFSET = STATE_HEADER_SIZE + 24 + 8 + 32 + 8 + 1;
+
+    /** Size of the fixed part of an account state: up to the format, supplemental keys mask and voting keys count. */
+    private static final int ACCOUNT_STATE_FIXED_SIZE = ACCOUNT_STATE_FORMAT_OFFSET + 1 + 1 + 1;
+
+    /** Supplemental public keys of an account state, in serialization order. */
+    private static final AccountKeyTypeFlagsDto[] SUPPLEMENTAL_PUBLIC_KEYS = {AccountKeyTypeFlagsDto.LINKED,
+        AccountKeyTypeFlagsDto.NODE, AccountKeyTypeFlagsDto.VRF};
+
+    /** Size of a supplemental public key. */
+    private static final int PUBLIC_KEY_SIZE = 32;
+
+    /** Size of a pinned voting key: key, start epoch and end epoch. */
+    private static final int PINNED_VOTING_KEY_SIZE = 32 + 4 + 4;
+
+    /** Size of the high value section: importance snapshot and 5 activity buckets. */
+    private static final int HIGH_VALUE_SIZE = (8 + 8) + 5 * (8 + 8 + 4 + 8);
+
+    /** Size of the fixed part of a multisig entry: header, min approval, min removal and account address. */
+    private static final int MULTISIG_ENTRY_FIXED_SIZE = STATE_HEADER_SIZE + 4 + 4 + 24;
+
+    /** Size of an address. */
+    private static final int ADDRESS_SIZE = 24;
+
+    /** Size of the fixed part of a root namespace history: header, id, owner and lifetime. */
+    private static final int ROOT_NAMESPACE_HISTORY_FIXED_SIZE = STATE_HEADER_SIZE + 8 + 24 + 16;
+
+    /**
+     * Constructor.
+     */
+    private StateRecordLayout() {
+    }
+
+    /**
+     * Gets the state version of a record.
+     *
+     * @param buffer Little-endian buffer.
+     * @param offset Offset of the record.
+     * @return Version.
+     */
+    public static short getVersion(final ByteBuffer buffer, final int offset) {
+        return buffer.getShort(offset);
+    }
+
+    /**
+     * Gets the size of an account state.
+     *
+     * @param buffer Little-endian buffer.
+     * @param offset Offset of the record.
+     * @return Size in bytes.
+     */
+    public static int getAccountStateSize(final ByteBuffer buffer, final int offset) {
+        final int balancesOffset = getAccountStateBalancesOffset(buffer, offset);
+        final int balancesCount = GeneratorUtils.toUnsignedInt(buffer.getShort(balancesOffset));
+        return balancesOffset + 2 + balancesCount * MOSAIC_SIZE - offset;
+    }
+
+    /**
+     * Gets the offset of the balances count of an account state, after the supplemental public keys, the voting keys
+     * and the high value section.
+     *
+     * @param buffer Little-endian buffer.
+     * @param offset Offset of the record.
+     * @return Offset of the balances count.
+     */
+    public static int getAccountStateBalancesOffset(final ByteBuffer buffer, final int offset) {
+        checkVersion(buffer, offset);
+        final int formatOffset = offset + ACCOUNT_STATE_FORMAT_OFFSET;
+        final int supplementalPublicKeysMask = GeneratorUtils.toUnsignedInt(buffer.get(formatOffset + 1));
+        final int votingPublicKeysCount = GeneratorUtils.toUnsignedInt(buffer.get(formatOffset + 2));
+        int balancesOffset = offset + ACCOUNT_STATE_FIXED_SIZE;
+        for (AccountKeyTypeFlagsDto flag : SUPPLEMENTAL_PUBLIC_KEYS) {
+            if ((supplementalPublicKeysMask & flag.getValue()) != 0) {
+                balancesOffset += PUBLIC_KEY_SIZE;
+            }
+        }
+        balancesOffset += votingPublicKeysCount * PINNED_VOTING_KEY_SIZE;
+        if (buffer.get(formatOffset) == AccountStateFormatDto.HIGH_VALUE.getValue()) {
+            balancesOffset += HIGH_VALUE_SIZE;
+        }
+        return balancesOffset;
+    }
+
+    /**
+     * Gets the balance of a mosaic in an account state.
+     *
+     * @param buffer Little-endian buffer.
+     * @param offset Offset of the record.
+     * @param mosaicId Mosaic id.
+     * @return Amount or 0 if the account does not own the mosaic.
+     */
+    public static long getAccountStateBalance(final ByteBuffer buffer, final int offset, final long mosaicId) {
+        final int balancesOffset = getAccountStateBalancesOffset(buffer, offset);
+        final int count = GeneratorUtils.toUnsignedInt(buffer.getShort(balancesOffset));
+        for (int i = 0, mosaicOffset = balancesOffset + 2; i < count; i++, mosaicOffset += MOSAIC_SIZE) {
+            if (buffer.getLong(mosaicOffset) == mosaicId) {
+                return buffer.getLong(mosaicOffset + 8);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Appends the balances of an account state to primitive columns without creating builders.
+     *
+     * @param buffer Little-endian buffer.
+     * @param offset Offset of the record.
+     * @param columns Columns to append to.
+     * @return The columns.
+     */
+    public static MosaicColumns readAccountStateBalances(final ByteBuffer buffer, final int offset,
+        final MosaicColumns columns) {
+        final int balancesOffset = getAccountStateBalancesOffset(buffer, offset);
+        final int count = GeneratorUtils.toUnsignedInt(buffer.getShort(balancesOffset));
+        return columns.readFrom(buffer, balancesOffset + 2, count);
+    }
+
+    /**
+     * Gets the size of a mosaic entry.
+     *
+     * @param buffer Little-endian buffer.
+     * @param offset Offset of the record.
+     * @return Size in bytes.
+     */
+    public static int getMosaicEntrySize(final ByteBuffer buffer, final int offset) {
+        checkVersion(buffer, offset);
+        return MOSAIC_ENTRY_SIZE;
+    }
+
+    /**
+     * Gets the size of a hash lock info.
+     *
+     * @param buffer Little-endian buffer.
+     * @param offset Offset of the record.
+     * @return Size in bytes.
+     */
+    public static int getHashLockInfoSize(final ByteBuffer buffer, final int offset) {
+        checkVersion(buffer, offset);
+        return HASH_LOCK_INFO_SIZE;
+    }
+
+    /**
+     * Gets the size of a secret lock info.
+     *
+     * @param buffer Little-endian buffer.
+     * @param offset Offset of the record.
+     * @return Size in bytes.
+     */
+    public static int getSecretLockInfoSize(final ByteBuffer buffer, final int offset) {
+        checkVersion(buffer, offset);
+        return SECRET_LOCK_INFO_SIZE;
+    }
+
+    /**
+     * Gets the size of a multisig entry.
+     *
+     * @param buffer Little-endian buffer.
+     * @param offset Offset of the record.
+     * @return Size in bytes.
+     */
+    public static int getMultisigEntrySize(final ByteBuffer buffer, final int offset) {
+        checkVersion(buffer, offset);
+        final int cosignatoriesOffset = offset + MULTISIG_ENTRY_FIXED_SIZE;
+        final int cosignatoriesCount = getCount(buffer, cosignatoriesOffset, ADDRESS_SIZE);
+        final int multisigsOffset = cosignatoriesOffset + 8 + cosignatoriesCount * ADDRESS_SIZE;
+        final int multisigsCount = getCount(buffer, multisigsOffset, ADDRESS_SIZE);
+        return multisigsOffset + 8 + multisigsCount * ADDRESS_SIZE - offset;
+    }
+
+    /**
+     * Gets the size of a root namespace history.
+     *
+     * @param buffer Little-endian buffer.
+     * @param offset Offset of the record.
+     * @return Size in bytes.
+     */
+    public static int getRootNamespaceHistorySize(final ByteBuffer buffer, final int offset) {
+        checkVersion(buffer, offset);
+        final int childrenOffset = offset + ROOT_NAMESPACE_HISTORY_FIXED_SIZE
+            + getNamespaceAliasSize(buffer, offset + ROOT_NAMESPACE_HISTORY_FIXED_SIZE);
+        final int childrenCount = getCount(buffer, childrenOffset, 1);
+        int pathOffset = childrenOffset + 8;
+        for (int i = 0; i < childrenCount; i++) {
+            pathOffset += 1 + GeneratorUtils.toUnsignedInt(buffer.get(pathOffset)) * 8;
+            pathOffset += getNamespaceAliasSize(buffer, pathOffset);
+        }
+        return pathOffset - offset;
+    }
+
+    /**
+     * Gets the size of a namespace alias.
+     *
+     * @param buffer Little-endian buffer.
+     * @param offset Offset of the alias.
+     * @return Size in bytes.
+     */
+    public static int getNamespaceAliasSize(final ByteBuffer buffer, final int offset) {
+        final byte type = buffer.get(offset);
+        if (type == NamespaceAliasTypeDto.MOSAIC_ID.getValue()) {
+            return 1 + 8;
+        }
+        if (type == NamespaceAliasTypeDto.ADDRESS.getValue()) {
+            return 1 + ADDRESS_SIZE;
+        }
+        return 1;
+    }
+
+    /**
+     * Checks that a record has the state version described by this layout.
+     *
+     * @param buffer Little-endian buffer.
+     * @param offset Offset of the record.
+     */
+    private static void checkVersion(final ByteBuffer buffer, final int offset) {
+        final short version = buffer.getShort(offset);
+        if (version != SUPPORTED_STATE_VERSION) {
+            throw new IllegalArgumentException(
+                "Unsupported state version " + GeneratorUtils.toUnsignedInt(version) + " at offset " + offset);
+        }
+    }
+
+    /**
+     * Reads a 64 bit count of elements. A count that cannot fit in the rest of the buffer is clamped to a value that
+     * still exceeds the buffer, so the size of the record exceeds the buffer instead of overflowing.
+     *
+     * @param buffer Little-endian buffer.
+     * @param offset Offset of the count.
+     * @param elementSize Minimum size of an element.
+     * @return Count.
+     */
+    private static int getCount(final ByteBuffer buffer, final int offset, final int elementSize) {
+        final long count = buffer.getLong(offset);
+        final int maxCount = (buffer.limit() - offset) / elementSize + 1;
+        return count < 0 || count > maxCount ? maxCount : (int) count;
+    }
+}
+
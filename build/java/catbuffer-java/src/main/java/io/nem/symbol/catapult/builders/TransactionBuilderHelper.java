@@ -22,12 +22,72 @@
 package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
-import java.io.SequenceInputStream;
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.BiFunction;
 
 /** Factory in charge of creating the right transaction builder from the streamed data. */
 public class TransactionBuilderHelper {
 
+    /** Factories of the known transaction builders keyed by entity type and version. */
+    private static final TransactionBuilderRegistry<TransactionBuilder> REGISTRY = new TransactionBuilderRegistry<>();
+
+    static {
+                                                                                                                                                                                                                                                                                                                                                                                                                                        REGISTRY.register(EntityTypeDto.ACCOUNT_KEY_LINK_TRANSACTION, (byte) 1, AccountKeyLinkTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.NODE_KEY_LINK_TRANSACTION, (byte) 1, NodeKeyLinkTransactionBuilder::loadFromBinary);
+                            REGISTRY.register(EntityTypeDto.AGGREGATE_COMPLETE_TRANSACTION, (byte) 1, AggregateCompleteTransactionBuilder::loadFromBinary);
+            REGISTRY.register(EntityTypeDto.AGGREGATE_BONDED_TRANSACTION, (byte) 1, AggregateBondedTransactionBuilder::loadFromBinary);
+                REGISTRY.register(EntityTypeDto.VOTING_KEY_LINK_TRANSACTION, (byte) 1, VotingKeyLinkTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.VRF_KEY_LINK_TRANSACTION, (byte) 1, VrfKeyLinkTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.HASH_LOCK_TRANSACTION, (byte) 1, HashLockTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.SECRET_LOCK_TRANSACTION, (byte) 1, SecretLockTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.SECRET_PROOF_TRANSACTION, (byte) 1, SecretProofTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.ACCOUNT_METADATA_TRANSACTION, (byte) 1, AccountMetadataTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.MOSAIC_METADATA_TRANSACTION, (byte) 1, MosaicMetadataTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.NAMESPACE_METADATA_TRANSACTION, (byte) 1, NamespaceMetadataTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.MOSAIC_DEFINITION_TRANSACTION, (byte) 1, MosaicDefinitionTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.MOSAIC_SUPPLY_CHANGE_TRANSACTION, (byte) 1, MosaicSupplyChangeTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.MULTISIG_ACCOUNT_MODIFICATION_TRANSACTION, (byte) 1, MultisigAccountModificationTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.ADDRESS_ALIAS_TRANSACTION, (byte) 1, AddressAliasTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.MOSAIC_ALIAS_TRANSACTION, (byte) 1, MosaicAliasTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.NAMESPACE_REGISTRATION_TRANSACTION, (byte) 1, NamespaceRegistrationTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.ACCOUNT_ADDRESS_RESTRICTION_TRANSACTION, (byte) 1, AccountAddressRestrictionTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.ACCOUNT_MOSAIC_RESTRICTION_TRANSACTION, (byte) 1, AccountMosaicRestrictionTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.ACCOUNT_OPERATION_RESTRICTION_TRANSACTION, (byte) 1, AccountOperationRestrictionTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.MOSAIC_ADDRESS_RESTRICTION_TRANSACTION, (byte) 1, MosaicAddressRestrictionTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.MOSAIC_GLOBAL_RESTRICTION_TRANSACTION, (byte) 1, MosaicGlobalRestrictionTransactionBuilder::loadFromBinary);
+                    REGISTRY.register(EntityTypeDto.TRANSFER_TRANSACTION, (byte) 1, TransferTransactionBuilder::loadFromBinary);
+        }
+
+    /**
+    * Registers the factory of a transaction builder, replacing any previous one for the same
+    * entity type and version. The header type is parsed into EntityTypeDto before the lookup, so
+    * only the entity types it declares can be registered, as overrides or as new versions.
+    *
+    * @param type the entity type
+    * @param version the entity version
+    * @param factory the factory creating the builder from the parsed header and the body buffer
+    */
+    public static void register(final EntityTypeDto type, final byte version,
+        final BiFunction<TransactionBuilder, ByteBuffer, ? extends TransactionBuilder> factory) {
+        GeneratorUtils.notNull(factory, "factory is null");
+        REGISTRY.register(type, version, (header, buffer, context) -> factory.apply(header, buffer));
+    }
+
+    /**
+    * Registers the factory of a transaction builder that also receives the decode context,
+    * replacing any previous one for the same entity type and version. Only the entity types
+    * declared by EntityTypeDto can be registered.
+    *
+    * @param type the entity type
+    * @param version the entity version
+    * @param factory the factory creating the builder from the parsed header, the body buffer and the decode context
+    */
+    public static void register(final EntityTypeDto type, final byte version,
+        final TransactionBuilderRegistry.Factory<TransactionBuilder> factory) {
+        REGISTRY.register(type, version, factory);
+    }
+
     /**
     * It creates the right transaction builder from the stream data.
     *
@@ -35,178 +95,74 @@ public class TransactionBuilderHelper {
     * @return the TransactionBuilder subclass
     */
     public static TransactionBuilder loadFromBinary(final DataInputStream stream) {
+        return GeneratorUtils.decode(TransactionBuilder.class, stream, TransactionBuilderHelper::decode);
+    }
 
-        TransactionBuilder headerBuilder = TransactionBuilder.loadFromBinary(stream);
-                                                                                                                                                                                                                                                                                                                                                                                                                                        if (headerBuilder.getType().getValue() == 16716 && headerBuilder.getVersion() == 1) {
-            AccountKeyLinkTransactionBodyBuilder bodyBuilder = AccountKeyLinkTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return AccountKeyLinkTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16972 && headerBuilder.getVersion() == 1) {
-            NodeKeyLinkTransactionBodyBuilder bodyBuilder = NodeKeyLinkTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return NodeKeyLinkTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                            if (headerBuilder.getType().getValue() == 16705 && headerBuilder.getVersion() == 1) {
-            AggregateTransactionBodyBuilder bodyBuilder = AggregateTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return AggregateCompleteTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-            if (headerBuilder.getType().getValue() == 16961 && headerBuilder.getVersion() == 1) {
-            AggregateTransactionBodyBuilder bodyBuilder = AggregateTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return AggregateBondedTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                if (headerBuilder.getType().getValue() == 16707 && headerBuilder.getVersion() == 1) {
-            VotingKeyLinkTransactionBodyBuilder bodyBuilder = VotingKeyLinkTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return VotingKeyLinkTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16963 && headerBuilder.getVersion() == 1) {
-            VrfKeyLinkTransactionBodyBuilder bodyBuilder = VrfKeyLinkTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return VrfKeyLinkTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16712 && headerBuilder.getVersion() == 1) {
-            HashLockTransactionBodyBuilder bodyBuilder = HashLockTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return HashLockTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16722 && headerBuilder.getVersion() == 1) {
-            SecretLockTransactionBodyBuilder bodyBuilder = SecretLockTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return SecretLockTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16978 && headerBuilder.getVersion() == 1) {
-            SecretProofTransactionBodyBuilder bodyBuilder = SecretProofTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return SecretProofTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16708 && headerBuilder.getVersion() == 1) {
-            AccountMetadataTransactionBodyBuilder bodyBuilder = AccountMetadataTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return AccountMetadataTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16964 && headerBuilder.getVersion() == 1) {
-            MosaicMetadataTransactionBodyBuilder bodyBuilder = MosaicMetadataTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return MosaicMetadataTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 17220 && headerBuilder.getVersion() == 1) {
-            NamespaceMetadataTransactionBodyBuilder bodyBuilder = NamespaceMetadataTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return NamespaceMetadataTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16717 && headerBuilder.getVersion() == 1) {
-            MosaicDefinitionTransactionBodyBuilder bodyBuilder = MosaicDefinitionTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return MosaicDefinitionTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16973 && headerBuilder.getVersion() == 1) {
-            MosaicSupplyChangeTransactionBodyBuilder bodyBuilder = MosaicSupplyChangeTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return MosaicSupplyChangeTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16725 && headerBuilder.getVersion() == 1) {
-            MultisigAccountModificationTransactionBodyBuilder bodyBuilder = MultisigAccountModificationTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return MultisigAccountModificationTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16974 && headerBuilder.getVersion() == 1) {
-            AddressAliasTransactionBodyBuilder bodyBuilder = AddressAliasTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return AddressAliasTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 17230 && headerBuilder.getVersion() == 1) {
-            MosaicAliasTransactionBodyBuilder bodyBuilder = MosaicAliasTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return MosaicAliasTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16718 && headerBuilder.getVersion() == 1) {
-            NamespaceRegistrationTransactionBodyBuilder bodyBuilder = NamespaceRegistrationTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return NamespaceRegistrationTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16720 && headerBuilder.getVersion() == 1) {
-            AccountAddressRestrictionTransactionBodyBuilder bodyBuilder = AccountAddressRestrictionTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return AccountAddressRestrictionTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16976 && headerBuilder.getVersion() == 1) {
-            AccountMosaicRestrictionTransactionBodyBuilder bodyBuilder = AccountMosaicRestrictionTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return AccountMosaicRestrictionTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 17232 && headerBuilder.getVersion() == 1) {
-            AccountOperationRestrictionTransactionBodyBuilder bodyBuilder = AccountOperationRestrictionTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return AccountOperationRestrictionTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16977 && headerBuilder.getVersion() == 1) {
-            MosaicAddressRestrictionTransactionBodyBuilder bodyBuilder = MosaicAddressRestrictionTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return MosaicAddressRestrictionTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16721 && headerBuilder.getVersion() == 1) {
-            MosaicGlobalRestrictionTransactionBodyBuilder bodyBuilder = MosaicGlobalRestrictionTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return MosaicGlobalRestrictionTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
-        }
-                    if (headerBuilder.getType().getValue() == 16724 && headerBuilder.getVersion() == 1) {
-            TransferTransactionBodyBuilder bodyBuilder = TransferTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return TransferTransactionBuilder.loadFromBinary(new DataInputStream(concatenate));
+    private static TransactionBuilder decode(final DataInputStream stream) {
+        final TransactionBuilder headerBuilder = TransactionBuilder.loadFromBinary(stream);
+        try {
+            final byte[] body = new byte[checkBodySize(headerBuilder)];
+            stream.readFully(body);
+            final TransactionBuilderRegistry.Factory<TransactionBuilder> factory = REGISTRY
+                .get(headerBuilder.getType(), headerBuilder.getVersion());
+            if (factory == null) {
+                return headerBuilder;
+            }
+            return factory.create(headerBuilder, GeneratorUtils.wrap(body), DecodeContext.NONE);
+        } catch (Exception e) {
+            throw GeneratorUtils.getExceptionToPropagate(e);
         }
+    }
+
+    /**
+    * It creates the right transaction builder from a little-endian buffer. The body is read in place
+    * and never past the entity size, and the buffer is positioned at the end of the entity.
+    *
+    * @param buffer the buffer, positioned at the start of the transaction
+    * @return the TransactionBuilder subclass
+    */
+    public static TransactionBuilder loadFromBinary(final ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+    * It creates the right transaction builder from a little-endian buffer with a decode context. The body is
+    * read in place and never past the entity size, and the buffer is positioned at the end of the entity.
+    *
+    * @param buffer the buffer, positioned at the start of the transaction
+    * @param context the context interning the DTOs and pooling the lists
+    * @return the TransactionBuilder subclass
+    */
+    public static TransactionBuilder loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return GeneratorUtils.decodeSizePrefixed(TransactionBuilder.class, buffer, context, true,
+            TransactionBuilderHelper::decode);
+    }
+
+    private static TransactionBuilder decode(final ByteBuffer buffer, final DecodeContext context) {
+        final TransactionBuilder headerBuilder = TransactionBuilder.loadFromBinary(buffer, context);
+        checkBodySize(headerBuilder);
+        final TransactionBuilderRegistry.Factory<TransactionBuilder> factory = REGISTRY
+            .get(headerBuilder.getType(), headerBuilder.getVersion());
+        if (factory == null) {
             return headerBuilder;
+        }
+        return factory.create(headerBuilder, buffer, context);
     }
 
-}
+    /**
+    * Checks that the size of a transaction covers its header and gets the size of its body.
+    *
+    * @param headerBuilder the parsed header
+    * @return the body size
+    */
+    private static int checkBodySize(final TransactionBuilder headerBuilder) {
+        final int bodySize = headerBuilder.getStreamSize() - headerBuilder.getSize();
+        if (bodySize < 0) {
+            throw GeneratorUtils.getExceptionToPropagate(new IOException("Invalid transaction size "
+                + Integer.toUnsignedString(headerBuilder.getStreamSize()) + ", the header size is "
+                + headerBuilder.getSize()));
+        }
+        return bodySize;
+    }
 
+}
@@ -0,0 +1,219 @@
+/**
+*** Copyright (c) 2016-2019, Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp.
+*** Copyright (c) 2020-present, Jaguar0625, gimre, BloodyRookie.
+*** All rights reserved.
+***
+*** This file is part of Catapult.
+***
+*** Catapult is free software: you can redistribute it and/or modify
+*** it under the terms of the GNU Lesser General Public License as published by
+*** the Free Software Foundation, either version 3 of the License, or
+*** (at your option) any later version.
+***
+*** Catapult is distributed in the hope that it will be useful,
+*** but WITHOUT ANY WARRANTY; without even the implied warranty of
+*** MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+*** GNU Lesser General Public License for more details.
+***
+*** You should have received a copy of the GNU Lesser General Public License
+*** along with Catapult. If not, see <http://www.gnu.org/licenses/>.
+**/
+
+package io.nem.symbol.catapult.builders;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.EnumSet;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+* Read-only view of {@link TransactionBuilder}.
+* The attributes are decoded from the underlying buffer only when requested. The view can be pointed to another
+* object with wrap, so the same instance can scan many objects without allocating.
+**/
+public final class TransactionView {
+
+    /** Buffer provided by the caller. **/
+    private ByteBuffer source;
+
+    /** Little-endian buffer the attributes are read from. **/
+    private ByteBuffer buffer;
+
+    /** Offset of the object in the buffer. **/
+    private int offset;
+
+    /**
+     * Points the view to the object starting at the given offset of the buffer.
+     * The position and limit of the buffer are not changed.
+     *
+     * @param buffer Buffer holding the serialized object.
+     * @param offset Offset of the object in the buffer.
+     * @return This view.
+     */
+    public TransactionView wrap(final ByteBuffer buffer, final int offset) {
+        this.setBuffer(buffer);
+        this.offset = offset;
+        return this;
+    }
+
+    /**
+     * Sets the buffer the attributes are read from. The little-endian copy of a buffer of another byte order is
+     * kept while the same buffer is wrapped, and its limit follows the limit of the buffer.
+     *
+     * @param buffer Buffer provided by the caller.
+     */
+    private void setBuffer(final ByteBuffer buffer) {
+        if (buffer.order() == ByteOrder.LITTLE_ENDIAN) {
+            this.buffer = buffer;
+        } else if (buffer == this.source && this.buffer != buffer) {
+            this.buffer.limit(buffer.limit());
+        } else {
+            this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        }
+        this.source = buffer;
+    }
+
+    /**
+     * Gets the offset of the object in the buffer.
+     *
+     * @return Offset in bytes.
+     */
+    public int getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * Gets Entity size.
+     *
+     * @return Entity size.
+     */
+    public int getStreamSize() {
+        return this.buffer.getInt(this.offset);
+    }
+
+    /**
+     * Gets Entity signature.
+     *
+     * @return Entity signature.
+     */
+    public SignatureDto getSignature() {
+        return new SignatureDto(GeneratorUtils.readByteBuffer(this.buffer, this.offset + 8, 64));
+    }
+
+    /**
+     * Compares Entity signature with the given value without decoding it.
+     *
+     * @param signature Expected value.
+     * @return True if the object holds the expected value.
+     */
+    public boolean matchesSignature(final SignatureDto signature) {
+        return GeneratorUtils.equals(this.buffer, this.offset + 8, signature.getSignature());
+    }
+
+    /**
+     * Gets Entity signer's public key.
+     *
+     * @return Entity signer's public key.
+     */
+    public KeyDto getSignerPublicKey() {
+        return new KeyDto(GeneratorUtils.readByteBuffer(this.buffer, this.offset + 72, 32));
+    }
+
+    /**
+     * Compares Entity signer's public key with the given value without decoding it.
+     *
+     * @param signerPublicKey Expected value.
+     * @return True if the object holds the expected value.
+     */
+    public boolean matchesSignerPublicKey(final KeyDto signerPublicKey) {
+        return GeneratorUtils.equals(this.buffer, this.offset + 72, signerPublicKey.getKey());
+    }
+
+    /**
+     * Gets Entity version.
+     *
+     * @return Entity version.
+     */
+    public byte getVersion() {
+        return this.buffer.get(this.offset + 108);
+    }
+
+    /**
+     * Gets Entity network.
+     *
+     * @return Entity network.
+     */
+    public NetworkTypeDto getNetwork() {
+        return NetworkTypeDto.rawValueOf(this.buffer.get(this.offset + 109));
+    }
+
+    /**
+     * Gets Entity type.
+     *
+     * @return Entity type.
+     */
+    public EntityTypeDto getType() {
+        return EntityTypeDto.rawValueOf(this.buffer.getShort(this.offset + 110));
+    }
+
+    /**
+     * Gets Transaction fee.
+     *
+     * @return Transaction fee.
+     */
+    public long getFee() {
+        return this.buffer.getLong(this.offset + 112);
+    }
+
+    /**
+     * Gets Transaction deadline.
+     *
+     * @return Transaction deadline.
+     */
+    public long getDeadline() {
+        return this.buffer.getLong(this.offset + 120);
+    }
+
+    /**
+     * Gets the offset of the transaction body.
+     *
+     * @return Offset in bytes.
+     */
+    public int getBodyOffset() {
+        return this.offset + 128;
+    }
+
+    /**
+     * Gets the size of the transaction body, to wrap the views of the bodies without a size field.
+     *
+     * @return Size in bytes.
+     */
+    public int getBodySize() {
+        return this.getStreamSize() - 128;
+    }
+
+    /**
+     * Decodes the whole object.
+     *
+     * @return Instance of TransactionBuilder.
+     */
+    public TransactionBuilder toBuilder() {
+        final ByteBuffer buffer = this.buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(this.offset);
+        return TransactionBuilderHelper.loadFromBinary(buffer);
+    }
+
+    /**
+     * Decodes the whole object with a decode context.
+     *
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of TransactionBuilder.
+     */
+    public TransactionBuilder toBuilder(final DecodeContext context) {
+        final ByteBuffer buffer = this.buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(this.offset);
+        return TransactionBuilderHelper.loadFromBinary(buffer, context);
+    }
+}
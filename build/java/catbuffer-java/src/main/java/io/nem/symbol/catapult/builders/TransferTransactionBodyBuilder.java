@@ -23,6 +23,7 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -46,6 +47,18 @@ public class TransferTransactionBodyBuilder implements Serializer {
     /** Attached message. **/
     private final ByteBuffer message;
 
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
     /**
      * Constructor - Creates an object from stream.
      *
@@ -72,7 +85,46 @@ public class TransferTransactionBodyBuilder implements Serializer {
      * @return Instance of TransferTransactionBodyBuilder.
      */
     public static TransferTransactionBodyBuilder loadFromBinary(DataInputStream stream) {
-        return new TransferTransactionBodyBuilder(stream);
+        return GeneratorUtils.decode(TransferTransactionBodyBuilder.class, stream, TransferTransactionBodyBuilder::new);
+    }
+
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected TransferTransactionBodyBuilder(ByteBuffer buffer, DecodeContext context) {
+        this.recipientAddress = UnresolvedAddressDto.loadFromBinary(buffer, context);
+        final short messageSize = buffer.getShort();
+        final byte mosaicsCount = buffer.get();
+        this.transferTransactionBody_Reserved1 = buffer.getInt();
+        this.transferTransactionBody_Reserved2 = buffer.get();
+        this.mosaics = GeneratorUtils.loadFromBinaryArray(UnresolvedMosaicBuilder::loadFromBinary, buffer, context, mosaicsCount, 0);
+        this.message = GeneratorUtils.readByteBuffer(buffer, messageSize);
+    }
+
+    /**
+     * Creates an instance of TransferTransactionBodyBuilder from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of TransferTransactionBodyBuilder.
+     */
+    public static TransferTransactionBodyBuilder loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of TransferTransactionBodyBuilder from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of TransferTransactionBodyBuilder.
+     */
+    public static TransferTransactionBodyBuilder loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+        return GeneratorUtils.decode(TransferTransactionBodyBuilder.class, buffer, context, TransferTransactionBodyBuilder::new);
     }
     
     /**
@@ -151,12 +203,38 @@ public class TransferTransactionBodyBuilder implements Serializer {
     }
 
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public TransferTransactionBodyBuilder enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+        this.sizeCacheEnabled = true;
+        this.mosaics.forEach(UnresolvedMosaicBuilder::enableSizeCache);
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = 0;
         size += this.recipientAddress.getSize();
         size += 2; // messageSize
@@ -165,6 +243,9 @@ public class TransferTransactionBodyBuilder implements Serializer {
         size += 1; // transferTransactionBody_Reserved2
         size +=  GeneratorUtils.getSumSize(this.mosaics, 0);
         size += this.message.array().length;
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -176,15 +257,36 @@ public class TransferTransactionBodyBuilder implements Serializer {
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
-            GeneratorUtils.writeEntity(dataOutputStream, this.recipientAddress);
-            dataOutputStream.writeShort(Short.reverseBytes((short) GeneratorUtils.getSize(this.getMessage())));
-            dataOutputStream.writeByte((byte) GeneratorUtils.getSize(this.getMosaics()));
-            dataOutputStream.writeInt(Integer.reverseBytes((int) this.getTransferTransactionBody_Reserved1()));
-            dataOutputStream.writeByte((byte) this.getTransferTransactionBody_Reserved2());
-            GeneratorUtils.writeList(dataOutputStream, this.mosaics, 0);
-            dataOutputStream.write(this.message.array(), 0, this.message.array().length);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
+        GeneratorUtils.writeEntity(buffer, this.recipientAddress);
+        buffer.putShort((short) GeneratorUtils.getSize(this.getMessage()));
+        buffer.put((byte) GeneratorUtils.getSize(this.getMosaics()));
+        buffer.putInt((int) this.getTransferTransactionBody_Reserved1());
+        buffer.put((byte) this.getTransferTransactionBody_Reserved2());
+        GeneratorUtils.writeList(buffer, this.mosaics, 0);
+        buffer.put(this.message.array());
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
 
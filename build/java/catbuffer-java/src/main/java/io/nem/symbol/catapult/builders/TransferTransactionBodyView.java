@@ -0,0 +1,202 @@
+/**
+*** Copyright (c) 2016-2019, Jaguar0625, gimre, BloodyRookie, Tech Bureau, Corp.
+*** Copyright (c) 2020-present, Jaguar0625, gimre, BloodyRookie.
+*** All rights reserved.
+***
+*** This file is part of Catapult.
+***
+*** Catapult is free software: you can redistribute it and/or modify
+*** it under the terms of the GNU Lesser General Public License as published by
+*** the Free Software Foundation, either version 3 of the License, or
+*** (at your option) any later version.
+***
+*** Catapult is distributed in the hope that it will be useful,
+*** but WITHOUT ANY WARRANTY; without even the implied warranty of
+*** MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+*** GNU Lesser General Public License for more details.
+***
+*** You should have received a copy of the GNU Lesser General Public License
+*** along with Catapult. If not, see <http://www.gnu.org/licenses/>.
+**/
+
+package io.nem.symbol.catapult.builders;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.EnumSet;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+* Read-only view of {@link TransferTransactionBodyBuilder}.
+* The attributes are decoded from the underlying buffer only when requested. The view can be pointed to another
+* object with wrap, so the same instance can scan many objects without allocating.
+**/
+public final class TransferTransactionBodyView {
+
+    /** Buffer provided by the caller. **/
+    private ByteBuffer source;
+
+    /** Little-endian buffer the attributes are read from. **/
+    private ByteBuffer buffer;
+
+    /** Offset of the object in the buffer. **/
+    private int offset;
+
+    /**
+     * Points the view to the object starting at the given offset of the buffer.
+     * The position and limit of the buffer are not changed.
+     *
+     * @param buffer Buffer holding the serialized object.
+     * @param offset Offset of the object in the buffer.
+     * @return This view.
+     */
+    public TransferTransactionBodyView wrap(final ByteBuffer buffer, final int offset) {
+        this.setBuffer(buffer);
+        this.offset = offset;
+        return this;
+    }
+
+    /**
+     * Sets the buffer the attributes are read from. The little-endian copy of a buffer of another byte order is
+     * kept while the same buffer is wrapped, and its limit follows the limit of the buffer.
+     *
+     * @param buffer Buffer provided by the caller.
+     */
+    private void setBuffer(final ByteBuffer buffer) {
+        if (buffer.order() == ByteOrder.LITTLE_ENDIAN) {
+            this.buffer = buffer;
+        } else if (buffer == this.source && this.buffer != buffer) {
+            this.buffer.limit(buffer.limit());
+        } else {
+            this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        }
+        this.source = buffer;
+    }
+
+    /**
+     * Gets the offset of the object in the buffer.
+     *
+     * @return Offset in bytes.
+     */
+    public int getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * Gets Recipient address.
+     *
+     * @return Recipient address.
+     */
+    public UnresolvedAddressDto getRecipientAddress() {
+        return new UnresolvedAddressDto(GeneratorUtils.readByteBuffer(this.buffer, this.offset, 24));
+    }
+
+    /**
+     * Compares Recipient address with the given value without decoding it.
+     *
+     * @param recipientAddress Expected value.
+     * @return True if the object holds the expected value.
+     */
+    public boolean matchesRecipientAddress(final UnresolvedAddressDto recipientAddress) {
+        return GeneratorUtils.equals(this.buffer, this.offset, recipientAddress.getUnresolvedAddress());
+    }
+
+    /**
+     * Gets Size of attached message.
+     *
+     * @return Size of attached message.
+     */
+    public int getMessageSize() {
+        return GeneratorUtils.toUnsignedInt(this.buffer.getShort(this.offset + 24));
+    }
+
+    /**
+     * Gets Number of attached mosaics.
+     *
+     * @return Number of attached mosaics.
+     */
+    public int getMosaicsCount() {
+        return GeneratorUtils.toUnsignedInt(this.buffer.get(this.offset + 26));
+    }
+
+    /**
+     * Gets the offset of attached mosaics.
+     *
+     * @return Offset in bytes.
+     */
+    public int getMosaicsOffset() {
+        return this.offset + 32;
+    }
+
+    /**
+     * Creates a spliterator that decodes attached mosaics one element at a time.
+     *
+     * @return Spliterator of UnresolvedMosaicBuilder.
+     */
+    public Spliterator<UnresolvedMosaicBuilder> getMosaicsSpliterator() {
+        return BinarySpliterator.ofFixedSize(UnresolvedMosaicBuilder::loadFromBinary, this.buffer, this.offset + 32, this.offset + 32 + this.getMosaicsCount() * 16, 16, 0);
+    }
+
+    /**
+     * Streams attached mosaics decoding one element at a time.
+     *
+     * @param parallel True to create a parallel stream.
+     * @return Stream of UnresolvedMosaicBuilder.
+     */
+    public Stream<UnresolvedMosaicBuilder> streamMosaics(final boolean parallel) {
+        return StreamSupport.stream(this.getMosaicsSpliterator(), parallel);
+    }
+
+    /**
+     * Appends attached mosaics to primitive columns without creating builders.
+     *
+     * @param columns Columns to append to.
+     * @return The columns.
+     */
+    public MosaicColumns readMosaics(final MosaicColumns columns) {
+        return columns.readFrom(this.buffer, this.offset + 32, this.getMosaicsCount());
+    }
+
+    /**
+     * Gets Attached message.
+     *
+     * @return Attached message.
+     */
+    public ByteBuffer getMessage() {
+        return GeneratorUtils.readByteBuffer(this.buffer, this.offset + 32 + this.getMosaicsCount() * 16, this.getMessageSize());
+    }
+
+    /**
+     * Gets the offset just after the object.
+     *
+     * @return Offset in bytes.
+     */
+    public int getEndOffset() {
+        return this.offset + 32 + this.getMosaicsCount() * 16 + this.getMessageSize();
+    }
+
+    /**
+     * Decodes the whole object.
+     *
+     * @return Instance of TransferTransactionBodyBuilder.
+     */
+    public TransferTransactionBodyBuilder toBuilder() {
+        final ByteBuffer buffer = this.buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(this.offset);
+        return TransferTransactionBodyBuilder.loadFromBinary(buffer);
+    }
+
+    /**
+     * Decodes the whole object with a decode context.
+     *
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of TransferTransactionBodyBuilder.
+     */
+    public TransferTransactionBodyBuilder toBuilder(final DecodeContext context) {
+        final ByteBuffer buffer = this.buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(this.offset);
+        return TransferTransactionBodyBuilder.loadFromBinary(buffer, context);
+    }
+}
@@ -79,15 +79,46 @@ public final class UnresolvedAddressDto implements Serializer {
         return new UnresolvedAddressDto(stream);
     }
 
+    /**
+     * Creates an instance of UnresolvedAddressDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of UnresolvedAddressDto.
+     */
+    public static UnresolvedAddressDto loadFromBinary(final ByteBuffer buffer) {
+        return new UnresolvedAddressDto(GeneratorUtils.readByteBuffer(buffer, 24));
+    }
+
+    /**
+     * Creates an instance of UnresolvedAddressDto from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns UnresolvedAddressDto.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of UnresolvedAddressDto.
+     */
+    public static UnresolvedAddressDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return context.intern(UnresolvedAddressDto.class, buffer, 24, UnresolvedAddressDto::new);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.write(this.unresolvedAddress.array(), 0, this.unresolvedAddress.array().length);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        buffer.put(this.unresolvedAddress.array());
     }
 }
 
@@ -79,15 +79,46 @@ public final class VotingKeyDto implements Serializer {
         return new VotingKeyDto(stream);
     }
 
+    /**
+     * Creates an instance of VotingKeyDto from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of VotingKeyDto.
+     */
+    public static VotingKeyDto loadFromBinary(final ByteBuffer buffer) {
+        return new VotingKeyDto(GeneratorUtils.readByteBuffer(buffer, 32));
+    }
+
+    /**
+     * Creates an instance of VotingKeyDto from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns VotingKeyDto.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of VotingKeyDto.
+     */
+    public static VotingKeyDto loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return context.intern(VotingKeyDto.class, buffer, 32, VotingKeyDto::new);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.write(this.votingKey.array(), 0, this.votingKey.array().length);
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        buffer.put(this.votingKey.array());
     }
 }
 
@@ -1,10 +1,14 @@
 from generators.common.FileGenerator import FileGenerator
 from .JavaHelper import JavaHelper
+from .JavaViewGenerator import JavaViewGenerator
 
 
 class JavaFileGenerator(FileGenerator):
     """Java file generator"""
 
+    view_class_names = ['Transaction', 'EmbeddedTransaction', 'AggregateTransactionBody', 'TransferTransactionBody',
+                        'MosaicResolutionStatement', 'AddressResolutionStatement']
+
     def init_code(self):
         code = super().init_code()
         code += ['package io.nem.symbol.catapult.builders;'] + ['']
@@ -15,8 +19,17 @@ class JavaFileGenerator(FileGenerator):
 
     def get_static_templates_file_names(self):
         return ['BitMaskable', 'GeneratorUtils', 'TransactionBuilderHelper',
-                'EmbeddedTransactionBuilderHelper',
-                'Serializer']
+                'EmbeddedTransactionBuilderHelper', 'TransactionBuilderRegistry',
+                'BinarySpliterator', 'MerkleHashBuilder', 'StateRecordLayout',
+                'StateSnapshotReader', 'DecodeContext', 'MosaicColumns', 'CodecListener',
+                'CodecMetricsMXBean', 'CodecMetrics', 'EntityBatchDecoder', 'Serializer']
+
+    def create_class_generators(self, helper, type_name, class_schema):
+        generators = super().create_class_generators(helper, type_name, class_schema)
+        if type_name in self.view_class_names:
+            generators.append(JavaViewGenerator(helper, type_name, self.schema, class_schema, self.get_template_path(),
+                                                self.get_main_file_extension()))
+        return generators
 
     def get_main_file_extension(self):
         return '.java'
@@ -22,6 +22,24 @@ class JavaHelper(Helper):
             method_name = type_size_method_name[size]
         return method_name
 
+    def get_buffer_read_method_name(self, size):
+        type_size_method_name = {1: 'get', 2: 'getShort', 4: 'getInt', 8: 'getLong'}
+        return type_size_method_name[size]
+
+    def get_buffer_write_method_name(self, size):
+        type_size_method_name = {1: 'put', 2: 'putShort', 4: 'putInt', 8: 'putLong'}
+        return type_size_method_name[size]
+
+    def get_little_endian_read_expression(self, size):
+        if size == 1:
+            return 'buffer.get()'
+        return 'GeneratorUtils.read{0}(buffer)'.format(self.get_buffer_read_method_name(size)[3:])
+
+    def get_little_endian_write_expression(self, size, value):
+        if size == 1:
+            return 'buffer.put({0})'.format(value)
+        return 'GeneratorUtils.write{0}(buffer, {1})'.format(self.get_buffer_write_method_name(size)[3:], value)
+
     def get_load_from_binary_factory(self, attribute_class_name):
         if attribute_class_name == 'EmbeddedTransactionBuilder':
             return 'EmbeddedTransactionBuilderHelper'
@@ -0,0 +1,138 @@
+from collections import namedtuple
+
+from generators.common.Helper import AttributeKind
+from generators.common.MakoClassGenerator import MakoClassGenerator
+
+ViewAttributeData = namedtuple('ViewAttributeData', ['data', 'offset', 'length'])
+
+
+class JavaViewGenerator(MakoClassGenerator):
+    """
+    Mako generator of the read-only views. A view decodes the attributes of a struct on demand from a buffer and
+    offset. Attribute offsets are resolved from the schema layout up to the first attribute whose position cannot be
+    computed without decoding. A view whose trailing array is bounded by neither a size field nor a count is wrapped
+    with the length of the object, given by the enclosing entity.
+    """
+
+    def __init__(self, helper, name, schema, class_schema, template_path, file_extension):
+        super().__init__(helper, name, schema, class_schema, template_path, file_extension)
+        self.template_file_name = template_path + 'View.mako'
+        self.view_class_name = name + 'View'
+        self.generated_file_name = self.view_class_name + file_extension
+        self.builder_factory = 'TransactionBuilderHelper' if name == 'Transaction' else \
+            helper.get_load_from_binary_factory(self.generated_class_name)
+        self.view_attributes = []
+        self.end_offset = None
+        self.fixed_size = None
+        self.is_complete_layout = self._calculate_view_attributes()
+        self.is_length_bounded = not self._has_size_attribute() and any(
+            v.length is None and self.helper.is_any_array_kind(v.data.kind) for v in self.view_attributes)
+
+    def _calculate_view_attributes(self):
+        constant = 0
+        terms = []
+        for a in [a for a in self.attributes if not a.attribute_is_aggregate and not a.attribute_is_inline]:
+            if a.attribute_is_conditional:
+                return False
+            length = self._get_length(a)
+            self.view_attributes.append(ViewAttributeData(a, self._get_offset_expression(constant, terms), length))
+            if length is None:
+                return False
+            if isinstance(length, int):
+                constant += length
+            else:
+                terms.append(length)
+        self.end_offset = self._get_offset_expression(constant, terms)
+        self.fixed_size = None if terms else constant
+        return True
+
+    def _has_size_attribute(self):
+        return any(v.data.attribute_name == 'size' for v in self.view_attributes)
+
+    @staticmethod
+    def _get_offset_expression(constant, terms):
+        return ' + '.join(['this.offset'] + ([str(constant)] if constant else []) + terms)
+
+    def _get_length(self, a):
+        if a.kind in (AttributeKind.SIMPLE, AttributeKind.SIZE_FIELD, AttributeKind.FLAGS):
+            return a.attribute_size
+        if a.kind == AttributeKind.BUFFER:
+            return a.attribute_size if isinstance(a.attribute_size, int) else self.get_size_getter(a.attribute_size)
+        if a.kind == AttributeKind.CUSTOM:
+            return a.attribute_size if a.attribute_base_type in ('byte', 'enum') else None
+        if a.kind == AttributeKind.VAR_ARRAY:
+            return self.get_size_getter(a.attribute['size'])
+        if a.kind == AttributeKind.ARRAY:
+            element_size = self.get_fixed_size(a.attribute['type'])
+            if element_size is None:
+                return None
+            count = a.attribute_size if isinstance(a.attribute_size, int) else self.get_size_getter(a.attribute_size)
+            return '{0} * {1}'.format(count, element_size)
+        return None
+
+    def get_spliterator(self, a, offset, length):
+        if not self.helper.is_any_array_kind(a.kind):
+            return None
+        factory = self.helper.get_load_from_binary_factory(a.attribute_class_name) + '::loadFromBinary'
+        if length is not None:
+            end = '{0} + {1}'.format(offset, length)
+        elif self._has_size_attribute():
+            end = 'this.offset + this.getStreamSize()'
+        else:
+            end = 'this.end'
+        alignment = self.helper.resolve_alignment(a)
+        if self.is_size_prefixed(a.attribute['type']):
+            return 'BinarySpliterator.ofSizePrefixed({0}, this.buffer, {1}, {2}, {3})'.format(factory, offset, end,
+                                                                                             alignment)
+        element_size = self.get_fixed_size(a.attribute['type'])
+        if element_size is None:
+            return None
+        return 'BinarySpliterator.ofFixedSize({0}, this.buffer, {1}, {2}, {3}, {4})'.format(factory, offset, end,
+                                                                                           element_size, alignment)
+
+    def get_mosaic_count(self, a):
+        if a.kind != AttributeKind.ARRAY or a.attribute['type'] not in ('Mosaic', 'UnresolvedMosaic'):
+            return None
+        return a.attribute_size if isinstance(a.attribute_size, int) else self.get_size_getter(a.attribute_size)
+
+    def is_size_prefixed(self, type_name):
+        type_schema = self.schema[type_name]
+        if 'layout' not in type_schema or not type_schema['layout']:
+            return False
+        first_attribute = type_schema['layout'][0]
+        if not self.helper.is_inline_type(first_attribute):
+            return False
+        return first_attribute['type'] == 'SizePrefixedEntity' or self.is_size_prefixed(first_attribute['type'])
+
+    def get_size_getter(self, size_attribute_name):
+        return 'this.get{0}()'.format(self.helper.capitalize_first_character(size_attribute_name))
+
+    def is_primitive_type(self, a):
+        return a.kind == AttributeKind.CUSTOM and a.attribute_base_type == 'byte' and self.helper.is_builtin_type(
+            'byte', a.attribute_size)
+
+    def is_buffer_type(self, a):
+        return a.kind == AttributeKind.CUSTOM and a.attribute_base_type == 'byte' and not self.is_primitive_type(a)
+
+    def is_enum_type(self, a):
+        return a.kind == AttributeKind.CUSTOM and a.attribute_base_type == 'enum'
+
+    def get_fixed_size(self, type_name):
+        type_schema = self.schema[type_name]
+        if 'size' in type_schema:
+            return type_schema['size']
+        size = 0
+        for attribute in type_schema['layout']:
+            if self.helper.is_const_type(attribute):
+                continue
+            if 'size' in attribute and isinstance(attribute['size'], int) and self.helper.is_byte_type(
+                    attribute['type']):
+                size += attribute['size']
+            elif 'size' not in attribute and attribute['type'] in self.schema:
+                attribute_size = self.get_fixed_size(attribute['type'])
+                if attribute_size is None:
+                    return None
+                size += attribute_size
+            else:
+                return None
+        return size
@@ -2,21 +2,35 @@ package io.nem.symbol.catapult.builders;
 
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.bouncycastle.jcajce.provider.digest.SHA3;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.platform.commons.util.ExceptionUtils;
@@ -108,4 +122,714 @@ public class VectorTest {
 
     }
 
+    @ParameterizedTest
+    @MethodSource("vectors")
+    public void serializationFromBuffer(BuilderTestItem item) {
+        try {
+            String className = this.getClass().getPackage().getName() + "." + item.builder;
+            ByteBuffer inputBuffer = GeneratorUtils.wrap(GeneratorUtils.hexToBytes(item.payload));
+            Serializer serializer = (Serializer) Class.forName(className)
+                .getMethod("loadFromBinary", ByteBuffer.class).invoke(null, inputBuffer);
+            Assertions.assertFalse(inputBuffer.hasRemaining());
+            ByteBuffer outputBuffer = GeneratorUtils.allocate(serializer.getSize());
+            serializer.serializeTo(outputBuffer);
+            Assertions.assertFalse(outputBuffer.hasRemaining());
+            Assertions.assertEquals(item.payload.toUpperCase(), GeneratorUtils.toHex(outputBuffer.array()).toUpperCase());
+        } catch (RuntimeException | ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            Assertions
+                .fail("Cannot run test " + item + " Error: " + ExceptionUtils.readStackTrace(e));
+        }
+
+    }
+
+    @ParameterizedTest
+    @MethodSource("vectors")
+    public void serializationFromBigEndianBuffer(BuilderTestItem item) throws Exception {
+        Class<?> builderClass = Class.forName(this.getClass().getPackage().getName() + "." + item.builder);
+        ByteBuffer inputBuffer = ByteBuffer.wrap(GeneratorUtils.hexToBytes(item.payload));
+        Serializer serializer = (Serializer) builderClass.getMethod("loadFromBinary", ByteBuffer.class).invoke(null, inputBuffer);
+        Assertions.assertFalse(inputBuffer.hasRemaining());
+        Assertions.assertEquals(ByteOrder.BIG_ENDIAN, inputBuffer.order());
+        ByteBuffer outputBuffer = ByteBuffer.allocate(serializer.getSize());
+        serializer.serializeTo(outputBuffer);
+        Assertions.assertFalse(outputBuffer.hasRemaining());
+        Assertions.assertEquals(ByteOrder.BIG_ENDIAN, outputBuffer.order());
+        Assertions.assertEquals(item.payload.toUpperCase(), GeneratorUtils.toHex(outputBuffer.array()).toUpperCase());
+    }
+
+    @ParameterizedTest
+    @MethodSource("vectors")
+    public void sizePrefixedDecoding(BuilderTestItem item) throws Exception {
+        Class<?> builderClass = Class.forName(this.getClass().getPackage().getName() + "." + item.builder);
+        if (!TransactionBuilder.class.isAssignableFrom(builderClass) && !EmbeddedTransactionBuilder.class.isAssignableFrom(builderClass)) {
+            return;
+        }
+        byte[] payload = GeneratorUtils.hexToBytes(item.payload);
+        ByteBuffer buffer = GeneratorUtils.allocate(2 * payload.length + 104);
+        buffer.put(payload).put(payload).put(bytes(104, 1)).flip();
+        for (int i = 1; i <= 2; i++) {
+            Serializer serializer = (Serializer) builderClass.getMethod("loadFromBinary", ByteBuffer.class).invoke(null, buffer);
+            Assertions.assertEquals(i * payload.length, buffer.position());
+            Assertions.assertEquals(buffer.capacity(), buffer.limit());
+            Assertions.assertEquals(item.payload.toUpperCase(), GeneratorUtils.toHex(serializer.serialize()).toUpperCase());
+        }
+        DataInputStream stream = new DataInputStream(new ByteArrayInputStream(buffer.array()));
+        for (int i = 1; i <= 2; i++) {
+            Serializer serializer = (Serializer) builderClass.getMethod("loadFromBinary", DataInputStream.class).invoke(null, stream);
+            Assertions.assertEquals(buffer.capacity() - i * payload.length, stream.available());
+            Assertions.assertEquals(item.payload.toUpperCase(), GeneratorUtils.toHex(serializer.serialize()).toUpperCase());
+        }
+
+        ByteBuffer oversized = GeneratorUtils.wrap(payload.clone()).putInt(0, payload.length + 1);
+        InvocationTargetException exception = Assertions.assertThrows(InvocationTargetException.class,
+            () -> builderClass.getMethod("loadFromBinary", ByteBuffer.class).invoke(null, oversized));
+        Assertions.assertTrue(exception.getCause().getCause() instanceof EOFException, exception.getCause().toString());
+        Assertions.assertEquals(0, oversized.position());
+        Assertions.assertEquals(payload.length, oversized.limit());
+    }
+
+    @ParameterizedTest
+    @MethodSource("vectors")
+    public void serializationFromHelper(BuilderTestItem item) throws ClassNotFoundException {
+        Class<?> builderClass = Class.forName(this.getClass().getPackage().getName() + "." + item.builder);
+        byte[] payload = GeneratorUtils.hexToBytes(item.payload);
+        DataInputStream inputStream = new DataInputStream(new ByteArrayInputStream(payload));
+        ByteBuffer inputBuffer = GeneratorUtils.wrap(payload);
+        Serializer fromStream;
+        Serializer fromBuffer;
+        if (TransactionBuilder.class.isAssignableFrom(builderClass)) {
+            fromStream = TransactionBuilderHelper.loadFromBinary(inputStream);
+            fromBuffer = TransactionBuilderHelper.loadFromBinary(inputBuffer);
+        } else if (EmbeddedTransactionBuilder.class.isAssignableFrom(builderClass)) {
+            fromStream = EmbeddedTransactionBuilderHelper.loadFromBinary(inputStream);
+            fromBuffer = EmbeddedTransactionBuilderHelper.loadFromBinary(inputBuffer);
+        } else {
+            return;
+        }
+        Assertions.assertEquals(builderClass, fromStream.getClass());
+        Assertions.assertEquals(builderClass, fromBuffer.getClass());
+        Assertions.assertFalse(inputBuffer.hasRemaining());
+        Assertions.assertEquals(item.payload.toUpperCase(), GeneratorUtils.toHex(fromStream.serialize()).toUpperCase());
+        Assertions.assertEquals(item.payload.toUpperCase(), GeneratorUtils.toHex(fromBuffer.serialize()).toUpperCase());
+    }
+
+    @Test
+    public void transactionHelperSizes() {
+        AggregateCompleteTransactionBuilder aggregate = createTransferAggregate();
+        byte[] payload = aggregate.serialize();
+        ByteBuffer buffer = GeneratorUtils.allocate(payload.length + 10);
+        buffer.put(payload).put(new byte[10]).flip();
+        Assertions.assertEquals(GeneratorUtils.toHex(payload), GeneratorUtils.toHex(TransactionBuilderHelper.loadFromBinary(buffer).serialize()));
+        Assertions.assertEquals(payload.length, buffer.position());
+        Assertions.assertEquals(buffer.capacity(), buffer.limit());
+
+        byte[] embedded = aggregate.getTransactions().get(0).serialize();
+        for (int size : new int[] {100, payload.length + 1}) {
+            byte[] invalid = payload.clone();
+            GeneratorUtils.wrap(invalid).putInt(0, size);
+            RuntimeException fromBuffer = Assertions.assertThrows(RuntimeException.class,
+                () -> TransactionBuilderHelper.loadFromBinary(GeneratorUtils.wrap(invalid)));
+            Assertions.assertTrue(fromBuffer.getCause() instanceof IOException, fromBuffer.toString());
+            RuntimeException fromStream = Assertions.assertThrows(RuntimeException.class,
+                () -> TransactionBuilderHelper.loadFromBinary(new DataInputStream(new ByteArrayInputStream(invalid))));
+            Assertions.assertTrue(fromStream.getCause() instanceof IOException, fromStream.toString());
+        }
+        for (int size : new int[] {40, embedded.length + 1}) {
+            byte[] invalid = embedded.clone();
+            GeneratorUtils.wrap(invalid).putInt(0, size);
+            RuntimeException fromBuffer = Assertions.assertThrows(RuntimeException.class,
+                () -> EmbeddedTransactionBuilderHelper.loadFromBinary(GeneratorUtils.wrap(invalid)));
+            Assertions.assertTrue(fromBuffer.getCause() instanceof IOException, fromBuffer.toString());
+            RuntimeException fromStream = Assertions.assertThrows(RuntimeException.class,
+                () -> EmbeddedTransactionBuilderHelper.loadFromBinary(new DataInputStream(new ByteArrayInputStream(invalid))));
+            Assertions.assertTrue(fromStream.getCause() instanceof IOException, fromStream.toString());
+        }
+    }
+
+    @Test
+    public void transactionHelperRegistration() {
+        AggregateCompleteTransactionBuilder aggregate = createTransferAggregate();
+        List<DecodeContext> contexts = new ArrayList<>();
+        DecodeContext context = new DecodeContext();
+        TransactionBuilderHelper.register(EntityTypeDto.AGGREGATE_COMPLETE_TRANSACTION, (byte) 1, (header, buffer, factoryContext) -> {
+            contexts.add(factoryContext);
+            return AggregateCompleteTransactionBuilder.loadFromBinary(header, buffer, factoryContext);
+        });
+        EmbeddedTransactionBuilderHelper.register(EntityTypeDto.TRANSFER_TRANSACTION, (byte) 1, (header, buffer, factoryContext) -> {
+            contexts.add(factoryContext);
+            return EmbeddedTransferTransactionBuilder.loadFromBinary(header, buffer, factoryContext);
+        });
+        try {
+            TransactionBuilder decoded = TransactionBuilderHelper.loadFromBinary(GeneratorUtils.wrap(aggregate.serialize()), context);
+            Assertions.assertEquals(GeneratorUtils.toHex(aggregate.serialize()), GeneratorUtils.toHex(decoded.serialize()));
+            Assertions.assertEquals(1 + aggregate.getTransactions().size(), contexts.size());
+            Assertions.assertTrue(contexts.stream().allMatch(c -> c == context));
+        } finally {
+            TransactionBuilderHelper.register(EntityTypeDto.AGGREGATE_COMPLETE_TRANSACTION, (byte) 1,
+                (TransactionBuilderRegistry.Factory<TransactionBuilder>) AggregateCompleteTransactionBuilder::loadFromBinary);
+            EmbeddedTransactionBuilderHelper.register(EntityTypeDto.TRANSFER_TRANSACTION, (byte) 1,
+                (TransactionBuilderRegistry.Factory<EmbeddedTransactionBuilder>) EmbeddedTransferTransactionBuilder::loadFromBinary);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("vectors")
+    public void views(BuilderTestItem item) throws ClassNotFoundException {
+        Class<?> builderClass = Class.forName(this.getClass().getPackage().getName() + "." + item.builder);
+        byte[] payload = GeneratorUtils.hexToBytes(item.payload);
+        int offset = 3;
+        ByteBuffer buffer = GeneratorUtils.allocate(offset + payload.length + 104);
+        buffer.position(offset);
+        buffer.put(payload).put(bytes(104, 7));
+        int bodyOffset;
+        int bodySize;
+        if (TransactionBuilder.class.isAssignableFrom(builderClass)) {
+            TransactionBuilder builder = TransactionBuilderHelper.loadFromBinary(GeneratorUtils.wrap(payload));
+            TransactionView view = new TransactionView().wrap(buffer, offset);
+            Assertions.assertEquals(payload.length, view.getStreamSize());
+            Assertions.assertEquals(builder.getSignature().getSignature(), view.getSignature().getSignature());
+            Assertions.assertTrue(view.matchesSignerPublicKey(builder.getSignerPublicKey()));
+            Assertions.assertEquals(builder.getVersion(), view.getVersion());
+            Assertions.assertEquals(builder.getNetwork(), view.getNetwork());
+            Assertions.assertEquals(builder.getType(), view.getType());
+            Assertions.assertEquals(builder.getFee().getAmount(), view.getFee());
+            Assertions.assertEquals(builder.getDeadline().getTimestamp(), view.getDeadline());
+            Assertions.assertEquals(item.payload.toUpperCase(), GeneratorUtils.toHex(view.toBuilder().serialize()).toUpperCase());
+            bodyOffset = view.getBodyOffset();
+            bodySize = view.getBodySize();
+            Assertions.assertEquals(offset + payload.length, bodyOffset + bodySize);
+        } else if (EmbeddedTransactionBuilder.class.isAssignableFrom(builderClass)) {
+            EmbeddedTransactionBuilder builder = EmbeddedTransactionBuilderHelper.loadFromBinary(GeneratorUtils.wrap(payload));
+            EmbeddedTransactionView view = new EmbeddedTransactionView().wrap(buffer, offset);
+            Assertions.assertEquals(payload.length, view.getStreamSize());
+            Assertions.assertTrue(view.matchesSignerPublicKey(builder.getSignerPublicKey()));
+            Assertions.assertEquals(builder.getVersion(), view.getVersion());
+            Assertions.assertEquals(builder.getNetwork(), view.getNetwork());
+            Assertions.assertEquals(builder.getType(), view.getType());
+            Assertions.assertEquals(item.payload.toUpperCase(), GeneratorUtils.toHex(view.toBuilder().serialize()).toUpperCase());
+            bodyOffset = view.getBodyOffset();
+            bodySize = view.getBodySize();
+        } else {
+            return;
+        }
+        if (TransferTransactionBuilder.class.equals(builderClass) || EmbeddedTransferTransactionBuilder.class.equals(builderClass)) {
+            TransferTransactionBodyView view = new TransferTransactionBodyView().wrap(buffer, bodyOffset);
+            TransferTransactionBodyBuilder body = view.toBuilder();
+            Assertions.assertTrue(view.matchesRecipientAddress(body.getRecipientAddress()));
+            Assertions.assertEquals(body.getMosaics().size(), view.getMosaicsCount());
+            Assertions.assertEquals(body.getMessage(), view.getMessage());
+            Assertions.assertEquals(offset + payload.length, view.getEndOffset());
+            Assertions.assertEquals(toHex(body.getMosaics()), toHex(view.streamMosaics(true).collect(Collectors.toList())));
+        }
+        if (AggregateBondedTransactionBuilder.class.equals(builderClass) || AggregateCompleteTransactionBuilder.class.equals(builderClass)) {
+            AggregateTransactionBodyView view = new AggregateTransactionBodyView().wrap(buffer, bodyOffset, bodySize);
+            EmbeddedTransactionView transaction = new EmbeddedTransactionView();
+            int transactionOffset = view.getTransactionsOffset();
+            while (transactionOffset < view.getCosignaturesOffset()) {
+                int size = transaction.wrap(buffer, transactionOffset).getStreamSize();
+                transactionOffset += size + GeneratorUtils.getPadding(size, 8);
+            }
+            Assertions.assertEquals(view.getCosignaturesOffset(), transactionOffset);
+            Assertions.assertEquals(0, (offset + payload.length - view.getCosignaturesOffset()) % 104);
+            AggregateTransactionBodyBuilder body = view.toBuilder();
+            Assertions.assertEquals(toHex(body.getTransactions()), toHex(view.streamTransactions(false).collect(Collectors.toList())));
+            Assertions.assertEquals(toHex(body.getTransactions()), toHex(view.streamTransactions(true).collect(Collectors.toList())));
+            Assertions.assertEquals(toHex(body.getCosignatures()), toHex(view.streamCosignatures(true).collect(Collectors.toList())));
+            Assertions.assertEquals(toHex(((AggregateTransactionBodyBuilder) TransactionBuilderHelper.loadFromBinary(GeneratorUtils.wrap(payload))
+                .getBody()).getCosignatures()), toHex(body.getCosignatures()));
+        }
+    }
+
+    @Test
+    public void boundedAggregateViews() {
+        byte[] payload = createTransferAggregate().serialize();
+        ByteBuffer buffer = ByteBuffer.allocate(2 * payload.length).order(ByteOrder.BIG_ENDIAN);
+        buffer.put(payload).put(payload).flip();
+        TransactionView transaction = new TransactionView().wrap(buffer, 0);
+        AggregateTransactionBodyView view = new AggregateTransactionBodyView()
+            .wrap(buffer, transaction.getBodyOffset(), transaction.getBodySize());
+        Assertions.assertEquals(payload.length, view.getCosignaturesOffset());
+        Assertions.assertEquals(0, view.streamCosignatures(false).count());
+        Assertions.assertEquals(0, view.streamCosignatures(false).spliterator().estimateSize());
+        Assertions.assertEquals(0, view.toBuilder().getCosignatures().size());
+        Assertions.assertEquals(GeneratorUtils.toHex(payload), GeneratorUtils.toHex(transaction.toBuilder().serialize()));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> view.wrap(buffer, transaction.getBodyOffset(), buffer.limit()));
+
+        buffer.limit(payload.length);
+        view.wrap(buffer, transaction.getBodyOffset(), transaction.getBodySize());
+        buffer.limit(2 * payload.length);
+        view.wrap(buffer, payload.length + transaction.getBodyOffset(), transaction.getBodySize());
+        Assertions.assertEquals(2 * payload.length, view.getCosignaturesOffset());
+        Assertions.assertEquals(6, view.streamTransactions(false).count());
+
+        DataInputStream stream = new DataInputStream(new ByteArrayInputStream(buffer.array()));
+        for (int i = 0; i < 2; i++) {
+            AggregateCompleteTransactionBuilder aggregate = AggregateCompleteTransactionBuilder.loadFromBinary(stream);
+            Assertions.assertEquals(0, aggregate.getCosignatures().size());
+            Assertions.assertEquals(GeneratorUtils.toHex(payload), GeneratorUtils.toHex(aggregate.serialize()));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("vectors")
+    public void cachedSerialization(BuilderTestItem item) throws Exception {
+        Class<?> builderClass = Class.forName(this.getClass().getPackage().getName() + "." + item.builder);
+        Serializer serializer = (Serializer) builderClass.getMethod("loadFromBinary", ByteBuffer.class)
+            .invoke(null, GeneratorUtils.wrap(GeneratorUtils.hexToBytes(item.payload)));
+        if (!Arrays.stream(builderClass.getMethods()).anyMatch(m -> m.getName().equals("enableCache"))) {
+            return;
+        }
+        Assertions.assertSame(serializer, builderClass.getMethod("enableCache").invoke(serializer));
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertEquals(item.payload.length() / 2, serializer.getSize());
+            Assertions.assertEquals(item.payload.toUpperCase(), GeneratorUtils.toHex(serializer.serialize()).toUpperCase());
+            ByteBuffer buffer = GeneratorUtils.allocate(serializer.getSize() + 3);
+            buffer.position(3);
+            serializer.serializeTo(buffer);
+            Assertions.assertEquals(item.payload.toUpperCase(), GeneratorUtils.toHex(Arrays.copyOfRange(buffer.array(), 3, buffer.position())).toUpperCase());
+        }
+    }
+
+    @Test
+    public void spliteratorBounds() {
+        ByteBuffer buffer = GeneratorUtils.allocate(64);
+        buffer.limit(32);
+        Assertions.assertEquals(2, StreamSupport.stream(BinarySpliterator.ofFixedSize(MosaicBuilder::loadFromBinary, buffer, 0, 32,
+            16, 0), false).count());
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> BinarySpliterator.ofFixedSize(MosaicBuilder::loadFromBinary, buffer, 0, 48, 16, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> BinarySpliterator.ofSizePrefixed(BalanceChangeReceiptBuilder::loadFromBinary, buffer, 0, 64, 0));
+    }
+
+    @Test
+    public void cacheScope() throws Exception {
+        AggregateCompleteTransactionBuilder aggregate = createTransferAggregate().enableCache();
+        EmbeddedTransactionBuilder transaction = aggregate.getTransactions().get(0);
+        byte[] payload = aggregate.serialize();
+        Assertions.assertArrayEquals(payload, (byte[]) getField(AggregateCompleteTransactionBuilder.class, aggregate, "cachedBytes"));
+        Assertions.assertNull(getField(TransactionBuilder.class, aggregate, "cachedBytes"));
+        Assertions.assertNull(getField(AggregateTransactionBodyBuilder.class, aggregate.getBody(), "cachedBytes"));
+        Assertions.assertArrayEquals(transaction.serialize(), (byte[]) getField(EmbeddedTransferTransactionBuilder.class, transaction, "cachedBytes"));
+        Assertions.assertNull(getField(EmbeddedTransactionBuilder.class, transaction, "cachedBytes"));
+        TransferTransactionBodyBuilder body = (TransferTransactionBodyBuilder) transaction.getBody();
+        Assertions.assertNull(getField(TransferTransactionBodyBuilder.class, body, "cachedBytes"));
+        Assertions.assertEquals(body.getSize(), getField(TransferTransactionBodyBuilder.class, body, "cachedSize"));
+        Assertions.assertArrayEquals(payload, aggregate.serialize());
+    }
+
+    @Test
+    public void cachedTransactionsHash() throws Exception {
+        AggregateCompleteTransactionBuilder aggregate = createTransferAggregate().enableCache();
+        Hash256Dto hash = MerkleHashBuilder.calculateTransactionsHash(aggregate.getTransactions());
+        Assertions.assertArrayEquals(MerkleHashBuilder.calculateTransactionsHash(createTransferAggregate().getTransactions()).serialize(),
+            hash.serialize());
+
+        // The second hash is computed from the cached bytes, so altering them changes it.
+        byte[] cachedBytes = (byte[]) getField(EmbeddedTransferTransactionBuilder.class, aggregate.getTransactions().get(0), "cachedBytes");
+        Assertions.assertNotNull(cachedBytes);
+        cachedBytes[cachedBytes.length - 1] ^= 1;
+        Assertions.assertFalse(Arrays.equals(hash.serialize(),
+            MerkleHashBuilder.calculateTransactionsHash(aggregate.getTransactions()).serialize()));
+    }
+
+    private static Object getField(Class<?> type, Object object, String name) throws ReflectiveOperationException {
+        Field field = type.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(object);
+    }
+
+    @Test
+    public void bigEndianDtoBuffers() {
+        ByteBuffer expected = GeneratorUtils.allocate(8 + 4 + 2 + 1);
+        ByteBuffer buffer = ByteBuffer.allocate(expected.capacity());
+        for (ByteBuffer output : Arrays.asList(expected, buffer)) {
+            new AmountDto(0x0102030405060708L).serializeTo(output);
+            new FinalizationEpochDto(0x01020304).serializeTo(output);
+            EntityTypeDto.TRANSFER_TRANSACTION.serializeTo(output);
+            NetworkTypeDto.PUBLIC_TEST.serializeTo(output);
+        }
+        Assertions.assertEquals(GeneratorUtils.toHex(expected.array()), GeneratorUtils.toHex(buffer.array()));
+        buffer.flip();
+        Assertions.assertEquals(0x0102030405060708L, AmountDto.loadFromBinary(buffer, DecodeContext.NONE).getAmount());
+        Assertions.assertEquals(0x01020304, FinalizationEpochDto.loadFromBinary(buffer).getFinalizationEpoch());
+        Assertions.assertEquals(EntityTypeDto.TRANSFER_TRANSACTION, EntityTypeDto.loadFromBinary(buffer));
+        Assertions.assertEquals(NetworkTypeDto.PUBLIC_TEST, NetworkTypeDto.loadFromBinary(buffer));
+        Assertions.assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+    }
+
+    @ParameterizedTest
+    @MethodSource("vectors")
+    public void aggregateTransactionsHash(BuilderTestItem item) {
+        if (!item.builder.startsWith("Aggregate")) {
+            return;
+        }
+        TransactionBuilder builder = TransactionBuilderHelper.loadFromBinary(GeneratorUtils.wrap(GeneratorUtils.hexToBytes(item.payload)));
+        AggregateTransactionBodyBuilder body = (AggregateTransactionBodyBuilder) builder.getBody();
+        MerkleHashBuilder merkleHashBuilder = new MerkleHashBuilder(new SHA3.Digest256());
+        body.getTransactions().forEach(merkleHashBuilder::update);
+        List<byte[]> hashes = body.getTransactions().stream().map(t -> new SHA3.Digest256().digest(t.serialize())).collect(Collectors.toList());
+        Assertions.assertEquals(hashes.size(), merkleHashBuilder.getCount());
+        Assertions.assertEquals(GeneratorUtils.toHex(merkleRoot(hashes)), GeneratorUtils.toHex(merkleHashBuilder.getRoot().serialize()));
+    }
+
+    @Test
+    public void incrementalMerkleHash() {
+        MerkleHashBuilder merkleHashBuilder = new MerkleHashBuilder(new SHA3.Digest256());
+        List<byte[]> hashes = new ArrayList<>();
+        Assertions.assertEquals(GeneratorUtils.toHex(new byte[32]), GeneratorUtils.toHex(merkleHashBuilder.getRoot().serialize()));
+        for (int i = 0; i < 33; i++) {
+            byte[] hash = new SHA3.Digest256().digest(new byte[] {(byte) i});
+            hashes.add(hash);
+            merkleHashBuilder.update(new Hash256Dto(ByteBuffer.wrap(hash)));
+            Assertions.assertEquals(GeneratorUtils.toHex(merkleRoot(hashes)), GeneratorUtils.toHex(merkleHashBuilder.getRoot().serialize()));
+        }
+    }
+
+    private static byte[] merkleRoot(List<byte[]> hashes) {
+        List<byte[]> level = new ArrayList<>(hashes);
+        while (level.size() > 1) {
+            if (level.size() % 2 == 1) {
+                level.add(level.get(level.size() - 1));
+            }
+            List<byte[]> parents = new ArrayList<>();
+            for (int i = 0; i < level.size(); i += 2) {
+                MessageDigest digest = new SHA3.Digest256();
+                digest.update(level.get(i));
+                digest.update(level.get(i + 1));
+                parents.add(digest.digest());
+            }
+            level = parents;
+        }
+        return level.isEmpty() ? new byte[32] : level.get(0);
+    }
+
+    @ParameterizedTest
+    @MethodSource("vectors")
+    public void decodeContext(BuilderTestItem item) throws Exception {
+        Class<?> builderClass = Class.forName(this.getClass().getPackage().getName() + "." + item.builder);
+        DecodeContext context = DecodeContext.createInterning(16).enableListPooling();
+        for (int i = 0; i < 2; i++) {
+            ByteBuffer inputBuffer = GeneratorUtils.wrap(GeneratorUtils.hexToBytes(item.payload));
+            Serializer serializer = (Serializer) builderClass.getMethod("loadFromBinary", ByteBuffer.class, DecodeContext.class)
+                .invoke(null, inputBuffer, context);
+            Assertions.assertFalse(inputBuffer.hasRemaining());
+            Assertions.assertEquals(item.payload.toUpperCase(), GeneratorUtils.toHex(serializer.serialize()).toUpperCase());
+            context.reset();
+        }
+    }
+
+    @Test
+    public void decodeContextInterning() {
+        byte[] payload = createTransferAggregate().serialize();
+
+        DecodeContext context = DecodeContext.createInterning(64).enableListPooling();
+        AggregateCompleteTransactionBuilder aggregate = (AggregateCompleteTransactionBuilder) TransactionBuilderHelper
+            .loadFromBinary(GeneratorUtils.wrap(payload), context);
+        Assertions.assertEquals(GeneratorUtils.toHex(payload), GeneratorUtils.toHex(aggregate.serialize()));
+        List<TransferTransactionBodyBuilder> bodies = aggregate.getTransactions().stream()
+            .map(t -> (TransferTransactionBodyBuilder) t.getBody()).collect(Collectors.toList());
+        Assertions.assertSame(bodies.get(0).getRecipientAddress(), bodies.get(3).getRecipientAddress());
+        Assertions.assertNotSame(bodies.get(0).getRecipientAddress(), bodies.get(1).getRecipientAddress());
+        Assertions.assertSame(aggregate.getTransactions().get(0).getSignerPublicKey(), aggregate.getTransactions().get(2).getSignerPublicKey());
+        Assertions.assertSame(aggregate.getSignerPublicKey(), aggregate.getTransactions().get(0).getSignerPublicKey());
+        Assertions.assertSame(bodies.get(1).getMosaics().get(0).getMosaicId(), bodies.get(5).getMosaics().get(0).getMosaicId());
+        Assertions.assertTrue(context.getInternHitCount() > 0);
+
+        MosaicColumns columns = new MosaicColumns(1);
+        ByteBuffer buffer = GeneratorUtils.wrap(payload);
+        TransferTransactionBodyView view = new TransferTransactionBodyView();
+        EmbeddedTransactionView transaction = new EmbeddedTransactionView();
+        TransactionView aggregateTransaction = new TransactionView().wrap(buffer, 0);
+        AggregateTransactionBodyView aggregateView = new AggregateTransactionBodyView()
+            .wrap(buffer, aggregateTransaction.getBodyOffset(), aggregateTransaction.getBodySize());
+        for (int offset = aggregateView.getTransactionsOffset(); offset < aggregateView.getCosignaturesOffset(); ) {
+            int size = transaction.wrap(buffer, offset).getStreamSize();
+            view.wrap(buffer, transaction.getBodyOffset()).readMosaics(columns);
+            offset += size + GeneratorUtils.getPadding(size, 8);
+        }
+        Assertions.assertEquals(12, columns.size());
+        Assertions.assertEquals(toHex(bodies.stream().flatMap(b -> b.getMosaics().stream()).collect(Collectors.toList())),
+            toHex(columns.toUnresolvedMosaics()));
+        Assertions.assertEquals(3, columns.getMosaicId(7));
+        Assertions.assertEquals(5, columns.getAmount(10));
+        Assertions.assertEquals(0, columns.indexOf(7));
+        columns.clear();
+        columns.add(1, 2);
+        Assertions.assertEquals(toHex(Collections.singletonList(MosaicBuilder.create(new MosaicIdDto(1), new AmountDto(2)))),
+            toHex(columns.toMosaics()));
+
+        List<EmbeddedTransactionBuilder> pooledList = aggregate.getTransactions();
+        long missCount = context.getInternMissCount();
+        context.reset();
+        Assertions.assertTrue(pooledList.isEmpty());
+        AggregateCompleteTransactionBuilder reused = (AggregateCompleteTransactionBuilder) TransactionBuilderHelper
+            .loadFromBinary(GeneratorUtils.wrap(payload), context);
+        Assertions.assertEquals(GeneratorUtils.toHex(payload), GeneratorUtils.toHex(reused.serialize()));
+        Assertions.assertEquals(missCount, context.getInternMissCount());
+
+        DecodeContext evicting = new DecodeContext().enableInterning(UnresolvedAddressDto.class, 1);
+        AggregateCompleteTransactionBuilder evicted = (AggregateCompleteTransactionBuilder) TransactionBuilderHelper
+            .loadFromBinary(GeneratorUtils.wrap(payload), evicting);
+        Assertions.assertEquals(GeneratorUtils.toHex(payload), GeneratorUtils.toHex(evicted.serialize()));
+        Assertions.assertEquals(0, evicting.getInternHitCount());
+        Assertions.assertEquals(6, evicting.getInternMissCount());
+    }
+
+    @Test
+    public void codecMetrics() throws Exception {
+        AggregateCompleteTransactionBuilder builder = createTransferAggregate();
+        byte[] payload = builder.serialize();
+        CodecMetrics metrics = CodecMetrics.install();
+        try {
+            TransactionBuilder aggregate = TransactionBuilderHelper.loadFromBinary(GeneratorUtils.wrap(payload));
+            Map<String, Long> counts = metrics.getDecodeCounts();
+            Assertions.assertEquals(1, counts.get("AggregateCompleteTransactionBuilder"));
+            Assertions.assertEquals(1, counts.get("EntityTypeDto.AGGREGATE_COMPLETE_TRANSACTION"));
+            Assertions.assertEquals(6, counts.get("EmbeddedTransferTransactionBuilder"));
+            Assertions.assertEquals(6, counts.get("EntityTypeDto." + ((AggregateCompleteTransactionBuilder) aggregate).getTransactions().get(0).getType().name()));
+            Assertions.assertEquals(12, counts.get("UnresolvedMosaicBuilder"));
+            Assertions.assertEquals(payload.length, metrics.getDecodeBytes().get("AggregateCompleteTransactionBuilder"));
+            CodecMetrics.Snapshot snapshot = metrics.getDecodeSnapshot().get("EmbeddedTransferTransactionBuilder");
+            Assertions.assertEquals(6, Arrays.stream(snapshot.getHistogram()).sum());
+            Assertions.assertTrue(snapshot.getPercentileNanos(0.99) >= snapshot.getPercentileNanos(0.5));
+            Assertions.assertTrue(snapshot.getPercentileNanos(0.5) > 0);
+
+            Assertions.assertEquals(GeneratorUtils.toHex(payload), GeneratorUtils.toHex(aggregate.serialize()));
+            Assertions.assertEquals(1, metrics.getEncodeCounts().get("AggregateCompleteTransactionBuilder"));
+            Assertions.assertEquals(12, metrics.getEncodeCounts().get("UnresolvedMosaicBuilder"));
+            Assertions.assertEquals(payload.length, metrics.getEncodeBytes().get("AggregateCompleteTransactionBuilder"));
+            Assertions.assertTrue(metrics.getDecodeFailureCounts().isEmpty());
+
+            byte[] transfer = builder.getTransactions().get(5).serialize();
+            byte[] truncated = Arrays.copyOf(transfer, transfer.length - 1);
+            Assertions.assertThrows(RuntimeException.class, () -> EmbeddedTransferTransactionBuilder.loadFromBinary(GeneratorUtils.wrap(truncated)));
+            ByteBuffer resized = GeneratorUtils.wrap(truncated.clone()).putInt(0, truncated.length);
+            Assertions.assertThrows(RuntimeException.class, () -> EmbeddedTransferTransactionBuilder.loadFromBinary(resized));
+            Assertions.assertThrows(RuntimeException.class,
+                () -> EmbeddedTransactionBuilderHelper.loadFromBinary(new DataInputStream(new ByteArrayInputStream(truncated))));
+            Assertions.assertEquals(1, metrics.getDecodeFailureCounts().get("EmbeddedTransferTransactionBuilder"));
+            Assertions.assertEquals(1, metrics.getDecodeFailureCounts().get("TransferTransactionBodyBuilder"));
+            Assertions.assertEquals(1, metrics.getDecodeFailureCounts().get("EmbeddedTransactionBuilder"));
+            List<String> failures = metrics.getRecentDecodeFailures();
+            Assertions.assertEquals(3, failures.size());
+            Assertions.assertTrue(failures.get(0).startsWith("EmbeddedTransferTransactionBuilder at offset 0: "), failures.get(0));
+            Assertions.assertTrue(failures.get(1).startsWith("TransferTransactionBodyBuilder at offset 48: "), failures.get(1));
+            Assertions.assertTrue(failures.get(2).startsWith("EmbeddedTransactionBuilder at offset -1: "), failures.get(2));
+            Object decodeState = ((ThreadLocal<?>) getField(GeneratorUtils.class, null, "DECODE_STATE")).get();
+            Assertions.assertEquals(0, getField(decodeState.getClass(), decodeState, "depth"));
+            Assertions.assertNull(getField(decodeState.getClass(), decodeState, "reportedFailure"));
+
+            javax.management.ObjectName name = metrics.registerMBean("io.nem.symbol.catapult:type=CodecMetrics,name=VectorTest");
+            javax.management.MBeanServer server = java.lang.management.ManagementFactory.getPlatformMBeanServer();
+            Assertions.assertNotNull(server.getAttribute(name, "DecodeCounts"));
+            Assertions.assertEquals(failures, Arrays.asList((String[]) server.getAttribute(name, "RecentDecodeFailures")));
+            server.invoke(name, "reset", null, null);
+            Assertions.assertTrue(metrics.getDecodeCounts().isEmpty());
+            server.unregisterMBean(name);
+        } finally {
+            GeneratorUtils.setCodecListener(CodecListener.NONE);
+        }
+        Assertions.assertSame(CodecListener.NONE, GeneratorUtils.getCodecListener());
+    }
+
+    @Test
+    public void entityBatchDecoder() throws Exception {
+        List<TransactionBuilder> transactions = new ArrayList<>();
+        for (BuilderTestItem item : vectors()) {
+            Class<?> builderClass = Class.forName(this.getClass().getPackage().getName() + "." + item.builder);
+            if (TransactionBuilder.class.isAssignableFrom(builderClass) && builderClass != TransactionBuilder.class) {
+                transactions.add(TransactionBuilderHelper.loadFromBinary(GeneratorUtils.wrap(GeneratorUtils.hexToBytes(item.payload))));
+            }
+        }
+        Assertions.assertFalse(transactions.isEmpty());
+        byte[] payload = concat(transactions, 8);
+        int[] offsets = EntityBatchDecoder.scanOffsets(GeneratorUtils.wrap(payload), 8);
+        Assertions.assertEquals(transactions.size(), offsets.length);
+        Assertions.assertEquals(0, offsets[0]);
+        Assertions.assertEquals(transactions.get(0).getSize() + GeneratorUtils.getPadding(transactions.get(0).getSize(), 8), offsets[1]);
+
+        EntityBatchDecoder<TransactionBuilder> decoder = EntityBatchDecoder.forTransactions(8).withEntitiesPerTask(3);
+        ByteBuffer buffer = GeneratorUtils.wrap(payload);
+        Assertions.assertEquals(toHex(transactions), toHex(decoder.decode(buffer)));
+        Assertions.assertFalse(buffer.hasRemaining());
+        for (int chunkSize : new int[] {64, 1000, payload.length}) {
+            List<TransactionBuilder> decoded = new ArrayList<>();
+            long count = decoder.withChunkSize(chunkSize).withMaxPendingChunks(2)
+                .decode(Channels.newChannel(new ByteArrayInputStream(payload)), decoded::add);
+            Assertions.assertEquals(transactions.size(), count);
+            Assertions.assertEquals(toHex(transactions), toHex(decoded));
+        }
+        byte[] truncated = Arrays.copyOf(payload, payload.length - 9);
+        Assertions.assertThrows(IllegalStateException.class, () -> decoder.decode(GeneratorUtils.wrap(truncated)));
+        Assertions.assertThrows(IllegalStateException.class,
+            () -> decoder.decode(Channels.newChannel(new ByteArrayInputStream(truncated)), t -> { }));
+
+        List<EmbeddedTransactionBuilder> embedded = createTransferAggregate().getTransactions();
+        Assertions.assertEquals(toHex(embedded), toHex(EntityBatchDecoder.forEmbeddedTransactions(8)
+            .decode(GeneratorUtils.wrap(concat(embedded, 8)))));
+
+        List<BalanceChangeReceiptBuilder> receipts = IntStream.range(0, 50).mapToObj(i -> BalanceChangeReceiptBuilder.create((short) 1,
+            ReceiptTypeDto.HARVEST_FEE, MosaicBuilder.create(new MosaicIdDto(i), new AmountDto(i)), new AddressDto(bytes(24, i))))
+            .collect(Collectors.toList());
+        ByteBuffer receiptBuffer = GeneratorUtils.allocate(receipts.stream().mapToInt(ReceiptBuilder::getSize).sum());
+        receipts.forEach(receipt -> {
+            receiptBuffer.putInt(receipt.getSize());
+            receiptBuffer.put(receipt.serialize());
+        });
+        List<BalanceChangeReceiptBuilder> decodedReceipts = new ArrayList<>();
+        new EntityBatchDecoder<>(BalanceChangeReceiptBuilder::loadFromBinary, 0).withEntitiesPerTask(7).withChunkSize(100)
+            .decode(Channels.newChannel(new ByteArrayInputStream(receiptBuffer.array())), decodedReceipts::add);
+        Assertions.assertEquals(toHex(receipts), toHex(decodedReceipts));
+    }
+
+    private static byte[] concat(List<? extends Serializer> entities, int alignment) {
+        ByteBuffer buffer = GeneratorUtils.allocate(entities.stream()
+            .mapToInt(e -> e.getSize() + GeneratorUtils.getPadding(e.getSize(), alignment)).sum());
+        entities.forEach(e -> {
+            buffer.put(e.serialize());
+            buffer.position(buffer.position() + GeneratorUtils.getPadding(e.getSize(), alignment));
+        });
+        return buffer.array();
+    }
+
+    private static AggregateCompleteTransactionBuilder createTransferAggregate() {
+        List<EmbeddedTransactionBuilder> transactions = IntStream.range(0, 6)
+            .mapToObj(i -> EmbeddedTransferTransactionBuilder.create(new KeyDto(bytes(32, i % 2)), (byte) 1,
+                NetworkTypeDto.PUBLIC_TEST, EntityTypeDto.EMBEDDED_TRANSFER_TRANSACTION, new UnresolvedAddressDto(bytes(24, i % 3)),
+                Arrays.asList(UnresolvedMosaicBuilder.create(new UnresolvedMosaicIdDto(7), new AmountDto(i)),
+                    UnresolvedMosaicBuilder.create(new UnresolvedMosaicIdDto(i), new AmountDto(1))), bytes(i, i)))
+            .collect(Collectors.toList());
+        return AggregateCompleteTransactionBuilder.create(new SignatureDto(bytes(64, 0)), new KeyDto(bytes(32, 0)), (byte) 1,
+            NetworkTypeDto.PUBLIC_TEST, EntityTypeDto.AGGREGATE_COMPLETE_TRANSACTION, new AmountDto(1), new TimestampDto(1),
+            new Hash256Dto(bytes(32, 0)), transactions, Collections.emptyList());
+    }
+
+    @Test
+    public void resolutionStatementView() {
+        List<MosaicResolutionEntryBuilder> entries = Stream.iterate(1, i -> i + 1).limit(100)
+            .map(i -> MosaicResolutionEntryBuilder.create(ReceiptSourceBuilder.create(i, 0), new MosaicIdDto(i)))
+            .collect(Collectors.toList());
+        MosaicResolutionStatementBuilder builder = MosaicResolutionStatementBuilder.create((short) 1, ReceiptTypeDto.MOSAIC_ALIAS_RESOLUTION, new UnresolvedMosaicIdDto(7), entries);
+        ByteBuffer buffer = GeneratorUtils.allocate(builder.getSize());
+        buffer.putInt(builder.getSize());
+        buffer.put(builder.serialize());
+        MosaicResolutionStatementView view = new MosaicResolutionStatementView().wrap(buffer, 0);
+        Assertions.assertEquals(7, view.getUnresolved());
+        Assertions.assertEquals(ReceiptTypeDto.MOSAIC_ALIAS_RESOLUTION, view.getType());
+        Assertions.assertEquals(100, view.getResolutionEntriesSpliterator().estimateSize());
+        Assertions.assertEquals(toHex(entries), toHex(view.streamResolutionEntries(true).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void stateSnapshotReader() throws Exception {
+        List<AccountStateBuilder> accounts = IntStream.range(0, 300).mapToObj(i -> {
+            EnumSet<AccountKeyTypeFlagsDto> mask = EnumSet.noneOf(AccountKeyTypeFlagsDto.class);
+            Stream.of(AccountKeyTypeFlagsDto.LINKED, AccountKeyTypeFlagsDto.NODE, AccountKeyTypeFlagsDto.VRF)
+                .filter(flag -> (i & flag.getValue()) != 0).forEach(mask::add);
+            List<PinnedVotingKeyBuilder> votingKeys = IntStream.range(0, i % 4).mapToObj(k -> PinnedVotingKeyBuilder
+                .create(new VotingKeyDto(bytes(32, k)), new FinalizationEpochDto(k), new FinalizationEpochDto(k + 1)))
+                .collect(Collectors.toList());
+            List<MosaicBuilder> balances = IntStream.range(0, i % 5).mapToObj(k -> MosaicBuilder.create(new MosaicIdDto(k), new AmountDto(i * 10 + k)))
+                .collect(Collectors.toList());
+            KeyDto linked = mask.contains(AccountKeyTypeFlagsDto.LINKED) ? new KeyDto(bytes(32, 1)) : null;
+            KeyDto node = mask.contains(AccountKeyTypeFlagsDto.NODE) ? new KeyDto(bytes(32, 2)) : null;
+            KeyDto vrf = mask.contains(AccountKeyTypeFlagsDto.VRF) ? new KeyDto(bytes(32, 3)) : null;
+            if (i % 3 == 0) {
+                HeightActivityBucketsBuilder buckets = HeightActivityBucketsBuilder.create(IntStream.range(0, 5)
+                    .mapToObj(k -> HeightActivityBucketBuilder.create(new ImportanceHeightDto(k), new AmountDto(k), k, k))
+                    .collect(Collectors.toList()));
+                return AccountStateBuilder.createHighValue((short) 1, new AddressDto(bytes(24, i)), new HeightDto(i), new KeyDto(bytes(32, i)),
+                    new HeightDto(i), AccountTypeDto.MAIN, mask, linked, node, vrf, votingKeys,
+                    ImportanceSnapshotBuilder.create(new ImportanceDto(i), new ImportanceHeightDto(i)), buckets, balances);
+            }
+            return AccountStateBuilder.createRegular((short) 1, new AddressDto(bytes(24, i)), new HeightDto(i), new KeyDto(bytes(32, i)),
+                new HeightDto(i), AccountTypeDto.MAIN, mask, linked, node, vrf, votingKeys, balances);
+        }).collect(Collectors.toList());
+        Path file = writeRecords(accounts);
+        for (int segmentSize : new int[] {StateSnapshotReader.MAX_SEGMENT_SIZE, 4096, 1000}) {
+            StateSnapshotReader<AccountStateBuilder> reader = StateSnapshotReader.open(file, AccountStateBuilder::loadFromBinary,
+                StateRecordLayout::getAccountStateSize, segmentSize);
+            Assertions.assertEquals(accounts.size(), reader.getCount());
+            Assertions.assertEquals(segmentSize == StateSnapshotReader.MAX_SEGMENT_SIZE, reader.getSegmentCount() == 1);
+            Assertions.assertEquals(toHex(accounts), toHex(reader.stream(false).collect(Collectors.toList())));
+            Assertions.assertEquals(toHex(accounts), toHex(reader.stream(true).collect(Collectors.toList())));
+            long[] balances = reader.mapToLong((buffer, offset) -> StateRecordLayout.getAccountStateBalance(buffer, offset, 3), true);
+            for (int i = 0; i < accounts.size(); i++) {
+                Assertions.assertEquals(accounts.get(i).getSize(), reader.getSize(i));
+                Assertions.assertEquals(i % 5 > 3 ? i * 10 + 3 : 0, balances[i]);
+            }
+        }
+        Files.write(file, Arrays.copyOf(Files.readAllBytes(file), (int) Files.size(file) - 1));
+        Assertions.assertThrows(IllegalStateException.class, () -> StateSnapshotReader.openAccountStates(file));
+        Files.delete(file);
+    }
+
+    @Test
+    public void stateRecordLayout() throws Exception {
+        List<MultisigEntryBuilder> multisigs = IntStream.range(0, 20).mapToObj(i -> MultisigEntryBuilder.create((short) 1, i, i,
+            new AddressDto(bytes(24, i)), IntStream.range(0, i % 3).mapToObj(k -> new AddressDto(bytes(24, k))).collect(Collectors.toList()),
+            IntStream.range(0, i % 2).mapToObj(k -> new AddressDto(bytes(24, k))).collect(Collectors.toList())))
+            .collect(Collectors.toList());
+        List<NamespaceAliasBuilder> aliases = Arrays.asList(NamespaceAliasBuilder.createNone(),
+            NamespaceAliasBuilder.createMosaicId(new MosaicIdDto(1)), NamespaceAliasBuilder.createAddress(new AddressDto(bytes(24, 1))));
+        List<RootNamespaceHistoryBuilder> namespaces = IntStream.range(0, 20).mapToObj(i -> RootNamespaceHistoryBuilder.create((short) 1,
+            new NamespaceIdDto(i), new AddressDto(bytes(24, i)), NamespaceLifetimeBuilder.create(new HeightDto(1), new HeightDto(2)), aliases.get(i % 3),
+            IntStream.range(0, i % 4).mapToObj(k -> NamespacePathBuilder.create(Collections.nCopies(k + 1, new NamespaceIdDto(k)), aliases.get(k % 3)))
+                .collect(Collectors.toList())))
+            .collect(Collectors.toList());
+        Path multisigFile = writeRecords(multisigs);
+        Path namespaceFile = writeRecords(namespaces);
+        Assertions.assertEquals(toHex(multisigs), toHex(StateSnapshotReader.openMultisigEntries(multisigFile).stream(true).collect(Collectors.toList())));
+        Assertions.assertEquals(toHex(namespaces), toHex(StateSnapshotReader.openRootNamespaceHistories(namespaceFile).stream(true).collect(Collectors.toList())));
+        Files.delete(multisigFile);
+        Files.delete(namespaceFile);
+
+        MosaicBuilder mosaic = MosaicBuilder.create(new MosaicIdDto(1), new AmountDto(2));
+        Assertions.assertEquals(MosaicEntryBuilder.create((short) 1, new MosaicIdDto(1), new AmountDto(2), MosaicDefinitionBuilder.create(new HeightDto(1),
+            new AddressDto(bytes(24, 1)), 1, MosaicPropertiesBuilder.create(EnumSet.noneOf(MosaicFlagsDto.class), (byte) 0, new BlockDurationDto(1)))).getSize(),
+            StateRecordLayout.MOSAIC_ENTRY_SIZE);
+        Assertions.assertEquals(HashLockInfoBuilder.create((short) 1, new AddressDto(bytes(24, 1)), mosaic, new HeightDto(1), LockStatusDto.UNUSED,
+            new Hash256Dto(bytes(32, 1))).getSize(), StateRecordLayout.HASH_LOCK_INFO_SIZE);
+        Assertions.assertEquals(SecretLockInfoBuilder.create((short) 1, new AddressDto(bytes(24, 1)), mosaic, new HeightDto(1), LockStatusDto.UNUSED,
+            LockHashAlgorithmDto.SHA3_256, new Hash256Dto(bytes(32, 1)), new AddressDto(bytes(24, 2))).getSize(), StateRecordLayout.SECRET_LOCK_INFO_SIZE);
+
+        ByteBuffer unsupported = GeneratorUtils.allocate(1024).putShort(3, (short) 2);
+        List<StateSnapshotReader.RecordSizer> sizers = Arrays.asList(StateRecordLayout::getAccountStateSize,
+            StateRecordLayout::getMosaicEntrySize, StateRecordLayout::getHashLockInfoSize, StateRecordLayout::getSecretLockInfoSize,
+            StateRecordLayout::getMultisigEntrySize, StateRecordLayout::getRootNamespaceHistorySize);
+        for (StateSnapshotReader.RecordSizer sizer : sizers) {
+            IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class, () -> sizer.getSize(unsupported, 3));
+            Assertions.assertEquals("Unsupported state version 2 at offset 3", exception.getMessage());
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StateRecordLayout.getAccountStateBalance(unsupported, 3, 1));
+        Path unsupportedFile = writeRecords(Collections.singletonList(MultisigEntryBuilder.create((short) 2, 1, 1,
+            new AddressDto(bytes(24, 1)), Collections.emptyList(), Collections.emptyList())));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StateSnapshotReader.openMultisigEntries(unsupportedFile));
+        Files.delete(unsupportedFile);
+    }
+
+    private static Path writeRecords(List<? extends Serializer> records) throws Exception {
+        Path file = Files.createTempFile("records", ".bin");
+        Files.write(file, records.stream().map(Serializer::serialize).reduce(new byte[0], (a, b) -> {
+            byte[] result = Arrays.copyOf(a, a.length + b.length);
+            System.arraycopy(b, 0, result, a.length, b.length);
+            return result;
+        }));
+        return file;
+    }
+
+    private static ByteBuffer bytes(int size, int seed) {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (int i = 0; i < size; i++) {
+            buffer.put(i, (byte) seed);
+        }
+        return buffer;
+    }
+
+    private static List<String> toHex(List<? extends Serializer> serializers) {
+        return serializers.stream().map(s -> GeneratorUtils.toHex(s.serialize())).collect(Collectors.toList());
+    }
+
 }
@@ -0,0 +1,173 @@
+package io.nem.symbol.catapult.builders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Inputs shared by the benchmarks: the test/vector corpus used by VectorTest and synthetic scaled entities.
+ */
+public final class BenchmarkVectors {
+
+    /** Vector files, loaded from the classpath. */
+    private static final String[] VECTOR_FILES = {"vector/basic.yml", "vector/states.yml", "vector/transactions.yml"};
+
+    /** Number of cosignatures of the synthetic aggregates. */
+    private static final int COSIGNATURE_COUNT = 3;
+
+    private BenchmarkVectors() {
+    }
+
+    /**
+     * Loads the payloads of a builder from the corpus.
+     *
+     * @param builder Simple name of the builder class.
+     * @return The payloads.
+     */
+    public static List<byte[]> loadPayloads(String builder) {
+        List<byte[]> payloads = loadPayloads(builder::equals);
+        if (payloads.isEmpty()) {
+            throw new IllegalArgumentException("No vectors for " + builder);
+        }
+        return payloads;
+    }
+
+    /**
+     * Loads the payloads of all the top level transactions of the corpus.
+     *
+     * @return The payloads.
+     */
+    public static List<byte[]> loadTransactionPayloads() {
+        return loadPayloads(builder -> TransactionBuilder.class.isAssignableFrom(getBuilderClass(builder)));
+    }
+
+    /**
+     * Loads the payloads of the inner transactions of all the aggregates of the corpus.
+     *
+     * @return The payloads.
+     */
+    public static List<byte[]> loadEmbeddedTransactionPayloads() {
+        return loadTransactionPayloads().stream()
+            .map(payload -> TransactionBuilderHelper.loadFromBinary(GeneratorUtils.wrap(payload)))
+            .flatMap(transaction -> transaction instanceof AggregateBondedTransactionBuilder
+                ? ((AggregateBondedTransactionBuilder) transaction).getTransactions().stream()
+                : transaction instanceof AggregateCompleteTransactionBuilder
+                    ? ((AggregateCompleteTransactionBuilder) transaction).getTransactions().stream()
+                    : Stream.empty())
+            .map(Serializer::serialize)
+            .collect(Collectors.toList());
+    }
+
+    private static List<byte[]> loadPayloads(Predicate<String> builderFilter) {
+        List<byte[]> payloads = new ArrayList<>();
+        for (String file : VECTOR_FILES) {
+            try (InputStream input = BenchmarkVectors.class.getClassLoader().getResourceAsStream(file)) {
+                Objects.requireNonNull(input, file + " is not in the classpath");
+                List<Map<String, String>> data = new Yaml().load(input);
+                payloads.addAll(data.stream().filter(item -> builderFilter.test(item.get("builder")))
+                    .map(item -> GeneratorUtils.hexToBytes(Objects.toString(item.get("payload"))))
+                    .collect(Collectors.toList()));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return payloads;
+    }
+
+    private static Class<?> getBuilderClass(String builder) {
+        try {
+            return Class.forName(BenchmarkVectors.class.getPackage().getName() + "." + builder);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Gets the static loadFromBinary method of a builder.
+     *
+     * @param builder Simple name of the builder class.
+     * @param sourceType DataInputStream or ByteBuffer.
+     * @return Method handle of type (sourceType)Serializer.
+     */
+    public static MethodHandle getLoadFromBinary(String builder, Class<?> sourceType) {
+        try {
+            Class<?> builderClass = getBuilderClass(builder);
+            return MethodHandles.publicLookup()
+                .findStatic(builderClass, "loadFromBinary", MethodType.methodType(builderClass, sourceType))
+                .asType(MethodType.methodType(Serializer.class, sourceType));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Creates an aggregate bonded transaction with transfer inner transactions.
+     *
+     * @param transactionCount Number of inner transactions.
+     * @return The aggregate.
+     */
+    public static AggregateBondedTransactionBuilder createAggregate(int transactionCount) {
+        List<EmbeddedTransactionBuilder> transactions = IntStream.range(0, transactionCount)
+            .mapToObj(i -> EmbeddedTransferTransactionBuilder.create(new KeyDto(bytes(32, i)), (byte) 1,
+                NetworkTypeDto.PUBLIC_TEST, EntityTypeDto.EMBEDDED_TRANSFER_TRANSACTION,
+                new UnresolvedAddressDto(bytes(24, i)),
+                Collections.singletonList(UnresolvedMosaicBuilder.create(new UnresolvedMosaicIdDto(i), new AmountDto(i))),
+                bytes(i % 32, i)))
+            .collect(Collectors.toList());
+        List<CosignatureBuilder> cosignatures = IntStream.range(0, COSIGNATURE_COUNT)
+            .mapToObj(i -> CosignatureBuilder.create(0, new KeyDto(bytes(32, i)), new SignatureDto(bytes(64, i))))
+            .collect(Collectors.toList());
+        return AggregateBondedTransactionBuilder.create(new SignatureDto(bytes(64, 0)), new KeyDto(bytes(32, 0)),
+            (byte) 1, NetworkTypeDto.PUBLIC_TEST, EntityTypeDto.AGGREGATE_BONDED_TRANSACTION, new AmountDto(100),
+            new TimestampDto(1), new Hash256Dto(bytes(32, 0)), transactions, cosignatures);
+    }
+
+    /**
+     * Creates a regular account state.
+     *
+     * @param balanceCount Number of mosaic balances.
+     * @param votingKeyCount Number of voting keys.
+     * @return The account state.
+     */
+    public static AccountStateBuilder createAccountState(int balanceCount, int votingKeyCount) {
+        List<PinnedVotingKeyBuilder> votingKeys = IntStream.range(0, votingKeyCount)
+            .mapToObj(i -> PinnedVotingKeyBuilder.create(new VotingKeyDto(bytes(32, i)), new FinalizationEpochDto(i),
+                new FinalizationEpochDto(i + 1)))
+            .collect(Collectors.toList());
+        List<MosaicBuilder> balances = IntStream.range(0, balanceCount)
+            .mapToObj(i -> MosaicBuilder.create(new MosaicIdDto(i), new AmountDto(i)))
+            .collect(Collectors.toList());
+        return AccountStateBuilder.createRegular((short) 1, new AddressDto(bytes(24, 0)), new HeightDto(1),
+            new KeyDto(bytes(32, 0)), new HeightDto(1), AccountTypeDto.MAIN, EnumSet.of(AccountKeyTypeFlagsDto.LINKED),
+            new KeyDto(bytes(32, 1)), null, null, votingKeys, balances);
+    }
+
+    /**
+     * Creates a buffer filled with a seed value.
+     *
+     * @param size Size of the buffer.
+     * @param seed Value of every byte.
+     * @return The buffer.
+     */
+    private static ByteBuffer bytes(int size, int seed) {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (int i = 0; i < size; i++) {
+            buffer.put(i, (byte) seed);
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,80 @@
+package io.nem.symbol.catapult.builders;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Synthetic account states with a growing number of mosaic balances and voting keys.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScaledAccountStateBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    public int balanceCount;
+
+    @Param({"1", "10", "100"})
+    public int votingKeyCount;
+
+    private AccountStateBuilder accountState;
+
+    private byte[] payload;
+
+    private ByteBuffer buffer;
+
+    private ByteBuffer output;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.accountState = BenchmarkVectors.createAccountState(this.balanceCount, this.votingKeyCount);
+        this.payload = this.accountState.serialize();
+        this.buffer = GeneratorUtils.wrap(this.payload);
+        this.output = GeneratorUtils.allocate(this.payload.length);
+    }
+
+    @Benchmark
+    public AccountStateBuilder loadFromBinaryStream() {
+        return AccountStateBuilder.loadFromBinary(new DataInputStream(new ByteArrayInputStream(this.payload)));
+    }
+
+    @Benchmark
+    public AccountStateBuilder loadFromBinaryBuffer() {
+        this.buffer.rewind();
+        return AccountStateBuilder.loadFromBinary(this.buffer);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return this.accountState.serialize();
+    }
+
+    @Benchmark
+    public ByteBuffer serializeTo() {
+        this.output.clear();
+        this.accountState.serializeTo(this.output);
+        return this.output;
+    }
+
+    @Benchmark
+    public int getSize() {
+        return this.accountState.getSize();
+    }
+}
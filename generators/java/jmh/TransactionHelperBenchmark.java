@@ -0,0 +1,84 @@
+package io.nem.symbol.catapult.builders;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Polymorphic decoding of the transactions of the test/vector corpus through TransactionBuilderHelper and
+ * EmbeddedTransactionBuilderHelper. Each invocation decodes the next payload, so the dispatch sees every
+ * transaction type of the corpus.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionHelperBenchmark {
+
+    private byte[][] transactions;
+
+    private ByteBuffer[] transactionBuffers;
+
+    private ByteBuffer[] embeddedBuffers;
+
+    private int transactionIndex;
+
+    private int embeddedIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.transactions = BenchmarkVectors.loadTransactionPayloads().toArray(new byte[0][]);
+        this.transactionBuffers = new ByteBuffer[this.transactions.length];
+        for (int i = 0; i < this.transactions.length; i++) {
+            this.transactionBuffers[i] = GeneratorUtils.wrap(this.transactions[i]);
+        }
+        this.embeddedBuffers = BenchmarkVectors.loadEmbeddedTransactionPayloads().stream().map(GeneratorUtils::wrap)
+            .toArray(ByteBuffer[]::new);
+    }
+
+    private int nextTransaction() {
+        final int current = this.transactionIndex;
+        this.transactionIndex = current + 1 == this.transactions.length ? 0 : current + 1;
+        return current;
+    }
+
+    private int nextEmbedded() {
+        final int current = this.embeddedIndex;
+        this.embeddedIndex = current + 1 == this.embeddedBuffers.length ? 0 : current + 1;
+        return current;
+    }
+
+    @Benchmark
+    public TransactionBuilder transactionFromStream() {
+        return TransactionBuilderHelper.loadFromBinary(
+            new DataInputStream(new ByteArrayInputStream(this.transactions[nextTransaction()])));
+    }
+
+    @Benchmark
+    public TransactionBuilder transactionFromBuffer() {
+        final ByteBuffer buffer = this.transactionBuffers[nextTransaction()];
+        buffer.rewind();
+        return TransactionBuilderHelper.loadFromBinary(buffer);
+    }
+
+    @Benchmark
+    public EmbeddedTransactionBuilder embeddedTransactionFromBuffer() {
+        final ByteBuffer buffer = this.embeddedBuffers[nextEmbedded()];
+        buffer.rewind();
+        return EmbeddedTransactionBuilderHelper.loadFromBinary(buffer);
+    }
+}
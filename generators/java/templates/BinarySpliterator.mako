@@ -0,0 +1,173 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Spliterator that decodes the elements of a serialized array one at a time, straight from a little-endian buffer.
+ * Element boundaries are found from a fixed element size or from the 4 byte size prefix of each element, so the
+ * array can be split for parallel streams without decoding it.
+ *
+ * @param <T> Element type.
+ */
+public final class BinarySpliterator<T extends Serializer> implements Spliterator<T> {
+
+    /** Factory that decodes one element. */
+    private final Function<ByteBuffer, T> factory;
+
+    /** Buffer owned by this spliterator, limited to the array. */
+    private final ByteBuffer buffer;
+
+    /** Size of every element or 0 if each element starts with its size. */
+    private final int elementSize;
+
+    /** Alignment of the elements. */
+    private final int alignment;
+
+    /** Offset of the next element. */
+    private int index;
+
+    /** Offset just after the last element. */
+    private final int end;
+
+    /**
+     * Constructor.
+     *
+     * @param factory Factory that decodes one element.
+     * @param buffer Buffer holding the array.
+     * @param start Offset of the first element.
+     * @param end Offset just after the last element, within the buffer limit.
+     * @param elementSize Size of every element or 0 if each element starts with its size.
+     * @param alignment Alignment of the elements.
+     */
+    private BinarySpliterator(final Function<ByteBuffer, T> factory, final ByteBuffer buffer, final int start,
+        final int end, final int elementSize, final int alignment) {
+        GeneratorUtils.notNull(factory, "factory is null");
+        GeneratorUtils.isTrue(start >= 0 && start <= end && end <= buffer.limit(),
+            "Invalid array bounds [%d, %d)", start, end);
+        this.factory = factory;
+        this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.buffer.limit(end);
+        this.elementSize = elementSize;
+        this.alignment = alignment;
+        this.index = start;
+        this.end = end;
+    }
+
+    /**
+     * Creates a spliterator over an array of elements of the same size.
+     *
+     * @param factory Factory that decodes one element.
+     * @param buffer Buffer holding the array.
+     * @param start Offset of the first element.
+     * @param end Offset just after the last element, within the buffer limit.
+     * @param elementSize Size of every element.
+     * @param alignment Alignment of the elements.
+     * @param <T> Element type.
+     * @return The spliterator.
+     */
+    public static <T extends Serializer> BinarySpliterator<T> ofFixedSize(final Function<ByteBuffer, T> factory,
+        final ByteBuffer buffer, final int start, final int end, final int elementSize, final int alignment) {
+        GeneratorUtils.isTrue(elementSize > 0, "Invalid element size %d", elementSize);
+        return new BinarySpliterator<>(factory, buffer, start, end, elementSize, alignment);
+    }
+
+    /**
+     * Creates a spliterator over an array of entities starting with their size.
+     *
+     * @param factory Factory that decodes one element.
+     * @param buffer Buffer holding the array.
+     * @param start Offset of the first element.
+     * @param end Offset just after the last element, within the buffer limit.
+     * @param alignment Alignment of the elements.
+     * @param <T> Element type.
+     * @return The spliterator.
+     */
+    public static <T extends Serializer> BinarySpliterator<T> ofSizePrefixed(final Function<ByteBuffer, T> factory,
+        final ByteBuffer buffer, final int start, final int end, final int alignment) {
+        return new BinarySpliterator<>(factory, buffer, start, end, 0, alignment);
+    }
+
+    /**
+     * Gets the size of the element at the given offset.
+     *
+     * @param offset Offset of the element.
+     * @return Size in bytes.
+     */
+    private int getElementSize(final int offset) {
+        final int size = this.elementSize > 0 ? this.elementSize : this.buffer.getInt(offset);
+        GeneratorUtils.isTrue(size > 0 && size <= this.end - offset, "Invalid element size %d at offset %d", size,
+            offset);
+        return size;
+    }
+
+    /**
+     * Gets the offset of the element following the one at the given offset.
+     *
+     * @param offset Offset of the element.
+     * @param size Size of the element.
+     * @return Offset of the next element.
+     */
+    private int getNextIndex(final int offset, final int size) {
+        return Math.min(offset + size + GeneratorUtils.getPadding(size, this.alignment), this.end);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (this.index >= this.end) {
+            return false;
+        }
+        final int size = getElementSize(this.index);
+        this.buffer.limit(this.index + size);
+        this.buffer.position(this.index);
+        final T element;
+        try {
+            element = this.factory.apply(this.buffer);
+        } finally {
+            this.buffer.limit(this.end);
+        }
+        this.index = getNextIndex(this.index, size);
+        action.accept(element);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        while (tryAdvance(action)) {
+            // keep going
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final int middle = this.index + (this.end - this.index) / 2;
+        int split = this.index;
+        while (split < middle) {
+            split = getNextIndex(split, getElementSize(split));
+        }
+        if (split == this.index || split >= this.end) {
+            return null;
+        }
+        final BinarySpliterator<T> prefix = new BinarySpliterator<>(this.factory, this.buffer, this.index, split,
+            this.elementSize, this.alignment);
+        this.index = split;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (this.index >= this.end) {
+            return 0;
+        }
+        final int size = getElementSize(this.index);
+        final int stride = size + GeneratorUtils.getPadding(size, this.alignment);
+        return (this.end - this.index + stride - 1) / stride;
+    }
+
+    @Override
+    public int characteristics() {
+        final int characteristics = ORDERED | NONNULL | IMMUTABLE;
+        return this.elementSize > 0 ? characteristics | SIZED | SUBSIZED : characteristics;
+    }
+}
@@ -1,5 +1,6 @@
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -13,6 +14,22 @@ public class ${generator.generated_class_name}${(' extends ' + str(generator.gen
     private ${'final ' if a.attribute_is_final else ''}${a.attribute_var_type} ${a.attribute_name};
 
 % endfor\
+<%
+    size_prefixed = any(a.attribute_name == 'size' and a.kind == helper.AttributeKind.SIMPLE for a in generator.attributes)
+    skip_to_size = generator.base_class_name in ['Transaction', 'EmbeddedTransaction', 'Receipt']
+%>\
+    /** Whether getSize keeps its first result. **/
+    private boolean sizeCacheEnabled;
+
+    /** Whether serializeTo keeps its first result, only set on the object enableCache was called on. **/
+    private boolean bytesCacheEnabled;
+
+    /** Cached size or -1 if it has not been calculated. **/
+    private volatile int cachedSize = -1;
+
+    /** Cached serialized bytes or null if the object has not been serialized. **/
+    private volatile byte[] cachedBytes;
+
 
 <%def name="renderCondition(a)" filter="trim">
     ${helper.get_condition_operation_text(a.attribute['condition_operation']).format(a.attribute['condition'], helper.get_generated_class_name(a.condition_type_attribute['type'], a.condition_type_attribute, generator.schema) + '.' + helper.create_enum_name(a.attribute['condition_value']))}
@@ -75,13 +92,159 @@ public class ${generator.generated_class_name}${(' extends ' + str(generator.gen
 
     /**
      * Creates an instance of ${generator.generated_class_name} from a stream.
+% if size_prefixed and skip_to_size:
+     * The stream is read up to the end of the object given by its size.
+% endif
      *
      * @param stream Byte stream to use to serialize the object.
      * @return Instance of ${generator.generated_class_name}.
      */
     public static ${generator.generated_class_name} loadFromBinary(DataInputStream stream) {
-        return new ${generator.generated_class_name}(stream);
+% if size_prefixed and skip_to_size:
+        return GeneratorUtils.decodeSizePrefixed(${generator.generated_class_name}.class, stream, ${generator.generated_class_name}::new);
+% else:
+        return GeneratorUtils.decode(${generator.generated_class_name}.class, stream, ${generator.generated_class_name}::new);
+% endif
+    }
+
+##     BUFFER CONSTRUCTORS
+<%def name="renderBufferReader(a)" filter="trim">
+    % if a.kind == helper.AttributeKind.SIMPLE:
+        this.${a.attribute_name} = buffer.${helper.get_buffer_read_method_name(a.attribute_size)}();
+   % elif a.kind == helper.AttributeKind.BUFFER:
+        this.${a.attribute_name} = GeneratorUtils.readByteBuffer(buffer, ${a.attribute_size});
+    % elif a.kind == helper.AttributeKind.SIZE_FIELD:
+        final ${a.attribute_var_type} ${a.attribute_name} = buffer.${helper.get_buffer_read_method_name(a.attribute_size)}();
+   % elif a.kind == helper.AttributeKind.ARRAY:
+        this.${a.attribute_name} = GeneratorUtils.loadFromBinaryArray(${helper.get_load_from_binary_factory(a.attribute_class_name)}::loadFromBinary, buffer, context, ${a.attribute_size}, 0);
+    % elif a.kind == helper.AttributeKind.CUSTOM and (not a.attribute_is_conditional or not a.conditional_read_before):
+        this.${a.attribute_name} = ${helper.get_load_from_binary_factory(a.attribute_class_name)}.loadFromBinary(buffer, context);
+    % elif a.kind == helper.AttributeKind.CUSTOM:
+        this.${a.attribute_name} = new ${helper.get_load_from_binary_factory(a.attribute_class_name)}(${a.attribute['condition']}Condition);
+    % elif a.kind == helper.AttributeKind.FILL_ARRAY:
+        this.${a.attribute_name} = GeneratorUtils.loadFromBinaryArrayRemaining(${helper.get_load_from_binary_factory(a.attribute_class_name)}::loadFromBinary, buffer, context, 0);
+    % elif a.kind == helper.AttributeKind.FLAGS:
+        this.${a.attribute_name} = ${'GeneratorUtils.toSet({0}, {1})'.format(a.attribute_class_name + '.class', 'buffer.' + helper.get_buffer_read_method_name(a.attribute_size) + '()')};
+    % elif a.kind == helper.AttributeKind.VAR_ARRAY:
+        this.${a.attribute_name} = GeneratorUtils.loadFromBinaryArrayRemaining(${helper.get_load_from_binary_factory(a.attribute_class_name)}::loadFromBinary, buffer, context, payloadSize, ${helper.resolve_alignment(a)});
+    % else:
+        FIX ME!
+    % endif
+</%def>\
+    /**
+     * Constructor - Creates an object from a little-endian buffer.
+     *
+     * @param buffer Buffer to read the object from, positioned at its first byte.
+     * @param context Context interning the DTOs and pooling the lists.
+     */
+    protected ${generator.generated_class_name}(ByteBuffer buffer, DecodeContext context) {
+ % if generator.base_class_name is not None:
+        super(buffer, context);
+% endif
+    % for a in set([(a.attribute['condition'], a.attribute_size, a.conditional_read_before) for a in generator.attributes if not a.attribute_is_super and not a.attribute_is_inline and a.conditional_read_before and a.attribute_is_conditional]):
+        final ${helper.get_builtin_type(a[1])} ${a[0]}Condition = buffer.${helper.get_buffer_read_method_name(a[1])}();
+    % endfor
+    % for a in [a for a in generator.attributes if not a.attribute_is_super and not a.attribute_is_inline and not a.conditional_read_before]:
+        %if a.attribute_is_conditional:
+        if (this.${renderCondition(a) | trim}) {
+            ${renderBufferReader(a) | trim}
+        }
+        % else:
+        ${renderBufferReader(a) | trim}
+        %endif
+    % endfor
+    % for a in [a for a in generator.attributes if not a.attribute_is_super and not a.attribute_is_inline and a.conditional_read_before]:
+        if (this.${renderCondition(a) | trim}) {
+            ${renderBufferReader(a) | trim}
+        }
+    % endfor
+    }
+
+    /**
+     * Creates an instance of ${generator.generated_class_name} from a little-endian buffer.
+     * The buffer position is advanced past the object.
+% if size_prefixed:
+     * The object is decoded within the bytes covered by its size.
+% endif
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of ${generator.generated_class_name}.
+     */
+    public static ${generator.generated_class_name} loadFromBinary(ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of ${generator.generated_class_name} from a little-endian buffer with a decode context.
+     * The buffer position is advanced past the object.
+% if size_prefixed:
+     * The object is decoded within the bytes covered by its size.
+% endif
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of ${generator.generated_class_name}.
+     */
+    public static ${generator.generated_class_name} loadFromBinary(ByteBuffer buffer, DecodeContext context) {
+% if size_prefixed:
+        return GeneratorUtils.decodeSizePrefixed(${generator.generated_class_name}.class, buffer, context, ${'true' if skip_to_size else 'false'},
+            ${generator.generated_class_name}::new);
+% else:
+        return GeneratorUtils.decode(${generator.generated_class_name}.class, buffer, context, ${generator.generated_class_name}::new);
+% endif
+    }
+% if generator.name in ['Transaction', 'EmbeddedTransaction']:
+
+    /**
+     * Constructor - Creates an object copying an already parsed header.
+     *
+     * @param header Header to copy.
+     */
+    protected ${generator.generated_class_name}(${generator.generated_class_name} header) {
+    % for a in [a for a in generator.attributes if not a.attribute_is_super and not a.attribute_is_inline and not a.kind == helper.AttributeKind.SIZE_FIELD]:
+        this.${a.attribute_name} = header.${a.attribute_name};
+    % endfor
+    }
+% endif
+% if generator.base_class_name in ['Transaction', 'EmbeddedTransaction']:
+
+    /**
+     * Constructor - Creates an object from an already parsed header and body.
+     *
+     * @param header Parsed header.
+     * @param body Parsed body.
+     */
+    protected ${generator.generated_class_name}(${generator.generated_base_class_name} header, ${generator.body_class_name}Builder body) {
+        super(header);
+        this.${helper.decapitalize_first_character(generator.body_class_name)} = body;
+    }
+
+    /**
+     * Creates an instance of ${generator.generated_class_name} from an already parsed header and a
+     * little-endian buffer positioned at the body. The buffer position is advanced past the body.
+     *
+     * @param header Parsed header.
+     * @param buffer Buffer to read the body from.
+     * @return Instance of ${generator.generated_class_name}.
+     */
+    public static ${generator.generated_class_name} loadFromBinary(${generator.generated_base_class_name} header, ByteBuffer buffer) {
+        return loadFromBinary(header, buffer, DecodeContext.NONE);
+    }
+
+    /**
+     * Creates an instance of ${generator.generated_class_name} from an already parsed header and a
+     * little-endian buffer positioned at the body, with a decode context. The buffer position is advanced past the body.
+     *
+     * @param header Parsed header.
+     * @param buffer Buffer to read the body from.
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of ${generator.generated_class_name}.
+     */
+    public static ${generator.generated_class_name} loadFromBinary(${generator.generated_base_class_name} header, ByteBuffer buffer,
+        DecodeContext context) {
+        return new ${generator.generated_class_name}(header, ${generator.body_class_name}Builder.loadFromBinary(buffer, context));
     }
+% endif
     <%
         constructor_params = generator.all_constructor_params
         constructor_params_CSV = ', '.join([str(a.attribute_var_type) + ' ' + str(a.attribute_name) for a in constructor_params if a.attribute_condition_value == None and not a.attribute_is_aggregate and not a.attribute_is_reserved and not a.attribute_name == 'size'])
@@ -184,12 +347,53 @@ public class ${generator.generated_class_name}${(' extends ' + str(generator.gen
     % endif
 </%def>\
 
+    /**
+     * Enables the caching of the serialized bytes of this object and of the size of this object and of its children.
+     * The children only cache their size, so the bytes are kept once, except the embedded transactions, which also
+     * keep their bytes because the transactions hash serializes them on their own.
+     * The object must not be modified afterwards, including the lists returned by its getters,
+     * and it must be published safely before being shared between threads.
+     *
+     * @return This object.
+     */
+    public ${generator.generated_class_name} enableCache() {
+        this.enableSizeCache();
+        this.bytesCacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Enables the caching of the size of this object and of its children.
+     */
+    protected void enableSizeCache() {
+% if generator.base_class_name is not None:
+        super.enableSizeCache();
+% endif
+        this.sizeCacheEnabled = true;
+% for a in [a for a in generator.attributes if not a.attribute_is_super and not a.attribute_is_inline and a.attribute_base_type == 'struct']:
+    % if a.kind == helper.AttributeKind.CUSTOM and a.attribute_is_conditional:
+        if (this.${a.attribute_name} != null) {
+            this.${a.attribute_name}.enableSizeCache();
+        }
+    % elif a.kind == helper.AttributeKind.CUSTOM:
+        this.${a.attribute_name}.enableSizeCache();
+    % elif a.kind in [helper.AttributeKind.ARRAY, helper.AttributeKind.FILL_ARRAY, helper.AttributeKind.VAR_ARRAY] and a.attribute_class_name == 'EmbeddedTransactionBuilder':
+        this.${a.attribute_name}.forEach(${a.attribute_class_name}::enableCache);
+    % elif a.kind in [helper.AttributeKind.ARRAY, helper.AttributeKind.FILL_ARRAY, helper.AttributeKind.VAR_ARRAY]:
+        this.${a.attribute_name}.forEach(${a.attribute_class_name}::enableSizeCache);
+    % endif
+% endfor
+    }
+
     /**
      * Gets the size of the object.
      *
      * @return Size in bytes.
      */
     public int getSize() {
+        if (this.cachedSize >= 0) {
+            return this.cachedSize;
+        }
         int size = ${'super.getSize()' if generator.base_class_name is not None else '0'};
 % for a in [a for a in generator.attributes if not a.attribute_is_super and not a.attribute_is_inline]:
     % if a.attribute_is_conditional:
@@ -200,6 +404,9 @@ public class ${generator.generated_class_name}${(' extends ' + str(generator.gen
         ${renderSize(a).strip()}
     % endif
 % endfor
+        if (this.sizeCacheEnabled) {
+            this.cachedSize = size;
+        }
         return size;
     }
 
@@ -228,25 +435,25 @@ public class ${generator.generated_class_name}${(' extends ' + str(generator.gen
 
 <%def name="renderSerialize(a)" filter="trim">\
     % if a.kind == helper.AttributeKind.SIMPLE and (generator.name != 'Receipt' or a.attribute_name != 'size'):
-            dataOutputStream.${helper.get_write_method_name(a.attribute_size)}(${helper.get_reverse_method_name(a.attribute_size).format('('+ a.attribute_var_type +') this.get' + helper.capitalize_first_character(a.attribute_name) + '()')});
+        buffer.${helper.get_buffer_write_method_name(a.attribute_size)}(${'('+ a.attribute_var_type +') this.get' + helper.capitalize_first_character(a.attribute_name) + '()'});
     % elif a.kind == helper.AttributeKind.BUFFER:
-            dataOutputStream.write(this.${a.attribute_name}.array(), 0, this.${a.attribute_name}.array().length);
+        buffer.put(this.${a.attribute_name}.array());
     % elif a.kind == helper.AttributeKind.SIZE_FIELD and 'disposition' in a.parent_attribute and a.parent_attribute['disposition'] == 'var':
-            dataOutputStream.${helper.get_write_method_name(a.attribute_size)}(${helper.get_reverse_method_name(a.attribute_size).format('('+ a.attribute_var_type +') GeneratorUtils.getSumSize(this.get' + helper.capitalize_first_character(a.parent_attribute['name']) + '(), ' + str(helper.resolve_alignment(a)) + ')')});
+        buffer.${helper.get_buffer_write_method_name(a.attribute_size)}(${'('+ a.attribute_var_type +') GeneratorUtils.getSumSize(this.get' + helper.capitalize_first_character(a.parent_attribute['name']) + '(), ' + str(helper.resolve_alignment(a)) + ')'});
     % elif a.kind == helper.AttributeKind.SIZE_FIELD:
-            dataOutputStream.${helper.get_write_method_name(a.attribute_size)}(${helper.get_reverse_method_name(a.attribute_size).format('('+ a.attribute_var_type +') GeneratorUtils.getSize(this.get' + helper.capitalize_first_character(a.parent_attribute['name']) + '())')});
+        buffer.${helper.get_buffer_write_method_name(a.attribute_size)}(${'('+ a.attribute_var_type +') GeneratorUtils.getSize(this.get' + helper.capitalize_first_character(a.parent_attribute['name']) + '())'});
     % elif a.kind == helper.AttributeKind.ARRAY:
-            GeneratorUtils.writeList(dataOutputStream, this.${a.attribute_name}, 0);
+        GeneratorUtils.writeList(buffer, this.${a.attribute_name}, 0);
     % elif a.kind == helper.AttributeKind.FILL_ARRAY:
-            GeneratorUtils.writeList(dataOutputStream, this.${a.attribute_name}, 0);
+        GeneratorUtils.writeList(buffer, this.${a.attribute_name}, 0);
     % elif a.kind == helper.AttributeKind.VAR_ARRAY:
-            GeneratorUtils.writeList(dataOutputStream, this.${a.attribute_name}, ${helper.resolve_alignment(a)});
+        GeneratorUtils.writeList(buffer, this.${a.attribute_name}, ${helper.resolve_alignment(a)});
     % elif a.kind == helper.AttributeKind.CUSTOM:
-            GeneratorUtils.writeEntity(dataOutputStream, this.${a.attribute_name});
+        GeneratorUtils.writeEntity(buffer, this.${a.attribute_name});
     % elif a.kind == helper.AttributeKind.FLAGS:
-            dataOutputStream.${helper.get_write_method_name(a.attribute_size)}(${helper.get_reverse_method_name(a.attribute_size).format('(' +  helper.get_builtin_type(a.attribute_size) + ') GeneratorUtils.toLong(' + a.attribute_class_name + '.class, this.' + a.attribute_name + ')')});
+        buffer.${helper.get_buffer_write_method_name(a.attribute_size)}(${'(' +  helper.get_builtin_type(a.attribute_size) + ') GeneratorUtils.toLong(' + a.attribute_class_name + '.class, this.' + a.attribute_name + ')'});
     % else:
-            // Ignored serialization: ${a.attribute_name} ${a.kind}
+        // Ignored serialization: ${a.attribute_name} ${a.kind}
     % endif
 </%def>\
     /**
@@ -255,20 +462,40 @@ public class ${generator.generated_class_name}${(' extends ' + str(generator.gen
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize((dataOutputStream) -> {
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     * The byte order of the buffer is restored afterwards.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            GeneratorUtils.serializeLittleEndian(this, buffer);
+            return;
+        }
+        final byte[] cachedBytes = this.cachedBytes;
+        if (cachedBytes != null) {
+            buffer.put(cachedBytes);
+            return;
+        }
+        final int start = buffer.position();
  % if generator.base_class_name is not None:
-            final byte[] superBytes = super.serialize();
-            dataOutputStream.write(superBytes, 0, superBytes.length);
+        super.serializeTo(buffer);
 % endif
     % for a in [a for a in generator.attributes if not a.attribute_is_super and not a.attribute_is_inline]:
         % if a.attribute_is_conditional:
-            if (this.${renderCondition(a) | trim}) {
-                ${renderSerialize(a)}
-            }
-        % else:
+        if (this.${renderCondition(a) | trim}) {
             ${renderSerialize(a)}
+        }
+        % else:
+        ${renderSerialize(a)}
         % endif
     % endfor
-        });
+        if (this.bytesCacheEnabled) {
+            this.cachedBytes = GeneratorUtils.getBytes(buffer, start, buffer.position());
+        }
     }
 }
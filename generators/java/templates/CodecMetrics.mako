@@ -0,0 +1,360 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import javax.management.ObjectName;
+
+/**
+ * {@link CodecListener} counting the entities, bytes and failures and recording the latency histograms by builder
+ * class and by entity or receipt type. The counters are striped {@link LongAdder}s, so recording never locks and
+ * scales with the number of decoding threads. The counters can be polled with {@link #getDecodeSnapshot()} and
+ * {@link #getEncodeSnapshot()} or exported through JMX with {@link #registerMBean(String)}.
+ */
+public final class CodecMetrics implements CodecListener, CodecMetricsMXBean {
+
+    /** Number of latency buckets. Bucket i counts the latencies lower than 2^i nanoseconds, the last one the rest. */
+    public static final int BUCKET_COUNT = 40;
+
+    /** Number of recent decode failures kept. */
+    private static final int RECENT_FAILURE_COUNT = 32;
+
+    /** Decoding counters by key. */
+    private final ConcurrentHashMap<String, Counters> decodeCounters = new ConcurrentHashMap<>();
+
+    /** Encoding counters by key. */
+    private final ConcurrentHashMap<String, Counters> encodeCounters = new ConcurrentHashMap<>();
+
+    /** Decode failures by type. */
+    private final ConcurrentHashMap<String, LongAdder> failureCounters = new ConcurrentHashMap<>();
+
+    /** Ring of the recent decode failures. */
+    private final AtomicReferenceArray<String> recentFailures = new AtomicReferenceArray<>(RECENT_FAILURE_COUNT);
+
+    /** Number of decode failures recorded in the ring. */
+    private final AtomicLong failureSequence = new AtomicLong();
+
+    /**
+     * Creates the metrics and installs them as the codec listener.
+     *
+     * @return The metrics.
+     */
+    public static CodecMetrics install() {
+        final CodecMetrics metrics = new CodecMetrics();
+        GeneratorUtils.setCodecListener(metrics);
+        return metrics;
+    }
+
+    /**
+     * Registers the metrics in the platform MBean server.
+     *
+     * @param name Object name, for example io.nem.symbol.catapult:type=CodecMetrics.
+     * @return The registered object name.
+     */
+    public ObjectName registerMBean(final String name) {
+        try {
+            final ObjectName objectName = new ObjectName(name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (Exception e) {
+            throw GeneratorUtils.getExceptionToPropagate(e);
+        }
+    }
+
+    @Override
+    public void onDecode(final Serializer entity, final int size, final long nanos) {
+        record(this.decodeCounters, entity.getClass().getSimpleName(), size, nanos);
+        final String type = getTypeKey(entity);
+        if (type != null) {
+            record(this.decodeCounters, type, size, nanos);
+        }
+    }
+
+    @Override
+    public void onEncode(final Serializer entity, final int size, final long nanos) {
+        record(this.encodeCounters, entity.getClass().getSimpleName(), size, nanos);
+        final String type = getTypeKey(entity);
+        if (type != null) {
+            record(this.encodeCounters, type, size, nanos);
+        }
+    }
+
+    @Override
+    public void onDecodeFailure(final Class<?> type, final long offset, final RuntimeException exception) {
+        getCounter(this.failureCounters, type.getSimpleName()).increment();
+        final long sequence = this.failureSequence.getAndIncrement();
+        this.recentFailures.set((int) (sequence % RECENT_FAILURE_COUNT),
+            type.getSimpleName() + " at offset " + offset + ": " + exception);
+    }
+
+    /**
+     * Gets a snapshot of the decoding counters.
+     *
+     * @return Snapshots by key, sorted by key.
+     */
+    public Map<String, Snapshot> getDecodeSnapshot() {
+        return snapshot(this.decodeCounters);
+    }
+
+    /**
+     * Gets a snapshot of the encoding counters.
+     *
+     * @return Snapshots by key, sorted by key.
+     */
+    public Map<String, Snapshot> getEncodeSnapshot() {
+        return snapshot(this.encodeCounters);
+    }
+
+    @Override
+    public Map<String, Long> getDecodeCounts() {
+        return map(this.getDecodeSnapshot(), Snapshot::getCount);
+    }
+
+    @Override
+    public Map<String, Long> getDecodeBytes() {
+        return map(this.getDecodeSnapshot(), Snapshot::getBytes);
+    }
+
+    @Override
+    public Map<String, Long> getDecodeP99Nanos() {
+        return map(this.getDecodeSnapshot(), snapshot -> snapshot.getPercentileNanos(0.99));
+    }
+
+    @Override
+    public Map<String, Long> getEncodeCounts() {
+        return map(this.getEncodeSnapshot(), Snapshot::getCount);
+    }
+
+    @Override
+    public Map<String, Long> getEncodeBytes() {
+        return map(this.getEncodeSnapshot(), Snapshot::getBytes);
+    }
+
+    @Override
+    public Map<String, Long> getEncodeP99Nanos() {
+        return map(this.getEncodeSnapshot(), snapshot -> snapshot.getPercentileNanos(0.99));
+    }
+
+    @Override
+    public Map<String, Long> getDecodeFailureCounts() {
+        final Map<String, Long> failures = new TreeMap<>();
+        this.failureCounters.forEach((type, counter) -> failures.put(type, counter.sum()));
+        return failures;
+    }
+
+    @Override
+    public List<String> getRecentDecodeFailures() {
+        final long end = this.failureSequence.get();
+        final List<String> failures = new ArrayList<>();
+        for (long sequence = Math.max(0, end - RECENT_FAILURE_COUNT); sequence < end; sequence++) {
+            final String failure = this.recentFailures.get((int) (sequence % RECENT_FAILURE_COUNT));
+            if (failure != null) {
+                failures.add(failure);
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public void reset() {
+        this.decodeCounters.clear();
+        this.encodeCounters.clear();
+        this.failureCounters.clear();
+        for (int i = 0; i < RECENT_FAILURE_COUNT; i++) {
+            this.recentFailures.set(i, null);
+        }
+        this.failureSequence.set(0);
+    }
+
+    /**
+     * Gets the entity or receipt type key of a decoded entity. Headers decoded on their own are not counted by type,
+     * the helpers report the complete transaction.
+     *
+     * @param entity Entity.
+     * @return Type key or null.
+     */
+    private static String getTypeKey(final Serializer entity) {
+        final Class<?> entityClass = entity.getClass();
+        if (entity instanceof TransactionBuilder && entityClass != TransactionBuilder.class) {
+            return "EntityTypeDto." + ((TransactionBuilder) entity).getType().name();
+        }
+        if (entity instanceof EmbeddedTransactionBuilder && entityClass != EmbeddedTransactionBuilder.class) {
+            return "EntityTypeDto." + ((EmbeddedTransactionBuilder) entity).getType().name();
+        }
+        if (entity instanceof ReceiptBuilder && entityClass != ReceiptBuilder.class) {
+            return "ReceiptTypeDto." + ((ReceiptBuilder) entity).getType().name();
+        }
+        return null;
+    }
+
+    private static void record(final ConcurrentHashMap<String, Counters> counters, final String key, final int size,
+        final long nanos) {
+        Counters keyCounters = counters.get(key);
+        if (keyCounters == null) {
+            keyCounters = counters.computeIfAbsent(key, k -> new Counters());
+        }
+        keyCounters.record(size, nanos);
+    }
+
+    private static LongAdder getCounter(final ConcurrentHashMap<String, LongAdder> counters, final String key) {
+        final LongAdder counter = counters.get(key);
+        return counter != null ? counter : counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    private static Map<String, Snapshot> snapshot(final ConcurrentHashMap<String, Counters> counters) {
+        final Map<String, Snapshot> snapshots = new TreeMap<>();
+        counters.forEach((key, keyCounters) -> snapshots.put(key, keyCounters.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    private static Map<String, Long> map(final Map<String, Snapshot> snapshots, final ToLongFunction<Snapshot> value) {
+        final Map<String, Long> values = new TreeMap<>();
+        snapshots.forEach((key, snapshot) -> values.put(key, value.applyAsLong(snapshot)));
+        return values;
+    }
+
+    /**
+     * Gets the latency bucket of a duration.
+     *
+     * @param nanos Duration in nanoseconds.
+     * @return Bucket index.
+     */
+    static int getBucket(final long nanos) {
+        return Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, nanos)));
+    }
+
+    /** Striped counters of one key. */
+    private static final class Counters {
+
+        /** Number of entities. */
+        private final LongAdder count = new LongAdder();
+
+        /** Number of bytes. */
+        private final LongAdder bytes = new LongAdder();
+
+        /** Total latency. */
+        private final LongAdder nanos = new LongAdder();
+
+        /** Latency histogram. */
+        private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+        /**
+         * Constructor.
+         */
+        private Counters() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                this.buckets[i] = new LongAdder();
+            }
+        }
+
+        private void record(final int size, final long nanos) {
+            this.count.increment();
+            this.bytes.add(size);
+            this.nanos.add(nanos);
+            this.buckets[getBucket(nanos)].increment();
+        }
+
+        private Snapshot snapshot() {
+            final long[] histogram = new long[BUCKET_COUNT];
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                histogram[i] = this.buckets[i].sum();
+            }
+            return new Snapshot(this.count.sum(), this.bytes.sum(), this.nanos.sum(), histogram);
+        }
+    }
+
+    /** Immutable values of the counters of one key. Concurrent updates may be partially included. */
+    public static final class Snapshot {
+
+        /** Number of entities. */
+        private final long count;
+
+        /** Number of bytes. */
+        private final long bytes;
+
+        /** Total latency. */
+        private final long totalNanos;
+
+        /** Latency histogram. */
+        private final long[] histogram;
+
+        /**
+         * Constructor.
+         *
+         * @param count Number of entities.
+         * @param bytes Number of bytes.
+         * @param totalNanos Total latency.
+         * @param histogram Latency histogram.
+         */
+        private Snapshot(final long count, final long bytes, final long totalNanos, final long[] histogram) {
+            this.count = count;
+            this.bytes = bytes;
+            this.totalNanos = totalNanos;
+            this.histogram = histogram;
+        }
+
+        /**
+         * Gets the number of entities.
+         *
+         * @return Number of entities.
+         */
+        public long getCount() {
+            return this.count;
+        }
+
+        /**
+         * Gets the number of bytes.
+         *
+         * @return Number of bytes.
+         */
+        public long getBytes() {
+            return this.bytes;
+        }
+
+        /**
+         * Gets the total latency.
+         *
+         * @return Total latency in nanoseconds.
+         */
+        public long getTotalNanos() {
+            return this.totalNanos;
+        }
+
+        /**
+         * Gets the latency histogram. Bucket i counts the latencies lower than 2^i nanoseconds and not counted by the
+         * previous buckets.
+         *
+         * @return Copy of the histogram.
+         */
+        public long[] getHistogram() {
+            return this.histogram.clone();
+        }
+
+        /**
+         * Gets a latency percentile, rounded up to the upper bound of its bucket.
+         *
+         * @param percentile Percentile between 0 and 1.
+         * @return Latency in nanoseconds or 0 if nothing has been recorded.
+         */
+        public long getPercentileNanos(final double percentile) {
+            GeneratorUtils.isTrue(percentile >= 0 && percentile <= 1, "Invalid percentile %s", percentile);
+            final long total = Arrays.stream(this.histogram).sum();
+            final long rank = (long) Math.ceil(percentile * total);
+            long cumulated = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                cumulated += this.histogram[i];
+                if (cumulated >= rank && cumulated > 0) {
+                    return i == BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << i;
+                }
+            }
+            return 0;
+        }
+    }
+}
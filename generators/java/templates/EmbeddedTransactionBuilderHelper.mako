@@ -1,19 +1,15 @@
 import java.io.DataInputStream;
-import java.io.SequenceInputStream;
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.BiFunction;
 
-/* Factory in charge of creating the right transaction builder from the streamed data. */
+/** Factory in charge of creating the right embedded transaction builder from the streamed data. */
 public class EmbeddedTransactionBuilderHelper {
 
-    /*
-    * It creates the rigth embbeded transaction builder from the stream data.
-    *
-    * @param stream the stream
-    * @return the EmbeddedTransactionBuilder subclass
-    */
-    public static EmbeddedTransactionBuilder loadFromBinary(final DataInputStream stream) {
+    /** Factories of the known embedded transaction builders keyed by entity type and version. */
+    private static final TransactionBuilderRegistry<EmbeddedTransactionBuilder> REGISTRY = new TransactionBuilderRegistry<>();
 
-        EmbeddedTransactionBuilder headerBuilder = EmbeddedTransactionBuilder.loadFromBinary(stream);
+    static {
 % for name in generator.schema:
     <%
         layout = generator.schema[name].get("layout", [{type:""}])
@@ -21,16 +17,115 @@ public class EmbeddedTransactionBuilderHelper {
         entityTypeVersion = next(iter([x for x in layout if x.get('name','') == 'version']),{}).get('value',0)
     %>\
     %if (entityTypeValue > 0 and 'Aggregate' not in name and 'Block' not in name and name.startswith('Embedded')):
-        if (headerBuilder.getType().getValue() == ${entityTypeValue} && headerBuilder.getVersion() == ${entityTypeVersion}) {
-            ${name[8:]}BodyBuilder bodyBuilder = ${name[8:]}BodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return ${name}Builder.loadFromBinary(new DataInputStream(concatenate));
-        }
+        REGISTRY.register(EntityTypeDto.${helper.create_enum_name(name)}, (byte) ${entityTypeVersion}, ${name}Builder::loadFromBinary);
     %endif
 % endfor
-        return headerBuilder;
+    }
+
+    /**
+    * Registers the factory of an embedded transaction builder, replacing any previous one for the same
+    * entity type and version. The header type is parsed into EntityTypeDto before the lookup, so
+    * only the entity types it declares can be registered, as overrides or as new versions.
+    *
+    * @param type the entity type
+    * @param version the entity version
+    * @param factory the factory creating the builder from the parsed header and the body buffer
+    */
+    public static void register(final EntityTypeDto type, final byte version,
+        final BiFunction<EmbeddedTransactionBuilder, ByteBuffer, ? extends EmbeddedTransactionBuilder> factory) {
+        GeneratorUtils.notNull(factory, "factory is null");
+        REGISTRY.register(type, version, (header, buffer, context) -> factory.apply(header, buffer));
+    }
+
+    /**
+    * Registers the factory of an embedded transaction builder that also receives the decode context,
+    * replacing any previous one for the same entity type and version. Only the entity types
+    * declared by EntityTypeDto can be registered.
+    *
+    * @param type the entity type
+    * @param version the entity version
+    * @param factory the factory creating the builder from the parsed header, the body buffer and the decode context
+    */
+    public static void register(final EntityTypeDto type, final byte version,
+        final TransactionBuilderRegistry.Factory<EmbeddedTransactionBuilder> factory) {
+        REGISTRY.register(type, version, factory);
+    }
+
+    /**
+    * It creates the right embedded transaction builder from the stream data.
+    *
+    * @param stream the stream
+    * @return the EmbeddedTransactionBuilder subclass
+    */
+    public static EmbeddedTransactionBuilder loadFromBinary(final DataInputStream stream) {
+        return GeneratorUtils.decode(EmbeddedTransactionBuilder.class, stream, EmbeddedTransactionBuilderHelper::decode);
+    }
+
+    private static EmbeddedTransactionBuilder decode(final DataInputStream stream) {
+        final EmbeddedTransactionBuilder headerBuilder = EmbeddedTransactionBuilder.loadFromBinary(stream);
+        try {
+            final byte[] body = new byte[checkBodySize(headerBuilder)];
+            stream.readFully(body);
+            final TransactionBuilderRegistry.Factory<EmbeddedTransactionBuilder> factory = REGISTRY
+                .get(headerBuilder.getType(), headerBuilder.getVersion());
+            if (factory == null) {
+                return headerBuilder;
+            }
+            return factory.create(headerBuilder, GeneratorUtils.wrap(body), DecodeContext.NONE);
+        } catch (Exception e) {
+            throw GeneratorUtils.getExceptionToPropagate(e);
+        }
+    }
+
+    /**
+    * It creates the right embedded transaction builder from a little-endian buffer. The body is read in place
+    * and never past the entity size, and the buffer is positioned at the end of the entity.
+    *
+    * @param buffer the buffer, positioned at the start of the embedded transaction
+    * @return the EmbeddedTransactionBuilder subclass
+    */
+    public static EmbeddedTransactionBuilder loadFromBinary(final ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+    * It creates the right embedded transaction builder from a little-endian buffer with a decode context. The body is
+    * read in place and never past the entity size, and the buffer is positioned at the end of the entity.
+    *
+    * @param buffer the buffer, positioned at the start of the embedded transaction
+    * @param context the context interning the DTOs and pooling the lists
+    * @return the EmbeddedTransactionBuilder subclass
+    */
+    public static EmbeddedTransactionBuilder loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return GeneratorUtils.decodeSizePrefixed(EmbeddedTransactionBuilder.class, buffer, context, true,
+            EmbeddedTransactionBuilderHelper::decode);
+    }
+
+    private static EmbeddedTransactionBuilder decode(final ByteBuffer buffer, final DecodeContext context) {
+        final EmbeddedTransactionBuilder headerBuilder = EmbeddedTransactionBuilder.loadFromBinary(buffer, context);
+        checkBodySize(headerBuilder);
+        final TransactionBuilderRegistry.Factory<EmbeddedTransactionBuilder> factory = REGISTRY
+            .get(headerBuilder.getType(), headerBuilder.getVersion());
+        if (factory == null) {
+            return headerBuilder;
+        }
+        return factory.create(headerBuilder, buffer, context);
+    }
+
+    /**
+    * Checks that the size of an embedded transaction covers its header and gets the size of its body.
+    *
+    * @param headerBuilder the parsed header
+    * @return the body size
+    */
+    private static int checkBodySize(final EmbeddedTransactionBuilder headerBuilder) {
+        final int bodySize = headerBuilder.getStreamSize() - headerBuilder.getSize();
+        if (bodySize < 0) {
+            throw GeneratorUtils.getExceptionToPropagate(new IOException("Invalid embedded transaction size "
+                + Integer.toUnsignedString(headerBuilder.getStreamSize()) + ", the header size is "
+                + headerBuilder.getSize()));
+        }
+        return bodySize;
     }
 
 }
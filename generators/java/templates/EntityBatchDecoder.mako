@@ -0,0 +1,367 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Decoder of runs of size-prefixed entities, such as the transactions of a block or the records of an archive file.
+ * Every entity starts with its size as a 32 bit little-endian integer and is followed by the padding to the alignment.
+ *
+ * The entity boundaries are first found from the size prefixes without decoding. The entities are then decoded in
+ * batches by an executor, the common fork-join pool by default, and returned in their original order. Any executor
+ * can be used, for example a virtual thread per task executor where available.
+ *
+ * In pipelined mode, a channel is read in large chunks while the previous chunks are being decoded. An entity that
+ * crosses the end of a chunk is moved to the next one and the chunk grows when an entity is larger than it. The
+ * number of chunks being decoded is bounded, so reading waits for the decoding when it gets ahead.
+ *
+ * The entity factory is called concurrently and must be thread safe, like the loadFromBinary methods. The decoder
+ * settings must not be changed while decoding.
+ *
+ * @param <T> Entity type.
+ */
+public final class EntityBatchDecoder<T extends Serializer> {
+
+    /** Size of the size prefix. */
+    private static final int SIZE_PREFIX_SIZE = 4;
+
+    /** Factory decoding one entity from a little-endian buffer holding only the entity. */
+    private final Function<ByteBuffer, ? extends T> factory;
+
+    /** Alignment of the entities. */
+    private final int alignment;
+
+    /** Executor decoding the batches. */
+    private Executor executor = ForkJoinPool.commonPool();
+
+    /** Number of entities decoded by one task. */
+    private int entitiesPerTask = 256;
+
+    /** Initial size of the chunks read from a channel. */
+    private int chunkSize = 4 << 20;
+
+    /** Maximum number of chunks being decoded while reading a channel. */
+    private int maxPendingChunks = Math.max(2, 2 * Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Constructor.
+     *
+     * @param factory Factory decoding one entity from a little-endian buffer holding only the entity.
+     * @param alignment Alignment of the entities or 0 if they are not padded.
+     */
+    public EntityBatchDecoder(final Function<ByteBuffer, ? extends T> factory, final int alignment) {
+        GeneratorUtils.notNull(factory, "factory is null");
+        GeneratorUtils.isTrue(alignment >= 0, "Invalid alignment %d", alignment);
+        this.factory = factory;
+        this.alignment = alignment;
+    }
+
+    /**
+     * Creates a decoder of transactions.
+     *
+     * @param alignment Alignment of the transactions, 8 in blocks, or 0 if they are not padded.
+     * @return The decoder.
+     */
+    public static EntityBatchDecoder<TransactionBuilder> forTransactions(final int alignment) {
+        return new EntityBatchDecoder<>(TransactionBuilderHelper::loadFromBinary, alignment);
+    }
+
+    /**
+     * Creates a decoder of embedded transactions.
+     *
+     * @param alignment Alignment of the transactions, 8 in aggregates, or 0 if they are not padded.
+     * @return The decoder.
+     */
+    public static EntityBatchDecoder<EmbeddedTransactionBuilder> forEmbeddedTransactions(final int alignment) {
+        return new EntityBatchDecoder<>(EmbeddedTransactionBuilderHelper::loadFromBinary, alignment);
+    }
+
+    /**
+     * Sets the executor decoding the batches.
+     *
+     * @param executor Executor.
+     * @return This decoder.
+     */
+    public EntityBatchDecoder<T> withExecutor(final Executor executor) {
+        GeneratorUtils.notNull(executor, "executor is null");
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Sets the number of entities decoded by one task.
+     *
+     * @param entitiesPerTask Number of entities.
+     * @return This decoder.
+     */
+    public EntityBatchDecoder<T> withEntitiesPerTask(final int entitiesPerTask) {
+        GeneratorUtils.isTrue(entitiesPerTask > 0, "Invalid entitiesPerTask %d", entitiesPerTask);
+        this.entitiesPerTask = entitiesPerTask;
+        return this;
+    }
+
+    /**
+     * Sets the initial size of the chunks read from a channel.
+     *
+     * @param chunkSize Size in bytes.
+     * @return This decoder.
+     */
+    public EntityBatchDecoder<T> withChunkSize(final int chunkSize) {
+        GeneratorUtils.isTrue(chunkSize >= SIZE_PREFIX_SIZE, "Invalid chunkSize %d", chunkSize);
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of chunks being decoded while reading a channel.
+     *
+     * @param maxPendingChunks Number of chunks.
+     * @return This decoder.
+     */
+    public EntityBatchDecoder<T> withMaxPendingChunks(final int maxPendingChunks) {
+        GeneratorUtils.isTrue(maxPendingChunks > 0, "Invalid maxPendingChunks %d", maxPendingChunks);
+        this.maxPendingChunks = maxPendingChunks;
+        return this;
+    }
+
+    /**
+     * Finds the offsets of the entities between the position and the limit of a buffer without decoding them.
+     * The buffer position is not changed.
+     *
+     * @param buffer Buffer holding the entities.
+     * @param alignment Alignment of the entities or 0 if they are not padded.
+     * @return Offset of each entity.
+     */
+    public static int[] scanOffsets(final ByteBuffer buffer, final int alignment) {
+        final ByteBuffer input = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        final Boundaries boundaries = new Boundaries();
+        final int end = scan(input, input.position(), alignment, boundaries, 0);
+        if (end < input.limit()) {
+            throw new IllegalStateException("Truncated entity at offset " + end);
+        }
+        return Arrays.copyOf(boundaries.offsets, boundaries.count);
+    }
+
+    /**
+     * Decodes the entities between the position and the limit of a buffer in parallel.
+     * The buffer position is advanced to its limit.
+     *
+     * @param buffer Buffer holding the entities.
+     * @return The entities in buffer order.
+     */
+    public List<T> decode(final ByteBuffer buffer) {
+        final ByteBuffer input = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        final Boundaries boundaries = new Boundaries();
+        final int end = scan(input, input.position(), this.alignment, boundaries, 0);
+        if (end < input.limit()) {
+            throw new IllegalStateException("Truncated entity at offset " + end);
+        }
+        final List<T> entities = join(this.submit(input, boundaries));
+        buffer.position(buffer.limit());
+        return entities;
+    }
+
+    /**
+     * Decodes all the entities of a channel in pipelined mode. The channel is read in chunks by the calling thread
+     * while the previous chunks are decoded by the executor. The consumer is called by the calling thread, in channel
+     * order.
+     *
+     * @param channel Blocking channel to read until its end.
+     * @param consumer Consumer of the entities.
+     * @return Number of entities.
+     */
+    public long decode(final ReadableByteChannel channel, final Consumer<? super T> consumer) {
+        GeneratorUtils.notNull(channel, "channel is null");
+        GeneratorUtils.notNull(consumer, "consumer is null");
+        final ArrayDeque<List<CompletableFuture<List<T>>>> pendingChunks = new ArrayDeque<>();
+        ByteBuffer chunk = GeneratorUtils.allocate(this.chunkSize);
+        long chunkOffset = 0;
+        int skip = 0;
+        long count = 0;
+        boolean endOfStream = false;
+        while (!endOfStream) {
+            endOfStream = fill(channel, chunk);
+            chunk.flip();
+            final Boundaries boundaries = new Boundaries();
+            final int start = Math.min(skip, chunk.limit());
+            final int end = scan(chunk, start, this.alignment, boundaries, chunkOffset);
+            final int next = boundaries.count == 0 ? start : boundaries.next;
+            if (endOfStream && end < chunk.limit()) {
+                throw new IllegalStateException("Truncated entity at offset " + (chunkOffset + end));
+            }
+            // The bytes after the last complete entity move to the next chunk, which grows if they fill it.
+            final int consumed = Math.min(next, chunk.limit());
+            skip = next - consumed;
+            final int remaining = chunk.limit() - consumed;
+            final ByteBuffer nextChunk = GeneratorUtils.allocate(remaining == chunk.capacity()
+                ? chunk.capacity() * 2 : Math.max(this.chunkSize, chunk.capacity()));
+            nextChunk.put(chunk.array(), consumed, remaining);
+            if (boundaries.count > 0) {
+                pendingChunks.add(this.submit(chunk, boundaries));
+                count += boundaries.count;
+            }
+            chunk = nextChunk;
+            chunkOffset += consumed;
+            while (pendingChunks.size() >= this.maxPendingChunks
+                || (endOfStream && !pendingChunks.isEmpty())) {
+                join(pendingChunks.poll()).forEach(consumer);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Submits the decoding of the entities of a buffer in batches.
+     *
+     * @param buffer Buffer holding the entities. It is not modified.
+     * @param boundaries Offsets and sizes of the entities.
+     * @return Futures of the batches, in buffer order.
+     */
+    private List<CompletableFuture<List<T>>> submit(final ByteBuffer buffer, final Boundaries boundaries) {
+        final List<CompletableFuture<List<T>>> batches = new ArrayList<>();
+        for (int first = 0; first < boundaries.count; first += this.entitiesPerTask) {
+            final int from = first;
+            final int to = Math.min(boundaries.count, first + this.entitiesPerTask);
+            batches.add(CompletableFuture.supplyAsync(() -> this.decodeBatch(buffer, boundaries, from, to),
+                this.executor));
+        }
+        return batches;
+    }
+
+    /**
+     * Decodes a batch of entities.
+     *
+     * @param buffer Buffer holding the entities.
+     * @param boundaries Offsets and sizes of the entities.
+     * @param from Index of the first entity.
+     * @param to Index after the last entity.
+     * @return The entities.
+     */
+    private List<T> decodeBatch(final ByteBuffer buffer, final Boundaries boundaries, final int from, final int to) {
+        final ByteBuffer input = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        final List<T> entities = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            final int offset = boundaries.offsets[i];
+            input.limit(offset + boundaries.sizes[i]);
+            input.position(offset);
+            entities.add(this.factory.apply(input.slice().order(ByteOrder.LITTLE_ENDIAN)));
+        }
+        return entities;
+    }
+
+    /**
+     * Waits for the batches and concatenates their entities.
+     *
+     * @param batches Futures of the batches.
+     * @param <T> Entity type.
+     * @return The entities.
+     */
+    private static <T> List<T> join(final List<CompletableFuture<List<T>>> batches) {
+        if (batches.size() == 1) {
+            return join(batches.get(0));
+        }
+        final List<T> entities = new ArrayList<>();
+        for (CompletableFuture<List<T>> batch : batches) {
+            entities.addAll(join(batch));
+        }
+        return entities;
+    }
+
+    private static <T> List<T> join(final CompletableFuture<List<T>> batch) {
+        try {
+            return batch.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Reads a channel until the chunk is full or the channel ends.
+     *
+     * @param channel Channel.
+     * @param chunk Chunk to fill.
+     * @return True if the channel has ended.
+     */
+    private static boolean fill(final ReadableByteChannel channel, final ByteBuffer chunk) {
+        try {
+            while (chunk.hasRemaining()) {
+                if (channel.read(chunk) < 0) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            throw GeneratorUtils.getExceptionToPropagate(e);
+        }
+    }
+
+    /**
+     * Finds the complete entities of a buffer from their size prefixes.
+     *
+     * @param buffer Little-endian buffer.
+     * @param start Offset of the first entity.
+     * @param alignment Alignment of the entities.
+     * @param boundaries Boundaries to append to.
+     * @param baseOffset Offset of the buffer in the stream, for the error messages.
+     * @return Offset of the first incomplete entity or the buffer limit.
+     */
+    private static int scan(final ByteBuffer buffer, final int start, final int alignment,
+        final Boundaries boundaries, final long baseOffset) {
+        final int limit = buffer.limit();
+        int offset = start;
+        while (limit - offset >= SIZE_PREFIX_SIZE) {
+            final int size = buffer.getInt(offset);
+            if (size < SIZE_PREFIX_SIZE) {
+                throw new IllegalStateException("Invalid entity size " + Integer.toUnsignedString(size)
+                    + " at offset " + (baseOffset + offset));
+            }
+            if (size > limit - offset) {
+                return offset;
+            }
+            boundaries.add(offset, size);
+            offset += size;
+            boundaries.next = offset + GeneratorUtils.getPadding(size, alignment);
+            if (boundaries.next >= limit) {
+                return limit;
+            }
+            offset = boundaries.next;
+        }
+        return offset;
+    }
+
+    /** Offsets and sizes of the entities of a buffer. */
+    private static final class Boundaries {
+
+        /** Offset of each entity. */
+        private int[] offsets = new int[64];
+
+        /** Size of each entity. */
+        private int[] sizes = new int[64];
+
+        /** Number of entities. */
+        private int count;
+
+        /** Offset after the padding of the last entity. It can exceed the buffer limit. */
+        private int next;
+
+        private void add(final int offset, final int size) {
+            if (this.count == this.offsets.length) {
+                this.offsets = Arrays.copyOf(this.offsets, this.count * 2);
+                this.sizes = Arrays.copyOf(this.sizes, this.count * 2);
+            }
+            this.offsets[this.count] = offset;
+            this.sizes[this.count] = size;
+            this.count++;
+        }
+    }
+}
@@ -1,4 +1,5 @@
 import java.io.DataInputStream;
+import java.nio.ByteBuffer;
 
 /**
 * ${helper.capitalize_first_character(generator.comments)}
@@ -30,12 +31,19 @@ public enum ${generator.generated_class_name} implements ${'BitMaskable, ' if ge
      * @return Enum value.
      */
     public static ${generator.generated_class_name} rawValueOf(final ${generator.enum_type} value) {
-        for (${generator.generated_class_name} current : ${generator.generated_class_name}.values()) {
-            if (value == current.value) {
-                return current;
-            }
+<%
+    raw_values = {}
+    for (name, (value, comment)) in generator.enum_values.items():
+        raw_values.setdefault(value, name)
+%>\
+        switch (value) {
+% for value, name in raw_values.items():
+            case (${generator.enum_type}) ${value}:
+                return ${name};
+% endfor
+            default:
+                throw new IllegalArgumentException(value + " was not a backing value for ${generator.generated_class_name}.");
         }
-        throw new IllegalArgumentException(value + " was not a backing value for ${generator.generated_class_name}.");
     }
 
     /**
@@ -81,14 +89,44 @@ public enum ${generator.generated_class_name} implements ${'BitMaskable, ' if ge
         }
     }
 
+    /**
+     * Creates an instance of ${generator.generated_class_name} from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of ${generator.generated_class_name}.
+     */
+    public static ${generator.generated_class_name} loadFromBinary(final ByteBuffer buffer) {
+        return rawValueOf(${helper.get_little_endian_read_expression(generator.size)});
+    }
+
+    /**
+     * Creates an instance of ${generator.generated_class_name} from a little-endian buffer with a decode context.
+     * Enum constants are shared, so the context is not used.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of ${generator.generated_class_name}.
+     */
+    public static ${generator.generated_class_name} loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return loadFromBinary(buffer);
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
-            dataOutputStream.${helper.get_write_method_name(generator.size)}(${helper.get_reverse_method_name(generator.size).format('this.value')});
-        });
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
+        ${helper.get_little_endian_write_expression(generator.size, 'this.value')};
     }
 }
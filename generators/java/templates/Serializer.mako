@@ -1,3 +1,5 @@
+import java.nio.ByteBuffer;
+
 /** Objects of this interface knows how to serialize a catbuffer object. */
 public interface Serializer {
 
@@ -14,4 +16,14 @@ public interface Serializer {
 	 * @return Size in bytes.
 	 */
 	int getSize();
+
+	/**
+	 * Serializes an object in little-endian into a buffer, starting at its current position.
+	 * The default implementation copies the result of {@link #serialize()}; the generated builders write in place.
+	 *
+	 * @param buffer Buffer with at least getSize() bytes remaining.
+	 */
+	default void serializeTo(ByteBuffer buffer) {
+		buffer.put(this.serialize());
+	}
 }
@@ -0,0 +1,356 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Bulk reader of a file of concatenated state records, such as a state snapshot.
+ * The file is memory mapped and indexed in a single pass with a {@link RecordSizer}, without decoding the records.
+ * The records are then decoded on demand, sequentially or in parallel, or projected to primitive columns straight
+ * from the mapped bytes. Files larger than 2GB are mapped in several segments and a record never spans two segments.
+ * The segments are unmapped by the garbage collector once the reader is unreachable.
+ *
+ * @param <T> Record type.
+ */
+public final class StateSnapshotReader<T extends Serializer> {
+
+    /** Size of the largest segment that can be mapped. */
+    public static final int MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+
+    /** Function that finds the size of a record without decoding it. */
+    @FunctionalInterface
+    public interface RecordSizer {
+
+        /**
+         * Gets the size of a record.
+         *
+         * @param buffer Little-endian buffer holding the record. Only absolute reads are allowed.
+         * @param offset Offset of the record.
+         * @return Size in bytes.
+         */
+        int getSize(ByteBuffer buffer, int offset);
+    }
+
+    /** Function that projects a record to a primitive value without decoding it. */
+    @FunctionalInterface
+    public interface RecordToLongFunction {
+
+        /**
+         * Projects a record.
+         *
+         * @param buffer Little-endian buffer holding the record. Only absolute reads are allowed.
+         * @param offset Offset of the record.
+         * @return Value of the record.
+         */
+        long applyAsLong(ByteBuffer buffer, int offset);
+    }
+
+    /** Factory that decodes one record. */
+    private final Function<ByteBuffer, T> factory;
+
+    /** Mapped segments. */
+    private final ByteBuffer[] segments;
+
+    /** File offset of each segment. */
+    private final long[] segmentOffsets;
+
+    /** Index of the first record of each segment. */
+    private final int[] segmentFirstRecords;
+
+    /** File offset of each record. */
+    private final long[] recordOffsets;
+
+    /** Number of records. */
+    private final int count;
+
+    /** Size of the file. */
+    private final long fileSize;
+
+    /**
+     * Constructor - Maps and indexes a file.
+     *
+     * @param channel Channel of the file.
+     * @param factory Factory that decodes one record.
+     * @param sizer Function that finds the size of a record.
+     * @param segmentSize Maximum size of a mapped segment.
+     * @throws IOException If the file cannot be mapped.
+     */
+    private StateSnapshotReader(final FileChannel channel, final Function<ByteBuffer, T> factory,
+        final RecordSizer sizer, final int segmentSize) throws IOException {
+        GeneratorUtils.notNull(factory, "factory is null");
+        GeneratorUtils.notNull(sizer, "sizer is null");
+        GeneratorUtils.isTrue(segmentSize > 0, "segmentSize must be positive");
+        this.factory = factory;
+        this.fileSize = channel.size();
+        final List<ByteBuffer> segments = new ArrayList<>();
+        final List<Long> segmentOffsets = new ArrayList<>();
+        final List<Integer> segmentFirstRecords = new ArrayList<>();
+        long[] recordOffsets = new long[16];
+        int count = 0;
+        long segmentOffset = 0;
+        ByteBuffer segment = null;
+        int position = 0;
+        while (segmentOffset + position < this.fileSize) {
+            if (segment == null) {
+                final long size = Math.min(segmentSize, this.fileSize - segmentOffset);
+                segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentOffset, size);
+                segment.order(ByteOrder.LITTLE_ENDIAN);
+                segments.add(segment);
+                segmentOffsets.add(segmentOffset);
+                segmentFirstRecords.add(count);
+            }
+            final int size = getRecordSize(sizer, segment, position);
+            if (size < 0) {
+                if (position == 0 || segmentOffset + segment.limit() == this.fileSize) {
+                    throw new IllegalStateException(
+                        "Truncated or invalid record at offset " + (segmentOffset + position));
+                }
+                // The record continues past the segment, so the next segment starts with it.
+                segmentOffset += position;
+                position = 0;
+                segment = null;
+                continue;
+            }
+            if (count == recordOffsets.length) {
+                recordOffsets = Arrays.copyOf(recordOffsets, count * 2);
+            }
+            recordOffsets[count++] = segmentOffset + position;
+            position += size;
+        }
+        this.segments = segments.toArray(new ByteBuffer[0]);
+        this.segmentOffsets = segmentOffsets.stream().mapToLong(Long::longValue).toArray();
+        this.segmentFirstRecords = segmentFirstRecords.stream().mapToInt(Integer::intValue).toArray();
+        this.recordOffsets = Arrays.copyOf(recordOffsets, count);
+        this.count = count;
+    }
+
+    /**
+     * Maps and indexes a file of records.
+     *
+     * @param file File to read.
+     * @param factory Factory that decodes one record from a little-endian buffer.
+     * @param sizer Function that finds the size of a record.
+     * @param <T> Record type.
+     * @return The reader.
+     */
+    public static <T extends Serializer> StateSnapshotReader<T> open(final Path file,
+        final Function<ByteBuffer, T> factory, final RecordSizer sizer) {
+        return open(file, factory, sizer, MAX_SEGMENT_SIZE);
+    }
+
+    /**
+     * Maps and indexes a file of records, mapping segments of at most segmentSize bytes.
+     *
+     * @param file File to read.
+     * @param factory Factory that decodes one record from a little-endian buffer.
+     * @param sizer Function that finds the size of a record.
+     * @param segmentSize Maximum size of a mapped segment. It must be larger than the largest record.
+     * @param <T> Record type.
+     * @return The reader.
+     */
+    public static <T extends Serializer> StateSnapshotReader<T> open(final Path file,
+        final Function<ByteBuffer, T> factory, final RecordSizer sizer, final int segmentSize) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new StateSnapshotReader<>(channel, factory, sizer, segmentSize);
+        } catch (IOException e) {
+            throw GeneratorUtils.getExceptionToPropagate(e);
+        }
+    }
+
+    /**
+     * Maps and indexes a file of account states.
+     *
+     * @param file File to read.
+     * @return The reader.
+     */
+    public static StateSnapshotReader<AccountStateBuilder> openAccountStates(final Path file) {
+        return open(file, AccountStateBuilder::loadFromBinary, StateRecordLayout::getAccountStateSize);
+    }
+
+    /**
+     * Maps and indexes a file of mosaic entries.
+     *
+     * @param file File to read.
+     * @return The reader.
+     */
+    public static StateSnapshotReader<MosaicEntryBuilder> openMosaicEntries(final Path file) {
+        return open(file, MosaicEntryBuilder::loadFromBinary, StateRecordLayout::getMosaicEntrySize);
+    }
+
+    /**
+     * Maps and indexes a file of multisig entries.
+     *
+     * @param file File to read.
+     * @return The reader.
+     */
+    public static StateSnapshotReader<MultisigEntryBuilder> openMultisigEntries(final Path file) {
+        return open(file, MultisigEntryBuilder::loadFromBinary, StateRecordLayout::getMultisigEntrySize);
+    }
+
+    /**
+     * Maps and indexes a file of root namespace histories.
+     *
+     * @param file File to read.
+     * @return The reader.
+     */
+    public static StateSnapshotReader<RootNamespaceHistoryBuilder> openRootNamespaceHistories(final Path file) {
+        return open(file, RootNamespaceHistoryBuilder::loadFromBinary, StateRecordLayout::getRootNamespaceHistorySize);
+    }
+
+    /**
+     * Maps and indexes a file of hash lock infos.
+     *
+     * @param file File to read.
+     * @return The reader.
+     */
+    public static StateSnapshotReader<HashLockInfoBuilder> openHashLockInfos(final Path file) {
+        return open(file, HashLockInfoBuilder::loadFromBinary, StateRecordLayout::getHashLockInfoSize);
+    }
+
+    /**
+     * Maps and indexes a file of secret lock infos.
+     *
+     * @param file File to read.
+     * @return The reader.
+     */
+    public static StateSnapshotReader<SecretLockInfoBuilder> openSecretLockInfos(final Path file) {
+        return open(file, SecretLockInfoBuilder::loadFromBinary, StateRecordLayout::getSecretLockInfoSize);
+    }
+
+    /**
+     * Gets the number of records.
+     *
+     * @return Number of records.
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Gets the number of mapped segments.
+     *
+     * @return Number of segments.
+     */
+    public int getSegmentCount() {
+        return this.segments.length;
+    }
+
+    /**
+     * Gets the file offset of a record.
+     *
+     * @param index Index of the record.
+     * @return Offset in the file.
+     */
+    public long getOffset(final int index) {
+        this.checkIndex(index);
+        return this.recordOffsets[index];
+    }
+
+    /**
+     * Gets the size of a record.
+     *
+     * @param index Index of the record.
+     * @return Size in bytes.
+     */
+    public int getSize(final int index) {
+        this.checkIndex(index);
+        final long end = index + 1 < this.count ? this.recordOffsets[index + 1] : this.fileSize;
+        return (int) (end - this.recordOffsets[index]);
+    }
+
+    /**
+     * Gets the bytes of a record without copying them.
+     *
+     * @param index Index of the record.
+     * @return Little-endian buffer holding only the record, positioned at its start.
+     */
+    public ByteBuffer getBuffer(final int index) {
+        final int size = this.getSize(index);
+        final int segment = this.getSegment(index);
+        final ByteBuffer buffer = this.segments[segment].duplicate();
+        final int position = (int) (this.recordOffsets[index] - this.segmentOffsets[segment]);
+        buffer.limit(position + size);
+        buffer.position(position);
+        return buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Decodes a record.
+     *
+     * @param index Index of the record.
+     * @return The record.
+     */
+    public T get(final int index) {
+        return this.factory.apply(this.getBuffer(index));
+    }
+
+    /**
+     * Creates a stream that decodes the records lazily, in file order.
+     * A parallel stream splits the records into chunks decoded by the common fork-join pool.
+     *
+     * @param parallel true for a parallel stream.
+     * @return The records.
+     */
+    public Stream<T> stream(final boolean parallel) {
+        return this.indexes(parallel).mapToObj(this::get);
+    }
+
+    /**
+     * Projects every record to a primitive value without decoding the records, for example the balance of a mosaic
+     * with {@link StateRecordLayout#getAccountStateBalance(ByteBuffer, int, long)}.
+     *
+     * @param function Function projecting a record.
+     * @param parallel true to project the records in parallel with the common fork-join pool.
+     * @return Value of each record, in file order.
+     */
+    public long[] mapToLong(final RecordToLongFunction function, final boolean parallel) {
+        final long[] column = new long[this.count];
+        this.indexes(parallel).forEach(index -> {
+            final int segment = this.getSegment(index);
+            final int position = (int) (this.recordOffsets[index] - this.segmentOffsets[segment]);
+            column[index] = function.applyAsLong(this.segments[segment], position);
+        });
+        return column;
+    }
+
+    private IntStream indexes(final boolean parallel) {
+        final IntStream indexes = IntStream.range(0, this.count);
+        return parallel ? indexes.parallel() : indexes;
+    }
+
+    private int getSegment(final int index) {
+        final int segment = Arrays.binarySearch(this.segmentFirstRecords, index);
+        return segment >= 0 ? segment : -segment - 2;
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Invalid record index " + index);
+        }
+    }
+
+    /**
+     * Gets the size of a record if it is entirely in the segment.
+     *
+     * @param sizer Function that finds the size of a record.
+     * @param segment Segment holding the start of the record.
+     * @param position Position of the record in the segment.
+     * @return Size in bytes or -1 if the record does not fit in the segment.
+     */
+    private static int getRecordSize(final RecordSizer sizer, final ByteBuffer segment, final int position) {
+        try {
+            final int size = sizer.getSize(segment, position);
+            return size > 0 && size <= segment.limit() - position ? size : -1;
+        } catch (IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+}
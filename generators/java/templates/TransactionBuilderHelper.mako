@@ -1,10 +1,56 @@
 import java.io.DataInputStream;
-import java.io.SequenceInputStream;
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.BiFunction;
 
 /** Factory in charge of creating the right transaction builder from the streamed data. */
 public class TransactionBuilderHelper {
 
+    /** Factories of the known transaction builders keyed by entity type and version. */
+    private static final TransactionBuilderRegistry<TransactionBuilder> REGISTRY = new TransactionBuilderRegistry<>();
+
+    static {
+% for name in generator.schema:
+    <%
+        layout = generator.schema[name].get("layout", [{type:""}])
+        entityTypeValue = next(iter([x for x in layout if x.get('name','') == 'entityType']),{}).get('value',0)
+        entityTypeVersion = next(iter([x for x in layout if x.get('name','') == 'version']),{}).get('value',0)
+    %>\
+    %if (entityTypeValue > 0 and 'Block' not in name and not name.startswith('Embedded')):
+        REGISTRY.register(EntityTypeDto.${helper.create_enum_name(name)}, (byte) ${entityTypeVersion}, ${name}Builder::loadFromBinary);
+    %endif
+% endfor
+    }
+
+    /**
+    * Registers the factory of a transaction builder, replacing any previous one for the same
+    * entity type and version. The header type is parsed into EntityTypeDto before the lookup, so
+    * only the entity types it declares can be registered, as overrides or as new versions.
+    *
+    * @param type the entity type
+    * @param version the entity version
+    * @param factory the factory creating the builder from the parsed header and the body buffer
+    */
+    public static void register(final EntityTypeDto type, final byte version,
+        final BiFunction<TransactionBuilder, ByteBuffer, ? extends TransactionBuilder> factory) {
+        GeneratorUtils.notNull(factory, "factory is null");
+        REGISTRY.register(type, version, (header, buffer, context) -> factory.apply(header, buffer));
+    }
+
+    /**
+    * Registers the factory of a transaction builder that also receives the decode context,
+    * replacing any previous one for the same entity type and version. Only the entity types
+    * declared by EntityTypeDto can be registered.
+    *
+    * @param type the entity type
+    * @param version the entity version
+    * @param factory the factory creating the builder from the parsed header, the body buffer and the decode context
+    */
+    public static void register(final EntityTypeDto type, final byte version,
+        final TransactionBuilderRegistry.Factory<TransactionBuilder> factory) {
+        REGISTRY.register(type, version, factory);
+    }
+
     /**
     * It creates the right transaction builder from the stream data.
     *
@@ -12,33 +58,74 @@ public class TransactionBuilderHelper {
     * @return the TransactionBuilder subclass
     */
     public static TransactionBuilder loadFromBinary(final DataInputStream stream) {
+        return GeneratorUtils.decode(TransactionBuilder.class, stream, TransactionBuilderHelper::decode);
+    }
 
-        TransactionBuilder headerBuilder = TransactionBuilder.loadFromBinary(stream);
-% for name in generator.schema:
-    <%
-        layout = generator.schema[name].get("layout", [{type:""}])
-        entityTypeValue = next(iter([x for x in layout if x.get('name','') == 'entityType']),{}).get('value',0)
-        entityTypeVersion = next(iter([x for x in layout if x.get('name','') == 'version']),{}).get('value',0)
-    %>\
-    %if (entityTypeValue > 0  and 'Aggregate' not in name and 'Block' not in name and not name.startswith('Embedded')):
-        if (headerBuilder.getType().getValue() == ${entityTypeValue} && headerBuilder.getVersion() == ${entityTypeVersion}) {
-            ${name}BodyBuilder bodyBuilder = ${name}BodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return ${name}Builder.loadFromBinary(new DataInputStream(concatenate));
+    private static TransactionBuilder decode(final DataInputStream stream) {
+        final TransactionBuilder headerBuilder = TransactionBuilder.loadFromBinary(stream);
+        try {
+            final byte[] body = new byte[checkBodySize(headerBuilder)];
+            stream.readFully(body);
+            final TransactionBuilderRegistry.Factory<TransactionBuilder> factory = REGISTRY
+                .get(headerBuilder.getType(), headerBuilder.getVersion());
+            if (factory == null) {
+                return headerBuilder;
+            }
+            return factory.create(headerBuilder, GeneratorUtils.wrap(body), DecodeContext.NONE);
+        } catch (Exception e) {
+            throw GeneratorUtils.getExceptionToPropagate(e);
         }
-    %elif (entityTypeValue > 0 and 'Block' not in name and not name.startswith('Embedded')):
-        if (headerBuilder.getType().getValue() == ${entityTypeValue} && headerBuilder.getVersion() == ${entityTypeVersion}) {
-            AggregateTransactionBodyBuilder bodyBuilder = AggregateTransactionBodyBuilder.loadFromBinary(stream);
-            SequenceInputStream concatenate = new SequenceInputStream(
-            new ByteArrayInputStream(headerBuilder.serialize()),
-            new ByteArrayInputStream(bodyBuilder.serialize()));
-            return ${name}Builder.loadFromBinary(new DataInputStream(concatenate));
+    }
+
+    /**
+    * It creates the right transaction builder from a little-endian buffer. The body is read in place
+    * and never past the entity size, and the buffer is positioned at the end of the entity.
+    *
+    * @param buffer the buffer, positioned at the start of the transaction
+    * @return the TransactionBuilder subclass
+    */
+    public static TransactionBuilder loadFromBinary(final ByteBuffer buffer) {
+        return loadFromBinary(buffer, DecodeContext.NONE);
+    }
+
+    /**
+    * It creates the right transaction builder from a little-endian buffer with a decode context. The body is
+    * read in place and never past the entity size, and the buffer is positioned at the end of the entity.
+    *
+    * @param buffer the buffer, positioned at the start of the transaction
+    * @param context the context interning the DTOs and pooling the lists
+    * @return the TransactionBuilder subclass
+    */
+    public static TransactionBuilder loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+        return GeneratorUtils.decodeSizePrefixed(TransactionBuilder.class, buffer, context, true,
+            TransactionBuilderHelper::decode);
+    }
+
+    private static TransactionBuilder decode(final ByteBuffer buffer, final DecodeContext context) {
+        final TransactionBuilder headerBuilder = TransactionBuilder.loadFromBinary(buffer, context);
+        checkBodySize(headerBuilder);
+        final TransactionBuilderRegistry.Factory<TransactionBuilder> factory = REGISTRY
+            .get(headerBuilder.getType(), headerBuilder.getVersion());
+        if (factory == null) {
+            return headerBuilder;
         }
-    %endif
-% endfor
-        return headerBuilder;
+        return factory.create(headerBuilder, buffer, context);
+    }
+
+    /**
+    * Checks that the size of a transaction covers its header and gets the size of its body.
+    *
+    * @param headerBuilder the parsed header
+    * @return the body size
+    */
+    private static int checkBodySize(final TransactionBuilder headerBuilder) {
+        final int bodySize = headerBuilder.getStreamSize() - headerBuilder.getSize();
+        if (bodySize < 0) {
+            throw GeneratorUtils.getExceptionToPropagate(new IOException("Invalid transaction size "
+                + Integer.toUnsignedString(headerBuilder.getStreamSize()) + ", the header size is "
+                + headerBuilder.getSize()));
+        }
+        return bodySize;
     }
 
 }
@@ -0,0 +1,110 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Registry of the factories that create a transaction builder from its parsed header and its body.
+ * Lookups by entity type and version are array based and do not allocate.
+ * The table is indexed by {@link EntityTypeDto}, so a factory can override a known entity type or add a new
+ * version of it. Entity types unknown to the enum fail when the header is parsed, before any lookup.
+ *
+ * @param <T> Header builder type.
+ */
+public final class TransactionBuilderRegistry<T extends Serializer> {
+
+    /**
+     * Factory that creates a transaction builder from its parsed header and its body.
+     *
+     * @param <T> Header builder type.
+     */
+    @FunctionalInterface
+    public interface Factory<T> {
+
+        /**
+         * Creates the builder.
+         *
+         * @param header Parsed header.
+         * @param buffer Little-endian buffer positioned at the body.
+         * @param context Context interning the DTOs and pooling the lists.
+         * @return The builder.
+         */
+        T create(T header, ByteBuffer buffer, DecodeContext context);
+    }
+
+    /** Number of possible entity versions. */
+    private static final int VERSION_COUNT = 256;
+
+    /** Factories indexed by entity type ordinal and version. Replaced on every registration. */
+    private volatile Factory<T>[][] factories;
+
+    /**
+     * Constructor.
+     */
+    public TransactionBuilderRegistry() {
+        this.factories = newFactoryTable(EntityTypeDto.values().length);
+    }
+
+    /**
+     * Registers the factory for a given entity type and version, replacing any previous one.
+     * The entity type must be declared by {@link EntityTypeDto}.
+     *
+     * @param type Entity type.
+     * @param version Entity version.
+     * @param factory Factory that creates the builder from the parsed header, the body buffer and the decode context.
+     */
+    public synchronized void register(final EntityTypeDto type, final byte version,
+        final Factory<T> factory) {
+        GeneratorUtils.notNull(type, "type is null");
+        GeneratorUtils.notNull(factory, "factory is null");
+        final int index = getIndex(type);
+        final Factory<T>[][] copy = this.factories.clone();
+        copy[index] = copy[index] == null ? newFactoryArray(VERSION_COUNT) : copy[index].clone();
+        copy[index][Byte.toUnsignedInt(version)] = factory;
+        this.factories = copy;
+    }
+
+    /**
+     * Gets the factory for a given entity type and version.
+     *
+     * @param type Entity type.
+     * @param version Entity version.
+     * @return The factory or null if none has been registered.
+     */
+    public Factory<T> get(final EntityTypeDto type, final byte version) {
+        final Factory<T>[] versions = this.factories[getIndex(type)];
+        return versions == null ? null : versions[Byte.toUnsignedInt(version)];
+    }
+
+    /**
+     * Creates an array of factories. Generic arrays cannot be created directly.
+     *
+     * @param length Array length.
+     * @param <T> Header builder type.
+     * @return The array.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Factory<T>[] newFactoryArray(final int length) {
+        return new Factory[length];
+    }
+
+    /**
+     * Creates a table of factories indexed by entity type ordinal, without any version array.
+     *
+     * @param length Number of entity types.
+     * @param <T> Header builder type.
+     * @return The table.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Factory<T>[][] newFactoryTable(final int length) {
+        return new Factory[length][];
+    }
+
+    /**
+     * Gets the table index of an entity type. Embedded and top level transactions share the same
+     * raw value, so both resolve to the constant returned by {@link EntityTypeDto#rawValueOf}.
+     *
+     * @param type Entity type.
+     * @return Table index.
+     */
+    private static int getIndex(final EntityTypeDto type) {
+        return EntityTypeDto.rawValueOf(type.getValue()).ordinal();
+    }
+}
@@ -60,18 +60,59 @@ public final class ${generator.generated_class_name} implements Serializer {
         return new ${generator.generated_class_name}(stream);
     }
 
+    /**
+     * Creates an instance of ${generator.generated_class_name} from a little-endian buffer.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @return Instance of ${generator.generated_class_name}.
+     */
+    public static ${generator.generated_class_name} loadFromBinary(final ByteBuffer buffer) {
+% if generator.attribute_kind == helper.AttributeKind.BUFFER:
+        return new ${generator.generated_class_name}(GeneratorUtils.readByteBuffer(buffer, ${generator.size}));
+% else:
+        return new ${generator.generated_class_name}(${helper.get_little_endian_read_expression(generator.size)});
+% endif
+    }
+
+    /**
+     * Creates an instance of ${generator.generated_class_name} from a little-endian buffer with a decode context.
+     * The instance is shared when the context interns ${generator.generated_class_name}.
+     * The buffer position is advanced past the object.
+     *
+     * @param buffer Buffer to read the object from.
+     * @param context Context interning the DTOs.
+     * @return Instance of ${generator.generated_class_name}.
+     */
+    public static ${generator.generated_class_name} loadFromBinary(final ByteBuffer buffer, final DecodeContext context) {
+% if generator.attribute_kind == helper.AttributeKind.BUFFER:
+        return context.intern(${generator.generated_class_name}.class, buffer, ${generator.size}, ${generator.generated_class_name}::new);
+% elif generator.size == 8:
+        return context.intern(${generator.generated_class_name}.class, GeneratorUtils.readLong(buffer), ${generator.generated_class_name}::new);
+% else:
+        return loadFromBinary(buffer);
+% endif
+    }
+
     /**
      * Serializes an object to bytes.
      *
      * @return Serialized bytes.
      */
     public byte[] serialize() {
-        return GeneratorUtils.serialize(dataOutputStream -> {
+        return GeneratorUtils.serialize(this);
+    }
+
+    /**
+     * Serializes an object in little-endian into a buffer, starting at its current position.
+     *
+     * @param buffer Buffer with at least getSize() bytes remaining.
+     */
+    public void serializeTo(final ByteBuffer buffer) {
 % if generator.attribute_kind == helper.AttributeKind.BUFFER:
-            dataOutputStream.write(this.${generator.attribute_name}.array(), 0, this.${generator.attribute_name}.array().length);
+        buffer.put(this.${generator.attribute_name}.array());
 % else:
-            dataOutputStream.${helper.get_write_method_name(generator.size)}(${helper.get_reverse_method_name(generator.size).format('this.get' + generator.name + '()')});
+        ${helper.get_little_endian_write_expression(generator.size, 'this.get' + generator.name + '()')};
 % endif
-        });
     }
 }
@@ -0,0 +1,272 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.EnumSet;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+* Read-only view of {@link ${generator.generated_class_name}}.
+* The attributes are decoded from the underlying buffer only when requested. The view can be pointed to another
+* object with wrap, so the same instance can scan many objects without allocating.
+**/
+public final class ${generator.view_class_name} {
+
+    /** Buffer provided by the caller. **/
+    private ByteBuffer source;
+
+    /** Little-endian buffer the attributes are read from. **/
+    private ByteBuffer buffer;
+
+    /** Offset of the object in the buffer. **/
+    private int offset;
+% if generator.is_length_bounded:
+
+    /** Offset just after the object in the buffer. **/
+    private int end;
+
+    /**
+     * Points the view to the object starting at the given offset of the buffer. The object has no size field, so its
+     * length is given by the enclosing entity. The position and limit of the buffer are not changed.
+     *
+     * @param buffer Buffer holding the serialized object.
+     * @param offset Offset of the object in the buffer.
+     * @param length Length of the object in bytes.
+     * @return This view.
+     */
+    public ${generator.view_class_name} wrap(final ByteBuffer buffer, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > buffer.limit() - length) {
+            throw new IllegalArgumentException("Invalid object [" + offset + ", " + offset + " + " + length + ")");
+        }
+        this.setBuffer(buffer);
+        this.offset = offset;
+        this.end = offset + length;
+        return this;
+    }
+% else:
+
+    /**
+     * Points the view to the object starting at the given offset of the buffer.
+     * The position and limit of the buffer are not changed.
+     *
+     * @param buffer Buffer holding the serialized object.
+     * @param offset Offset of the object in the buffer.
+     * @return This view.
+     */
+    public ${generator.view_class_name} wrap(final ByteBuffer buffer, final int offset) {
+        this.setBuffer(buffer);
+        this.offset = offset;
+        return this;
+    }
+% endif
+
+    /**
+     * Sets the buffer the attributes are read from. The little-endian copy of a buffer of another byte order is
+     * kept while the same buffer is wrapped, and its limit follows the limit of the buffer.
+     *
+     * @param buffer Buffer provided by the caller.
+     */
+    private void setBuffer(final ByteBuffer buffer) {
+        if (buffer.order() == ByteOrder.LITTLE_ENDIAN) {
+            this.buffer = buffer;
+        } else if (buffer == this.source && this.buffer != buffer) {
+            this.buffer.limit(buffer.limit());
+        } else {
+            this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        }
+        this.source = buffer;
+    }
+
+    /**
+     * Gets the offset of the object in the buffer.
+     *
+     * @return Offset in bytes.
+     */
+    public int getOffset() {
+        return this.offset;
+    }
+% for (a, offset, length) in [v for v in generator.view_attributes if not v.data.attribute_is_reserved]:
+<% name = helper.capitalize_first_character(a.attribute_name) if a.attribute_name != 'size' else 'StreamSize' %>\
+    % if a.kind == helper.AttributeKind.SIMPLE:
+
+    /**
+     * Gets ${a.attribute_comment}.
+     *
+     * @return ${helper.capitalize_first_character(a.attribute_comment)}.
+     */
+    public ${a.attribute_var_type} get${name}() {
+        return this.buffer.${helper.get_buffer_read_method_name(a.attribute_size)}(${offset});
+    }
+    % elif a.kind == helper.AttributeKind.SIZE_FIELD:
+
+    /**
+     * Gets ${a.attribute_comment}.
+     *
+     * @return ${helper.capitalize_first_character(a.attribute_comment)}.
+     */
+    public int get${name}() {
+        % if a.attribute_size < 4:
+        return GeneratorUtils.toUnsignedInt(this.buffer.${helper.get_buffer_read_method_name(a.attribute_size)}(${offset}));
+        % elif a.attribute_size == 4:
+        return this.buffer.getInt(${offset});
+        % else:
+        return (int) this.buffer.${helper.get_buffer_read_method_name(a.attribute_size)}(${offset});
+        % endif
+    }
+    % elif generator.is_primitive_type(a):
+
+    /**
+     * Gets ${a.attribute_comment}.
+     *
+     * @return ${helper.capitalize_first_character(a.attribute_comment)}.
+     */
+    public ${helper.get_builtin_type(a.attribute_size)} get${name}() {
+        return this.buffer.${helper.get_buffer_read_method_name(a.attribute_size)}(${offset});
+    }
+    % elif generator.is_buffer_type(a):
+
+    /**
+     * Gets ${a.attribute_comment}.
+     *
+     * @return ${helper.capitalize_first_character(a.attribute_comment)}.
+     */
+    public ${a.attribute_class_name} get${name}() {
+        return new ${a.attribute_class_name}(GeneratorUtils.readByteBuffer(this.buffer, ${offset}, ${a.attribute_size}));
+    }
+
+    /**
+     * Compares ${a.attribute_comment} with the given value without decoding it.
+     *
+     * @param ${a.attribute_name} Expected value.
+     * @return True if the object holds the expected value.
+     */
+    public boolean matches${name}(final ${a.attribute_class_name} ${a.attribute_name}) {
+        return GeneratorUtils.equals(this.buffer, ${offset}, ${a.attribute_name}.get${a.attribute['type']}());
+    }
+    % elif generator.is_enum_type(a):
+
+    /**
+     * Gets ${a.attribute_comment}.
+     *
+     * @return ${helper.capitalize_first_character(a.attribute_comment)}.
+     */
+    public ${a.attribute_class_name} get${name}() {
+        return ${a.attribute_class_name}.rawValueOf(this.buffer.${helper.get_buffer_read_method_name(a.attribute_size)}(${offset}));
+    }
+    % elif a.kind == helper.AttributeKind.FLAGS:
+
+    /**
+     * Gets ${a.attribute_comment}.
+     *
+     * @return ${helper.capitalize_first_character(a.attribute_comment)}.
+     */
+    public EnumSet<${a.attribute_class_name}> get${name}() {
+        return GeneratorUtils.toSet(${a.attribute_class_name}.class, this.buffer.${helper.get_buffer_read_method_name(a.attribute_size)}(${offset}));
+    }
+    % elif a.kind == helper.AttributeKind.BUFFER:
+
+    /**
+     * Gets ${a.attribute_comment}.
+     *
+     * @return ${helper.capitalize_first_character(a.attribute_comment)}.
+     */
+    public ByteBuffer get${name}() {
+        return GeneratorUtils.readByteBuffer(this.buffer, ${offset}, ${length});
+    }
+    % else:
+
+    /**
+     * Gets the offset of ${a.attribute_comment[0].lower() + a.attribute_comment[1:]}.
+     *
+     * @return Offset in bytes.
+     */
+    public int get${name}Offset() {
+        return ${offset};
+    }
+        % if generator.get_spliterator(a, offset, length) is not None:
+
+    /**
+     * Creates a spliterator that decodes ${a.attribute_comment[0].lower() + a.attribute_comment[1:]} one element at a time.
+     *
+     * @return Spliterator of ${a.attribute_class_name}.
+     */
+    public Spliterator<${a.attribute_class_name}> get${name}Spliterator() {
+        return ${generator.get_spliterator(a, offset, length)};
+    }
+
+    /**
+     * Streams ${a.attribute_comment[0].lower() + a.attribute_comment[1:]} decoding one element at a time.
+     *
+     * @param parallel True to create a parallel stream.
+     * @return Stream of ${a.attribute_class_name}.
+     */
+    public Stream<${a.attribute_class_name}> stream${name}(final boolean parallel) {
+        return StreamSupport.stream(this.get${name}Spliterator(), parallel);
+    }
+        % endif
+        % if generator.get_mosaic_count(a) is not None:
+
+    /**
+     * Appends ${a.attribute_comment[0].lower() + a.attribute_comment[1:]} to primitive columns without creating builders.
+     *
+     * @param columns Columns to append to.
+     * @return The columns.
+     */
+    public MosaicColumns read${name}(final MosaicColumns columns) {
+        return columns.readFrom(this.buffer, ${offset}, ${generator.get_mosaic_count(a)});
+    }
+        % endif
+    % endif
+% endfor
+% if generator.end_offset is not None:
+
+    /**
+     * Gets the offset ${'of the transaction body' if generator.name in ('Transaction', 'EmbeddedTransaction') else 'just after the object'}.
+     *
+     * @return Offset in bytes.
+     */
+    public int get${'Body' if generator.name in ('Transaction', 'EmbeddedTransaction') else 'End'}Offset() {
+        return ${generator.end_offset};
+    }
+% endif
+% if generator.name in ('Transaction', 'EmbeddedTransaction'):
+
+    /**
+     * Gets the size of the transaction body, to wrap the views of the bodies without a size field.
+     *
+     * @return Size in bytes.
+     */
+    public int getBodySize() {
+        return this.getStreamSize() - ${generator.fixed_size};
+    }
+% endif
+
+    /**
+     * Decodes the whole object.
+     *
+     * @return Instance of ${generator.generated_class_name}.
+     */
+    public ${generator.generated_class_name} toBuilder() {
+        final ByteBuffer buffer = this.buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+% if generator.is_length_bounded:
+        buffer.limit(this.end);
+% endif
+        buffer.position(this.offset);
+        return ${generator.builder_factory}.loadFromBinary(buffer);
+    }
+
+    /**
+     * Decodes the whole object with a decode context.
+     *
+     * @param context Context interning the DTOs and pooling the lists.
+     * @return Instance of ${generator.generated_class_name}.
+     */
+    public ${generator.generated_class_name} toBuilder(final DecodeContext context) {
+        final ByteBuffer buffer = this.buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+% if generator.is_length_bounded:
+        buffer.limit(this.end);
+% endif
+        buffer.position(this.offset);
+        return ${generator.builder_factory}.loadFromBinary(buffer, context);
+    }
+}
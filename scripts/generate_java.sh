@@ -33,6 +33,9 @@ mkdir -p "$rootDir/build/java/$ARTIFACT_NAME/src/test/resources"
 cp -r "$rootDir/test/vector" "$rootDir/build/java/$ARTIFACT_NAME/src/test/resources"
 cp "$rootDir/generators/java/VectorTest.java" "$rootDir/build/java/$ARTIFACT_NAME/src/test/java/io/nem/symbol/catapult/builders"
 
+mkdir -p "$rootDir/build/java/$ARTIFACT_NAME/src/jmh/java/io/nem/symbol/catapult/builders"
+cp "$rootDir/generators/java/jmh/"*.java "$rootDir/build/java/$ARTIFACT_NAME/src/jmh/java/io/nem/symbol/catapult/builders"
+
 
 cp "$rootDir/generators/java/build.gradle" "$rootDir/build/java/$ARTIFACT_NAME"
 cp "$rootDir/generators/java/settings.gradle" "$rootDir/build/java/$ARTIFACT_NAME"